@@ -0,0 +1,194 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm;
+
+import ru.olegcherednik.zip4jvm.engine.unzip.UnzipEngine;
+import ru.olegcherednik.zip4jvm.model.ZipModel;
+import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
+import ru.olegcherednik.zip4jvm.model.src.SrcZip;
+import ru.olegcherednik.zip4jvm.utils.PathUtils;
+import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Closeable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireNotNull;
+
+/**
+ * Cache of the shared {@link ZipFile.Reader} for the long-lived services,
+ * which read the same zip files many times. Each zip file is parsed only once
+ * and its disks are kept opened until the reader is evicted or the cache is
+ * closed. A zip file is identified by its path, last modified time and size,
+ * so the modified zip file is parsed again.
+ * <p>
+ * Readers are evicted in LRU order, when total estimated memory size of all
+ * cached models exceeds the given {@code maxMemorySize}; the size is
+ * estimated without reading the entries (see
+ * {@link ZipModel#getCentralDirectoryMemorySize()}), so the lazily read
+ * central directory is not read by the cache. The reader is shared only for
+ * the equal {@link UnzipSettings}. Retrieved readers should not be closed by
+ * the client.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+public final class UnzipCache implements Closeable {
+
+    public static final long DEFAULT_MAX_MEMORY_SIZE = 64L * 1024 * 1024;
+
+    private final long maxMemorySize;
+    private final Map<Key, UnzipEngine> readers = new LinkedHashMap<>(16, 0.75F, true);
+
+    public UnzipCache() {
+        this(DEFAULT_MAX_MEMORY_SIZE);
+    }
+
+    public UnzipCache(long maxMemorySize) {
+        this.maxMemorySize = Math.max(0, maxMemorySize);
+    }
+
+    public ZipFile.Reader open(Path zip) {
+        return open(zip, UnzipSettings.DEFAULT);
+    }
+
+    public ZipFile.Reader open(Path zip, UnzipSettings settings) {
+        requireNotNull(zip, "UnzipCache.zip");
+        return open(SrcZip.of(zip), settings);
+    }
+
+    ZipFile.Reader open(SrcZip srcZip, UnzipSettings settings) {
+        settings = Optional.ofNullable(settings).orElse(UnzipSettings.DEFAULT);
+        Key key = Key.of(srcZip.getPath(), settings);
+
+        synchronized (this) {
+            UnzipEngine reader = readers.get(key);
+
+            if (reader != null)
+                return reader;
+        }
+
+        // parse the zip file outside the lock, so other zip files are available meanwhile
+        UnzipEngine reader = new UnzipEngine(srcZip, settings, true);
+        List<UnzipEngine> evicted = new ArrayList<>();
+
+        synchronized (this) {
+            UnzipEngine cached = readers.get(key);
+
+            if (cached != null)
+                evicted.add(reader);
+            else {
+                removeObsolete(key, evicted);
+                readers.put(key, reader);
+                evict(evicted);
+                cached = reader;
+            }
+
+            reader = cached;
+        }
+
+        evicted.forEach(UnzipEngine::close);
+        return reader;
+    }
+
+    public synchronized int size() {
+        return readers.size();
+    }
+
+    /**
+     * Retrieves total estimated memory size of the cached models; it grows
+     * when the central directory of the cached reader is read.
+     *
+     * @return estimated size in bytes
+     */
+    public synchronized long getMemorySize() {
+        return readers.values().stream().mapToLong(UnzipEngine::getMemorySize).sum();
+    }
+
+    private void removeObsolete(Key key, List<UnzipEngine> evicted) {
+        Iterator<Map.Entry<Key, UnzipEngine>> it = readers.entrySet().iterator();
+
+        while (it.hasNext()) {
+            Map.Entry<Key, UnzipEngine> entry = it.next();
+
+            if (entry.getKey().isObsolete(key)) {
+                it.remove();
+                evicted.add(entry.getValue());
+            }
+        }
+    }
+
+    private void evict(List<UnzipEngine> evicted) {
+        // the estimation of each reader is changed after its entries are read, so it is calculated every time
+        long memorySize = getMemorySize();
+        Iterator<UnzipEngine> it = readers.values().iterator();
+
+        // the last used reader is never evicted
+        while (memorySize > maxMemorySize && readers.size() > 1) {
+            UnzipEngine reader = it.next();
+            it.remove();
+            memorySize -= reader.getMemorySize();
+            evicted.add(reader);
+        }
+    }
+
+    // ---------- Closeable ----------
+
+    @Override
+    public void close() {
+        List<UnzipEngine> evicted;
+
+        synchronized (this) {
+            evicted = new ArrayList<>(readers.values());
+            readers.clear();
+        }
+
+        evicted.forEach(UnzipEngine::close);
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class Key {
+
+        private final Path path;
+        private final long lastModifiedTime;
+        private final long size;
+        private final UnzipSettings settings;
+
+        static Key of(Path zip, UnzipSettings settings) {
+            Path path = zip.toAbsolutePath().normalize();
+            long lastModifiedTime = Quietly.doRuntime(() -> Files.getLastModifiedTime(path).toMillis());
+            return new Key(path, lastModifiedTime, PathUtils.size(path), settings);
+        }
+
+        /** The same zip file was read with the same settings before it has been modified. */
+        boolean isObsolete(Key key) {
+            return path.equals(key.path) && settings.equals(key.settings) && !equals(key);
+        }
+
+    }
+
+}
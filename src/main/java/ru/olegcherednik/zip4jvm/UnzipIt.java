@@ -166,4 +166,21 @@ public final class UnzipIt {
         return ZipFile.reader(srcZip, settings);
     }
 
+    /**
+     * Retrieves not {@literal null} shared instance of {@link ZipFile.Reader} from the given {@code cache}. The zip
+     * archive is parsed only once and the same reader is retrieved while the archive is not modified.
+     * <p>
+     * The reader is owned by the {@code cache} and shared between all its clients, so it must not be closed by the
+     * client (e.g. in try-with-resources), because it closes the opened disks of the zip archive for all of them; the
+     * reader is closed when it is evicted or the {@code cache} is closed.
+     *
+     * @param cache not {@literal null} cache of the readers
+     * @return not {@literal null} shared instance of {@link ZipFile.Reader}
+     */
+    // @NotNull
+    public ZipFile.Reader open(UnzipCache cache) {
+        requireNotNull(cache, "UnzipIt.cache");
+        return cache.open(srcZip, settings);
+    }
+
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm;
+
+import ru.olegcherednik.zip4jvm.engine.unzip.UnzipStreamEngine;
+import ru.olegcherednik.zip4jvm.exception.IncorrectPasswordException;
+import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
+import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireDirectory;
+import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireNotNull;
+
+/**
+ * Forward-only reader of the zip archive given as {@link InputStream} (e.g.
+ * network stream). Unlike {@link UnzipIt}, it does not require the whole zip
+ * file and does not use central directory: entries are read one by one in the
+ * order they are located in the archive. The given stream is owned by this
+ * reader and is closed on {@link #close()}.
+ *
+ * <pre>
+ * try (UnzipStream unzip = UnzipStream.of(in)) {
+ *     unzip.extract(dstDir);
+ * }
+ * </pre>
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UnzipStream implements Closeable {
+
+    private final UnzipStreamEngine engine;
+
+    /**
+     * Create {@link UnzipStream} instance with given {@code in} zip archive.
+     *
+     * @param in not {@literal null} zip archive stream; it is closed on {@link #close()}
+     * @return not {@literal null} {@link UnzipStream} instance
+     */
+    public static UnzipStream of(InputStream in) {
+        return of(in, UnzipSettings.DEFAULT);
+    }
+
+    /**
+     * Create {@link UnzipStream} instance with given {@code in} zip archive.
+     *
+     * @param in       not {@literal null} zip archive stream; it is closed on {@link #close()}
+     * @param settings custom settings; if {@literal null} then {@link UnzipSettings#DEFAULT} wil be used
+     * @return not {@literal null} {@link UnzipStream} instance
+     */
+    public static UnzipStream of(InputStream in, UnzipSettings settings) {
+        requireNotNull(in, "UnzipStream.in");
+        settings = Optional.ofNullable(settings).orElse(UnzipSettings.DEFAULT);
+        return new UnzipStream(new UnzipStreamEngine(in, settings));
+    }
+
+    /**
+     * Retrieves next entry of the archive. Data of the previous entry, which
+     * is not read yet, is skipped. The input stream of the retrieved entry is
+     * available only until this method is invoked again.
+     *
+     * @return next entry or {@literal null} when there are no more entries
+     * @throws IncorrectPasswordException in case of password incorrect
+     */
+    public ZipFile.Entry nextEntry() throws IncorrectPasswordException {
+        ZipEntry zipEntry = engine.nextZipEntry();
+        return zipEntry == null ? null : zipEntry.createImmutableEntry();
+    }
+
+    /**
+     * Extract all remaining entries into given {@code dstDir}.
+     *
+     * @param dstDir not {@literal null} destination directory
+     * @throws IncorrectPasswordException in case of password incorrect
+     */
+    public void extract(Path dstDir) throws IncorrectPasswordException {
+        requireNotNull(dstDir, "UnzipStream.dstDir");
+        requireDirectory(dstDir, "UnzipStream.dstDir");
+        engine.extract(dstDir);
+    }
+
+    // ---------- Closeable ----------
+
+    /** Closes the given zip archive stream, even if not all entries are read. */
+    @Override
+    public void close() {
+        engine.close();
+    }
+
+}
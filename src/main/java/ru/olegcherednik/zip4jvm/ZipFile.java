@@ -19,6 +19,7 @@ package ru.olegcherednik.zip4jvm;
 import ru.olegcherednik.zip4jvm.engine.info.InfoEngine;
 import ru.olegcherednik.zip4jvm.engine.unzip.UnzipEngine;
 import ru.olegcherednik.zip4jvm.engine.zip.ZipEngine;
+import ru.olegcherednik.zip4jvm.engine.zip.ZipStreamEngine;
 import ru.olegcherednik.zip4jvm.exception.EntryNotFoundException;
 import ru.olegcherednik.zip4jvm.model.CentralDirectory;
 import ru.olegcherednik.zip4jvm.model.ExternalFileAttributes;
@@ -41,6 +42,7 @@ import org.apache.commons.lang3.ArrayUtils;
 
 import java.io.Closeable;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
@@ -58,6 +60,10 @@ public final class ZipFile {
         return new ZipEngine(zip, settings);
     }
 
+    static ZipStreamEngine writer(OutputStream out, ZipSettings settings) {
+        return new ZipStreamEngine(out, settings);
+    }
+
     static Reader reader(SrcZip srcZip, UnzipSettings settings) {
         return new UnzipEngine(srcZip, settings);
     }
@@ -169,7 +175,14 @@ public final class ZipFile {
 
     }
 
-    public interface Reader extends Iterable<ZipFile.Entry> {
+    /**
+     * Only the end of the central directory is read when the reader is
+     * created; the central directory is read on the first demand and kept, so
+     * the same reader could be used many times. Methods
+     * {@link #extract(String)} and {@link #iterator()} are safe to be used
+     * concurrently.
+     */
+    public interface Reader extends Iterable<ZipFile.Entry>, Closeable {
 
         void extract(Path dstDir);
 
@@ -188,6 +201,12 @@ public final class ZipFile {
         boolean isSplit();
 
         boolean isZip64();
+
+        /** Releases the opened files of the shared reader; it is not required for the regular one. */
+        @Override
+        default void close() {
+            /* nothing to close */
+        }
     }
 
     public interface Info {
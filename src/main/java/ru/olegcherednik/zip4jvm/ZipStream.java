@@ -0,0 +1,171 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm;
+
+import ru.olegcherednik.zip4jvm.engine.zip.ZipStreamEngine;
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
+import ru.olegcherednik.zip4jvm.model.settings.ZipSettings;
+import ru.olegcherednik.zip4jvm.utils.function.InputStreamSupplier;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Closeable;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireExists;
+import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireNotNull;
+
+/**
+ * Forward-only writer of the zip archive to the given {@link OutputStream}
+ * (e.g. HTTP response or pipe). Unlike {@link ZipIt}, it does not create any
+ * temporary files and does not require random access to the destination:
+ * entries are written one by one with data descriptors and the central
+ * directory is written on {@link #close()}. Entry, which size is known
+ * before writing (e.g. regular file) and exceeds 4Gb, is written in ZIP64
+ * format automatically; otherwise ZIP64 should be set explicitly in the entry
+ * settings.
+ *
+ * <pre>
+ * try (ZipStream zip = ZipStream.of(out)) {
+ *     zip.add(dirSrc);
+ * }
+ * </pre>
+ * Split zip archive is not supported; already added entries cannot be removed.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ZipStream implements Closeable {
+
+    private final ZipStreamEngine engine;
+
+    /**
+     * Create {@link ZipStream} instance with given {@code out} destination.
+     *
+     * @param out not {@literal null} destination stream
+     * @return not {@literal null} {@link ZipStream} instance
+     */
+    public static ZipStream of(OutputStream out) {
+        return of(out, ZipSettings.DEFAULT);
+    }
+
+    /**
+     * Create {@link ZipStream} instance with given {@code out} destination.
+     *
+     * @param out      not {@literal null} destination stream
+     * @param settings custom settings; if {@literal null} then {@link ZipSettings#DEFAULT} wil be used
+     * @return not {@literal null} {@link ZipStream} instance
+     * @throws Zip4jvmException in case of split zip archive is requested
+     */
+    public static ZipStream of(OutputStream out, ZipSettings settings) {
+        requireNotNull(out, "ZipStream.out");
+        settings = Optional.ofNullable(settings).orElse(ZipSettings.DEFAULT);
+        return new ZipStream(ZipFile.writer(out, settings));
+    }
+
+    /**
+     * Add regular file or directory (keeping initial structure) to the zip archive.
+     *
+     * @param path not {@literal null} path to the regular file or directory
+     * @throws Zip4jvmException in case of any problem with file access
+     */
+    public void add(Path path) {
+        requireNotNull(path, "ZipStream.path");
+        requireExists(path);
+        engine.add(path);
+    }
+
+    /**
+     * Add regular file or directory (keeping initial structure) to the zip archive under given {@code entryName}.
+     *
+     * @param path      not {@literal null} path to the regular file or directory
+     * @param entryName not {@literal null} entryName to be used for the {@code path}
+     * @throws Zip4jvmException in case of any problem with file access
+     */
+    public void add(Path path, String entryName) {
+        requireNotNull(path, "ZipStream.path");
+        requireNotNull(entryName, "ZipStream.entryName");
+        requireExists(path);
+        engine.add(path, entryName);
+    }
+
+    /**
+     * Add regular file with content from given input stream under given {@code entryName}.
+     *
+     * @param inputStreamSupplier not {@literal null} input stream supplier
+     * @param entryName           not {@literal null} entryName to be used for the {@code inputStreamSupplier}
+     */
+    public void add(InputStreamSupplier inputStreamSupplier, String entryName) {
+        requireNotNull(inputStreamSupplier, "ZipStream.inputStreamSupplier");
+        requireNotNull(entryName, "ZipStream.entryName");
+        engine.add(inputStreamSupplier, entryName);
+    }
+
+    /**
+     * Add regular file with content from given string under given {@code entryName}.
+     *
+     * @param content   string content; if not set an empty entry will be created
+     * @param entryName not {@literal null} entryName to be used for the {@code content}
+     */
+    public void add(String content, String entryName) {
+        requireNotNull(entryName, "ZipStream.entryName");
+        engine.add(content, entryName);
+    }
+
+    /**
+     * Add regular file with content from given byte array under given {@code entryName}.
+     *
+     * @param content   byte array content; if not set or empty an empty entry will be created
+     * @param entryName not {@literal null} entryName to be used for the {@code content}
+     */
+    public void add(byte[] content, String entryName) {
+        requireNotNull(entryName, "ZipStream.entryName");
+        engine.add(content, entryName);
+    }
+
+    /**
+     * Add given {@code entry} to the zip archive.
+     *
+     * @param entry not {@literal null} entry
+     */
+    public void add(ZipFile.Entry entry) {
+        requireNotNull(entry, "ZipStream.entry");
+        engine.add(entry);
+    }
+
+    public void setComment(String comment) {
+        engine.setComment(comment);
+    }
+
+    // ---------- Closeable ----------
+
+    /**
+     * Writes central directory; the given destination stream is flushed, but not closed.
+     *
+     * @throws Zip4jvmException in case of any entry was not written completely; then the written data cannot be
+     *                          rolled back and central directory is not written, i.e. the zip archive is broken
+     */
+    @Override
+    public void close() {
+        engine.close();
+    }
+
+}
@@ -16,6 +16,7 @@
  */
 package ru.olegcherednik.zip4jvm.crypto;
 
+import ru.olegcherednik.zip4jvm.crypto.aes.WinZipAesKeyCache;
 import ru.olegcherednik.zip4jvm.io.in.DataInput;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
 
@@ -28,4 +29,12 @@ public interface DecoderFactory {
 
     Decoder createDecoder(ZipEntry zipEntry, DataInput in);
 
+    /**
+     * Creates decoder using the given cache of the derived keys of the reader;
+     * by default the cache is not used.
+     */
+    default Decoder createDecoder(ZipEntry zipEntry, DataInput in, WinZipAesKeyCache keyCache) {
+        return createDecoder(zipEntry, in);
+    }
+
 }
@@ -35,6 +35,16 @@ public interface Encoder {
      */
     void encrypt(byte b, DataOutput out);
 
+    /**
+     * Encrypt {@code len} bytes of the given {@code buf} starting from
+     * {@code offs} and write result to {@code out}. Given {@code buf} is not
+     * modified.
+     */
+    default void encrypt(byte[] buf, int offs, int len, DataOutput out) {
+        for (int i = 0; i < len; i++)
+            encrypt(buf[offs + i], out);
+    }
+
     /**
      * Write encryption header stored in {@link Encoder} to {@code out}. This
      * is optional and depending on encoder implementation.
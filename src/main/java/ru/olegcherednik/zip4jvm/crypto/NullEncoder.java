@@ -31,6 +31,11 @@ final class NullEncoder implements Encoder {
         out.write(b);
     }
 
+    @Override
+    public void encrypt(byte[] buf, int offs, int len, DataOutput out) {
+        out.write(buf, offs, len);
+    }
+
     @Override
     public void writeEncryptionHeaderWhenRequired(DataOutput out) {
         /* nothing to write */
@@ -35,12 +35,18 @@ import javax.crypto.spec.SecretKeySpec;
 public class WinZipAesCipher {
 
     private static final int BLOCK_SIZE = 16;
+    /** Max amount of the counter blocks encrypted with one {@link Cipher} invoke */
+    private static final int MAX_BLOCKS = 512;
 
     private final Cipher cipher;
     private final byte[] iv = new byte[BLOCK_SIZE];
-    private final byte[] counter = new byte[BLOCK_SIZE];
+    /** Consecutive values of the counter to be encrypted */
+    private final byte[] counters = new byte[BLOCK_SIZE * MAX_BLOCKS];
+    /** Encrypted {@link #counters}, i.e. the key stream */
+    private final byte[] keyStream = new byte[BLOCK_SIZE * MAX_BLOCKS];
 
-    private int nonce = BLOCK_SIZE;
+    private int keyStreamPos;
+    private int keyStreamSize;
 
     public static WinZipAesCipher getInstance(SecretKeySpec secretKeySpec) {
         return Quietly.doRuntime(() -> {
@@ -54,21 +60,31 @@ public class WinZipAesCipher {
     /*
      * Sun implementation (com.sun.crypto.provider.CounterMode) of 'AES/ECB/NoPadding'
      * is not compatible with WinZip specification. Have to implement custom one.
+     * Key stream for many counter blocks is generated with one Cipher invoke,
+     * so the whole array is processed at once.
      */
     public void update(byte[] buf, int offs, int len) {
-        for (int i = 0; i < len; i++)
-            buf[offs + i] = update(buf[offs + i]);
+        while (len > 0) {
+            if (keyStreamPos == keyStreamSize)
+                nextKeyStream((len + BLOCK_SIZE - 1) / BLOCK_SIZE);
+
+            int size = Math.min(len, keyStreamSize - keyStreamPos);
+
+            for (int i = 0; i < size; i++)
+                buf[offs + i] ^= keyStream[keyStreamPos + i];
+
+            keyStreamPos += size;
+            offs += size;
+            len -= size;
+        }
     }
 
     public byte update(byte b) {
-        if (nonce == iv.length) {
-            ivUpdate();
-            Quietly.doRuntime(() -> cipher.update(iv, 0, iv.length, counter));
-            nonce = 0;
-        }
+        if (keyStreamPos == keyStreamSize)
+            nextKeyStream(1);
 
-        byte res = (byte) (b ^ counter[nonce]);
-        nonce++;
+        byte res = (byte) (b ^ keyStream[keyStreamPos]);
+        keyStreamPos++;
         return res;
     }
 
@@ -76,6 +92,19 @@ public class WinZipAesCipher {
         return cipher.getBlockSize();
     }
 
+    private void nextKeyStream(int blocks) {
+        int size = Math.min(blocks, MAX_BLOCKS) * BLOCK_SIZE;
+
+        for (int offs = 0; offs < size; offs += BLOCK_SIZE) {
+            ivUpdate();
+            System.arraycopy(iv, 0, counters, offs, BLOCK_SIZE);
+        }
+
+        Quietly.doRuntime(() -> cipher.update(counters, 0, size, keyStream));
+        keyStreamPos = 0;
+        keyStreamSize = size;
+    }
+
     private void ivUpdate() {
         for (int i = 0; i < iv.length; i++) {
             iv[i]++;
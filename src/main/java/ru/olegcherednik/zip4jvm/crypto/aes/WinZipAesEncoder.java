@@ -32,10 +32,14 @@ import static ru.olegcherednik.zip4jvm.crypto.aes.factory.BaseWinZipAesFactory.M
 @RequiredArgsConstructor
 public final class WinZipAesEncoder implements Encoder {
 
+    private static final int ENCRYPTED_BUFFER_SIZE = 8 * 1024;
+
     private final byte[] salt;
     private final byte[] passwordChecksum;
     private final WinZipAesCipher cipher;
     private final Mac mac;
+    /** Encrypted part of the payload; the original buffer is not modified */
+    private final byte[] encrypted = new byte[ENCRYPTED_BUFFER_SIZE];
 
     // ---------- Encoder ----------
 
@@ -46,6 +50,20 @@ public final class WinZipAesEncoder implements Encoder {
         out.write(bb);
     }
 
+    @Override
+    public void encrypt(byte[] buf, int offs, int len, DataOutput out) {
+        while (len > 0) {
+            int size = Math.min(len, encrypted.length);
+            System.arraycopy(buf, offs, encrypted, 0, size);
+            cipher.update(encrypted, 0, size);
+            mac.update(encrypted, 0, size);
+            out.write(encrypted, 0, size);
+
+            offs += size;
+            len -= size;
+        }
+    }
+
     @Override
     public void writeEncryptionHeaderWhenRequired(DataOutput out) {
         out.writeBytes(salt);
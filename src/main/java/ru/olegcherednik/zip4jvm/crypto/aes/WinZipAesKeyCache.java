@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.crypto.aes;
+
+import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of the keys derived with PBKDF2; it is used to not derive the key
+ * again when the same entry is read many times (e.g. via long-lived reader).
+ * The cache belongs to one reader and is not used unless it is turned on with
+ * {@link ru.olegcherednik.zip4jvm.model.settings.UnzipSettings#getAesKeyCacheSize()}.
+ * <p>
+ * The password is not stored: the key is looked up by SHA-256 digest of the
+ * salt, the password and the strength. The salt and the strength are read
+ * from the zip file, so the password is the only part, which guarantees that
+ * the cached key is not retrieved for another password.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+public final class WinZipAesKeyCache {
+
+    private final int maxSize;
+    private final Map<ByteBuffer, byte[]> keys = new LinkedHashMap<>(16, 0.75F, true);
+
+    public WinZipAesKeyCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public byte[] get(byte[] salt, char[] password, AesStrength strength) {
+        ByteBuffer cacheKey = createCacheKey(salt, password, strength);
+
+        synchronized (keys) {
+            return keys.get(cacheKey);
+        }
+    }
+
+    public void put(byte[] salt, char[] password, AesStrength strength, byte[] key) {
+        ByteBuffer cacheKey = createCacheKey(salt, password, strength);
+
+        synchronized (keys) {
+            keys.put(cacheKey, key);
+            Iterator<byte[]> it = keys.values().iterator();
+
+            while (keys.size() > maxSize) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (keys) {
+            return keys.size();
+        }
+    }
+
+    private static ByteBuffer createCacheKey(byte[] salt, char[] password, AesStrength strength) {
+        return Quietly.doRuntime(() -> {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buf = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+
+            digest.update(salt);
+            digest.update(buf.duplicate());
+            digest.update((byte) strength.getCode());
+
+            // do not keep the password in memory longer than required
+            Arrays.fill(buf.array(), (byte) 0);
+            return ByteBuffer.wrap(digest.digest());
+        });
+    }
+
+}
@@ -20,6 +20,7 @@ import ru.olegcherednik.zip4jvm.crypto.DecoderFactory;
 import ru.olegcherednik.zip4jvm.crypto.aes.AesStrength;
 import ru.olegcherednik.zip4jvm.crypto.aes.WinZipAesCipher;
 import ru.olegcherednik.zip4jvm.crypto.aes.WinZipAesDecoder;
+import ru.olegcherednik.zip4jvm.crypto.aes.WinZipAesKeyCache;
 import ru.olegcherednik.zip4jvm.exception.IncorrectZipEntryPasswordException;
 import ru.olegcherednik.zip4jvm.io.in.DataInput;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
@@ -46,6 +47,11 @@ public class WinZipAesDecoderFactory extends BaseWinZipAesFactory implements Dec
 
     @Override
     public WinZipAesDecoder createDecoder(ZipEntry zipEntry, DataInput in) {
+        return createDecoder(zipEntry, in, null);
+    }
+
+    @Override
+    public WinZipAesDecoder createDecoder(ZipEntry zipEntry, DataInput in, WinZipAesKeyCache keyCache) {
         return Quietly.doRuntime(() -> {
             char[] password = zipEntry.getPassword();
             requireNotEmpty(password, zipEntry.getFileName() + ".password");
@@ -55,9 +61,8 @@ public class WinZipAesDecoderFactory extends BaseWinZipAesFactory implements Dec
             String fileName = zipEntry.getFileName();
 
             byte[] salt = Quietly.doRuntime(() -> in.readBytes(strength.getSaltSize()));
-            byte[] key = createKey(salt, password, strength);
-
-            validatePasswordChecksum(key, strength, fileName, in);
+            byte[] passwordChecksum = Quietly.doRuntime(() -> in.readBytes(PASSWORD_CHECKSUM_SIZE));
+            byte[] key = getKey(salt, passwordChecksum, password, strength, fileName, keyCache);
 
             WinZipAesCipher cipher = WinZipAesCipher.getInstance(strength.createSecretKeyForCipher(key));
             Mac mac = createMac(key, strength);
@@ -67,11 +72,36 @@ public class WinZipAesDecoderFactory extends BaseWinZipAesFactory implements Dec
         });
     }
 
+    /**
+     * PBKDF2 is expensive by design, so when the reader has a cache, then the
+     * derived key is put into it; i.e. the same entry read many times derives
+     * the key only once. The key is cached by the password as well, and the
+     * password checksum is validated even for the cached key.
+     */
+    private byte[] getKey(byte[] salt,
+                          byte[] passwordChecksum,
+                          char[] password,
+                          AesStrength strength,
+                          String fileName,
+                          WinZipAesKeyCache keyCache) {
+        byte[] key = keyCache == null ? null : keyCache.get(salt, password, strength);
+        boolean cached = key != null;
+
+        if (!cached)
+            key = createKey(salt, password, strength);
+
+        validatePasswordChecksum(key, strength, fileName, passwordChecksum);
+
+        if (keyCache != null && !cached)
+            keyCache.put(salt, password, strength, key);
+
+        return key;
+    }
+
     // ---------- static ----------
 
-    public static void validatePasswordChecksum(byte[] key, AesStrength strength, String fileName, DataInput in) {
+    public static void validatePasswordChecksum(byte[] key, AesStrength strength, String fileName, byte[] expected) {
         byte[] actual = strength.createPasswordChecksum(key);
-        byte[] expected = Quietly.doRuntime(() -> in.readBytes(PASSWORD_CHECKSUM_SIZE));
 
         if (!Objects.deepEquals(expected, actual))
             throw new IncorrectZipEntryPasswordException(fileName);
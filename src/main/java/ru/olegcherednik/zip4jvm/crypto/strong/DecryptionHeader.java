@@ -17,11 +17,11 @@
 package ru.olegcherednik.zip4jvm.crypto.strong;
 
 import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.utils.ChecksumUtils;
 import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
 
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.codec.digest.PureJavaCrc32;
 
 import java.util.Collections;
 import java.util.List;
@@ -83,7 +83,7 @@ public class DecryptionHeader {
 
     @SuppressWarnings("NewMethodNamingConvention")
     public static long getActualCrc32(byte[] passwordValidationData) {
-        Checksum crc = new PureJavaCrc32();
+        Checksum crc = ChecksumUtils.createCrc32();
         crc.update(passwordValidationData, 0, passwordValidationData.length - 4);
         return crc.getValue();
     }
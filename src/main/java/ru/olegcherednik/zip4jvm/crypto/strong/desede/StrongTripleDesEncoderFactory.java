@@ -25,11 +25,11 @@ import ru.olegcherednik.zip4jvm.crypto.strong.HashAlgorithm;
 import ru.olegcherednik.zip4jvm.crypto.strong.cipher.StrongCipherUtils;
 import ru.olegcherednik.zip4jvm.model.Encryption;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
+import ru.olegcherednik.zip4jvm.utils.ChecksumUtils;
 import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.codec.digest.PureJavaCrc32;
 
 import java.security.Key;
 import java.security.SecureRandom;
@@ -115,7 +115,7 @@ public class StrongTripleDesEncoderFactory implements EncoderFactory {
         byte[] buf = new byte[VALIDATION_DATA_SIZE];
         random.nextBytes(buf);
 
-        Checksum crc = new PureJavaCrc32();
+        Checksum crc = ChecksumUtils.createCrc32();
         crc.update(buf, 0, buf.length - 4);
         long value = crc.getValue();
 
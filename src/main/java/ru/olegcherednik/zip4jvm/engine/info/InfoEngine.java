@@ -58,6 +58,7 @@ public final class InfoEngine implements ZipFile.Info {
         ZipModelReader reader = new ZipModelReader(srcZip,
                                                    settings.getCharsetProvider(),
                                                    settings.getPasswordProvider());
+        reader.setMemoryMapped(settings.isMemoryMapped());
         reader.readCentralData();
         return reader.getCentralDirectory().getFileHeaders().stream()
                      .filter(fh -> fh.getFileName().equalsIgnoreCase(entryName))
@@ -71,6 +72,7 @@ public final class InfoEngine implements ZipFile.Info {
             BlockZipModelReader reader = new BlockZipModelReader(srcZip,
                                                                  settings.getCharsetProvider(),
                                                                  settings.getPasswordProvider());
+            reader.setMemoryMapped(settings.isMemoryMapped());
             return settings.isReadEntries() ? reader.readWithEntries() : reader.read();
         });
     }
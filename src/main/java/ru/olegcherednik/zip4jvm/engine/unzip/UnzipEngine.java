@@ -17,17 +17,20 @@
 package ru.olegcherednik.zip4jvm.engine.unzip;
 
 import ru.olegcherednik.zip4jvm.ZipFile;
+import ru.olegcherednik.zip4jvm.crypto.aes.WinZipAesKeyCache;
+import ru.olegcherednik.zip4jvm.io.in.file.FileChannelPool;
+import ru.olegcherednik.zip4jvm.io.in.file.random.MappedRandomAccessDataInput;
 import ru.olegcherednik.zip4jvm.io.in.file.random.RandomAccessDataInput;
 import ru.olegcherednik.zip4jvm.io.in.file.random.SolidRandomAccessDataInput;
 import ru.olegcherednik.zip4jvm.io.in.file.random.SplitRandomAccessDataInput;
 import ru.olegcherednik.zip4jvm.model.ZipModel;
 import ru.olegcherednik.zip4jvm.model.builders.ZipModelBuilder;
-import ru.olegcherednik.zip4jvm.model.charset.CharsetProvider;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
-import ru.olegcherednik.zip4jvm.model.password.PasswordProvider;
 import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
 import ru.olegcherednik.zip4jvm.model.src.SrcZip;
 import ru.olegcherednik.zip4jvm.utils.PathUtils;
+import ru.olegcherednik.zip4jvm.utils.ZipUtils;
+import ru.olegcherednik.zip4jvm.utils.apache.CollectionUtils;
 import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
 
 import org.apache.commons.io.FilenameUtils;
@@ -36,7 +39,15 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * @author Oleg Cherednik
@@ -44,15 +55,126 @@ import java.util.function.BiConsumer;
  */
 public class UnzipEngine implements ZipFile.Reader {
 
+    /** Max amount of the kept zip models with the entries matching file name prefixes */
+    private static final int MAX_PREFIX_ZIP_MODELS = 16;
+
+    private final SrcZip srcZip;
     private final UnzipSettings settings;
-    private final ZipModel zipModel;
-    private final RecursiveEngine recursiveEngine;
+    /** Zip model without entries, i.e. only end central directory and zip64 are read */
+    private final ZipModel headerZipModel;
+    /** Zip model with all entries; it is read on demand */
+    private volatile ZipModel zipModel;
+    /**
+     * Zip models with the entries matching file name prefixes (in LRU order);
+     * they are used until all entries are read
+     */
+    private final Map<Set<String>, ZipModel> prefixZipModels = new LinkedHashMap<>(16, 0.75F, true);
+    private final boolean keepOpen;
+    private final AtomicBoolean closed = new AtomicBoolean();
 
     public UnzipEngine(SrcZip srcZip, UnzipSettings settings) {
+        this(srcZip, settings, false);
+    }
+
+    /**
+     * @param srcZip   zip file
+     * @param settings unzip settings
+     * @param keepOpen {@literal true} to keep the disks of the zip file opened
+     *                 until {@link #close()} is invoked; it is used for the
+     *                 long-lived shared reader
+     */
+    public UnzipEngine(SrcZip srcZip, UnzipSettings settings, boolean keepOpen) {
+        this.srcZip = srcZip;
         this.settings = settings;
-        // TODO here we need a tiny part of zip (comment, slip, zip64)
-        zipModel = createZipModel(srcZip, settings);
-        recursiveEngine = new RecursiveEngine(settings.getRecursiveLevel());
+        this.keepOpen = keepOpen;
+        srcZip.getChannelPool().setMaxChannelsPerDisk(settings.getMaxOpenFilesPerDisk());
+
+        if (settings.getAesKeyCacheSize() != UnzipSettings.AES_KEY_CACHE_OFF)
+            srcZip.setAesKeyCache(new WinZipAesKeyCache(settings.getAesKeyCacheSize()));
+
+        headerZipModel = ZipModelBuilder.readWithoutEntries(srcZip, settings);
+
+        if (keepOpen)
+            srcZip.getChannelPool().open();
+    }
+
+    /**
+     * Retrieves estimated memory size of the zip model with all entries; the
+     * entries are not read for it, i.e. when they are not read yet, then the
+     * estimation is based on the size of the central directory plus the models
+     * which are read for the file name prefixes.
+     *
+     * @return estimated size in bytes
+     */
+    public long getMemorySize() {
+        ZipModel res = zipModel;
+
+        if (res != null)
+            return res.getMemorySize();
+
+        long size = headerZipModel.getMemorySize() + headerZipModel.getCentralDirectoryMemorySize();
+
+        synchronized (prefixZipModels) {
+            for (ZipModel prefixZipModel : prefixZipModels.values())
+                size += prefixZipModel.getMemorySize();
+        }
+
+        return size;
+    }
+
+    private ZipModel getZipModel() {
+        ZipModel res = zipModel;
+
+        if (res == null) {
+            synchronized (this) {
+                res = zipModel;
+
+                if (res == null) {
+                    res = createZipModel(srcZip, settings);
+                    zipModel = res;
+
+                    synchronized (prefixZipModels) {
+                        prefixZipModels.clear();
+                    }
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * When all entries are not read yet, then only the entries matching any of
+     * the given {@code fileNamePrefixes} are read. This model is kept, so the
+     * same prefixes are not read again.
+     */
+    private ZipModel getZipModel(Collection<String> fileNamePrefixes) {
+        if (zipModel != null || CollectionUtils.isEmpty(fileNamePrefixes))
+            return getZipModel();
+
+        Set<String> prefixes = getFileNamePrefixes(fileNamePrefixes);
+
+        synchronized (prefixZipModels) {
+            ZipModel res = prefixZipModels.get(prefixes);
+
+            if (res != null)
+                return res;
+        }
+
+        // read the zip file outside the lock, so other prefixes are available meanwhile
+        ZipModel res = ZipModelBuilder.read(srcZip, settings, createFileNameFilter(prefixes));
+
+        synchronized (prefixZipModels) {
+            ZipModel cached = prefixZipModels.putIfAbsent(prefixes, res);
+            Iterator<ZipModel> it = prefixZipModels.values().iterator();
+
+            while (prefixZipModels.size() > MAX_PREFIX_ZIP_MODELS) {
+                it.next();
+                it.remove();
+            }
+
+            return cached == null ? res : cached;
+        }
     }
 
     // ---------- ZipFile.Reader ----------
@@ -69,16 +191,29 @@ public class UnzipEngine implements ZipFile.Reader {
 
     @Override
     public void extract(Path dstDir, Collection<String> fileNamePrefixes) {
+        RecursiveEngine recursiveEngine = new RecursiveEngine(settings.getRecursiveLevel());
         recursiveEngine.setRootPath(dstDir);
 
-        UnzipExtractEngine unzipExtractEngine = createUnzipExtractEngine(zipModel, settings, recursiveEngine);
-        unzipExtractEngine.extractByFileNamePrefix(dstDir, fileNamePrefixes);
+        // keep opened disks until all entries are extracted
+        FileChannelPool pool = srcZip.getChannelPool().open();
+
+        try {
+            UnzipExtractEngine unzipExtractEngine = createUnzipExtractEngine(getZipModel(fileNamePrefixes),
+                                                                             settings,
+                                                                             recursiveEngine);
+            unzipExtractEngine.extractByFileNamePrefix(dstDir, fileNamePrefixes);
+        } finally {
+            pool.close();
+        }
 
         while (recursiveEngine.hasNext()) {
             SrcZip srcZip = recursiveEngine.next();
             Path path = srcZip.getPath();
             String dirName = FilenameUtils.getBaseName(path.getFileName().toString());
-            unzipExtractEngine = createUnzipExtractEngine(createZipModel(srcZip, settings), settings, recursiveEngine);
+            UnzipExtractEngine unzipExtractEngine =
+                    createUnzipExtractEngine(createZipModel(srcZip, settings, fileNamePrefixes),
+                                             settings,
+                                             recursiveEngine);
             unzipExtractEngine.extractByFileNamePrefix(path.getParent().resolve(dirName), fileNamePrefixes);
             PathUtils.deleteIfExists(srcZip);
         }
@@ -86,30 +221,37 @@ public class UnzipEngine implements ZipFile.Reader {
 
     @Override
     public ZipFile.Entry extract(String fileName) {
-        UnzipExtractEngine unzipExtractEngine = createUnzipExtractEngine(zipModel, settings, recursiveEngine);
+        RecursiveEngine recursiveEngine = new RecursiveEngine(UnzipSettings.RECURSIVE_LEVEL_OFF);
+        UnzipExtractEngine unzipExtractEngine = createUnzipExtractEngine(getZipModel(), settings, recursiveEngine);
         return unzipExtractEngine.extractByFileNameMatch(fileName);
     }
 
     @Override
     public String getComment() {
-        return zipModel.getComment();
+        return headerZipModel.getComment();
     }
 
     @Override
     public boolean isSplit() {
-        return zipModel.isSplit();
+        return headerZipModel.isSplit();
     }
 
     @Override
     public boolean isZip64() {
-        return zipModel.isZip64();
+        return headerZipModel.isZip64();
+    }
+
+    @Override
+    public void close() {
+        if (keepOpen && closed.compareAndSet(false, true))
+            srcZip.getChannelPool().close();
     }
 
     @Override
     @SuppressWarnings("PMD.UseDiamondOperator")
     public Iterator<ZipFile.Entry> iterator() {
         return new Iterator<ZipFile.Entry>() {
-            private final Iterator<ZipEntry> it = zipModel.absOffsAscIterator();
+            private final Iterator<ZipEntry> it = getZipModel().absOffsAscIterator();
 
             @Override
             public boolean hasNext() {
@@ -126,19 +268,64 @@ public class UnzipEngine implements ZipFile.Reader {
     // ---------- static ----------
 
     public static RandomAccessDataInput createRandomAccessDataInput(SrcZip srcZip) {
+        return createRandomAccessDataInput(srcZip, false);
+    }
+
+    /**
+     * Memory mapped input is used only for the solid zip file; split zip is
+     * always read via {@link SplitRandomAccessDataInput}.
+     */
+    public static RandomAccessDataInput createRandomAccessDataInput(SrcZip srcZip, boolean memoryMapped) {
+        if (srcZip.isSolid() && memoryMapped)
+            return new MappedRandomAccessDataInput(srcZip);
+
         return Quietly.doRuntime(() -> srcZip.isSolid() ? new SolidRandomAccessDataInput(srcZip)
                                                         : new SplitRandomAccessDataInput(srcZip));
     }
 
     protected static ZipModel createZipModel(SrcZip srcZip, UnzipSettings settings) {
-        CharsetProvider charsetProvider = settings.getCharsetProvider();
-        PasswordProvider passwordProvider = settings.getPasswordProvider();
-        return ZipModelBuilder.read(srcZip, charsetProvider, passwordProvider);
+        return ZipModelBuilder.read(srcZip, settings);
+    }
+
+    protected static ZipModel createZipModel(SrcZip srcZip,
+                                             UnzipSettings settings,
+                                             Collection<String> fileNamePrefixes) {
+        if (CollectionUtils.isEmpty(fileNamePrefixes))
+            return createZipModel(srcZip, settings);
+
+        return ZipModelBuilder.read(srcZip, settings, createFileNameFilter(getFileNamePrefixes(fileNamePrefixes)));
+    }
+
+    private static Set<String> getFileNamePrefixes(Collection<String> fileNamePrefixes) {
+        return fileNamePrefixes.stream()
+                               .map(ZipUtils::getFileNameNoDirectoryMarker)
+                               .collect(Collectors.toSet());
+    }
+
+    /**
+     * It's enough to check only the beginning of the file name; exact match is
+     * checked by the extract engine. Prefixes which start with another prefix
+     * are excluded, so the nearest not greater prefix is the only candidate
+     * for the file name, i.e. the check takes {@code log(n)}.
+     */
+    private static Predicate<String> createFileNameFilter(Set<String> prefixes) {
+        NavigableSet<String> shortestPrefixes = new TreeSet<>();
+
+        for (String prefix : new TreeSet<>(prefixes))
+            if (shortestPrefixes.isEmpty() || !prefix.startsWith(shortestPrefixes.last()))
+                shortestPrefixes.add(prefix);
+
+        return fileName -> {
+            String prefix = shortestPrefixes.floor(fileName);
+            return prefix != null && fileName.startsWith(prefix);
+        };
     }
 
     protected static UnzipExtractEngine createUnzipExtractEngine(ZipModel zipModel,
                                                                  UnzipSettings settings,
                                                                  BiConsumer<Path, ZipEntry> onZipEntry) {
+        if (settings.isPipeline())
+            return new UnzipExtractPipelineEngine(zipModel, settings, onZipEntry);
         if (settings.getAsyncThreads() == UnzipSettings.ASYNC_THREADS_OFF)
             return new UnzipExtractEngine(zipModel, settings, onZipEntry);
         return new UnzipExtractAsyncEngine(zipModel, settings, onZipEntry);
@@ -19,6 +19,7 @@ package ru.olegcherednik.zip4jvm.engine.unzip;
 import ru.olegcherednik.zip4jvm.model.ZipModel;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
 import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
+import ru.olegcherednik.zip4jvm.utils.ThreadUtils;
 import ru.olegcherednik.zip4jvm.utils.apache.CollectionUtils;
 import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
 import ru.olegcherednik.zip4jvm.utils.quitely.functions.RunnableWithException;
@@ -27,14 +28,12 @@ import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.ForkJoinWorkerThread;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 
 /**
@@ -49,7 +48,7 @@ public class UnzipExtractAsyncEngine extends UnzipExtractEngine {
                                    UnzipSettings settings,
                                    BiConsumer<Path, ZipEntry> onZipEntry) {
         super(zipModel, settings, onZipEntry);
-        totalThreads = getTotalThreads(settings.getAsyncThreads());
+        totalThreads = ThreadUtils.getTotalThreads(settings.getAsyncThreads());
     }
 
     // ---------- UnzipExtractEngine ----------
@@ -83,18 +82,15 @@ public class UnzipExtractAsyncEngine extends UnzipExtractEngine {
         assert CollectionUtils.isNotEmpty(prefixes);
 
         List<CompletableFuture<Void>> tasks = new LinkedList<>();
-        Iterator<ZipEntry> it = zipModel.absOffsAscIterator();
+        Map<String, String> fileNames = getFileNames(prefixes);
+        Iterator<ZipEntry> it = zipModel.absOffsAscIterator(fileNames.keySet());
         ExecutorService executor = createExecutor();
 
         try {
             while (it.hasNext()) {
                 ZipEntry zipEntry = it.next();
-                String fileName = getFileName(zipEntry, prefixes);
-
-                if (fileName != null) {
-                    Path file = dstDir.resolve(fileName);
-                    tasks.add(createCompletableFuture(() -> extractEntry(dstDir, file, zipEntry), executor));
-                }
+                Path file = dstDir.resolve(fileNames.get(zipEntry.getFileName()));
+                tasks.add(createCompletableFuture(() -> extractEntry(dstDir, file, zipEntry), executor));
             }
 
             tasks.forEach(CompletableFuture::join);
@@ -106,16 +102,7 @@ public class UnzipExtractAsyncEngine extends UnzipExtractEngine {
     // ----------
 
     private ExecutorService createExecutor() {
-        AtomicInteger counter = new AtomicInteger();
-        String format = String.format("zip4jvm-extract-%%0%dd", String.valueOf(totalThreads).length());
-
-        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
-            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
-            thread.setName(String.format(format, counter.incrementAndGet()));
-            return thread;
-        };
-
-        return new ForkJoinPool(totalThreads, factory, null, false);
+        return ThreadUtils.createExecutor("extract", totalThreads);
     }
 
     // ---------- static ----------
@@ -124,8 +111,4 @@ public class UnzipExtractAsyncEngine extends UnzipExtractEngine {
         return CompletableFuture.runAsync(() -> Quietly.doRuntime(task), executor);
     }
 
-    private static int getTotalThreads(int asyncThreads) {
-        return asyncThreads <= 0 ? Runtime.getRuntime().availableProcessors() : asyncThreads;
-    }
-
 }
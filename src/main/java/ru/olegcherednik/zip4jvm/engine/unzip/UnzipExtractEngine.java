@@ -34,12 +34,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
@@ -95,17 +98,42 @@ public class UnzipExtractEngine {
     protected void extractEntryByPrefix(Path dstDir, Set<String> prefixes) {
         assert CollectionUtils.isNotEmpty(prefixes);
 
-        Iterator<ZipEntry> it = zipModel.absOffsAscIterator();
+        Map<String, String> fileNames = getFileNames(prefixes);
+        Iterator<ZipEntry> it = zipModel.absOffsAscIterator(fileNames.keySet());
 
         while (it.hasNext()) {
             ZipEntry zipEntry = it.next();
-            String fileName = getFileName(zipEntry, prefixes);
+            Path file = dstDir.resolve(fileNames.get(zipEntry.getFileName()));
+            extractEntry(dstDir, file, zipEntry);
+        }
+    }
 
-            if (fileName != null) {
-                Path file = dstDir.resolve(fileName);
-                extractEntry(dstDir, file, zipEntry);
-            }
+    /**
+     * Finds all entries matching given {@code prefixes} using the name index
+     * of the {@link ZipModel}, i.e. not all entries are checked.
+     *
+     * @param prefixes not empty file name prefixes
+     * @return map of the entry name to the file name relative to the destination directory
+     */
+    protected Map<String, String> getFileNames(Set<String> prefixes) {
+        assert CollectionUtils.isNotEmpty(prefixes);
+
+        Map<String, String> fileNames = new HashMap<>();
+
+        for (String prefix : prefixes) {
+            String dirPrefix = prefix + PathUtils.SLASH;
+
+            for (String fileName : zipModel.getEntryNamesByPrefix(dirPrefix))
+                if (!fileName.equals(dirPrefix))
+                    fileNames.putIfAbsent(fileName, StringUtils.substring(fileName, dirPrefix.length()));
         }
+
+        // exact match of the file name has priority
+        for (String prefix : prefixes)
+            if (zipModel.hasEntry(prefix))
+                fileNames.put(prefix, FilenameUtils.getName(prefix));
+
+        return fileNames;
     }
 
     protected void extractEntry(Path dstDir, Path file, ZipEntry zipEntry) {
@@ -129,37 +157,31 @@ public class UnzipExtractEngine {
     }
 
     private void extractRegularFile(Path file, ZipEntry zipEntry) {
+        setPassword(zipEntry);
+        ZipUtils.copyLarge(zipEntry.createInputStream(), getOutputStream(file));
+    }
+
+    protected final void setPassword(ZipEntry zipEntry) {
         String fileName = ZipUtils.getFileNameNoDirectoryMarker(zipEntry.getFileName());
         zipEntry.setPassword(settings.getPasswordProvider().getFilePassword(fileName));
-        ZipUtils.copyLarge(zipEntry.createInputStream(), getOutputStream(file));
     }
 
     // ---------- static ----------
 
-    protected static String getFileName(ZipEntry zipEntry, Set<String> prefixes) {
-        assert CollectionUtils.isNotEmpty(prefixes);
-
-        String fileName = zipEntry.getFileName();
-
-        if (prefixes.contains(fileName))
-            return FilenameUtils.getName(fileName);
-
-        for (String prefix : prefixes) {
-            String dirPrefix = prefix + PathUtils.SLASH;
-
-            if (fileName.equals(dirPrefix))
-                return null;
-            if (fileName.startsWith(dirPrefix))
-                return StringUtils.substring(fileName, dirPrefix.length());
-        }
-
-        return null;
-    }
-
     private static void extractEmptyDirectory(Path dir) {
         PathUtils.createDirectories(dir);
     }
 
+    /**
+     * Writes already decompressed content of the regular file {@code in} and
+     * sets attributes of the file.
+     */
+    protected static void writeRegularFile(Path file, ZipEntry zipEntry, InputStream in) {
+        ZipUtils.copyLarge(in, getOutputStream(file));
+        setFileAttributes(file, zipEntry);
+        setFileLastModifiedTime(file, zipEntry);
+    }
+
     public static ConsecutiveAccessDataInput createConsecutiveAccessDataInput(SrcZip srcZip) {
         return srcZip.isSolid() ? new SolidConsecutiveAccessDataInput(srcZip)
                                 : new SplitConsecutiveAccessDataInput(srcZip);
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.engine.unzip;
+
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
+import ru.olegcherednik.zip4jvm.io.in.file.consecutive.ByteArrayConsecutiveAccessDataInput;
+import ru.olegcherednik.zip4jvm.io.in.file.random.RandomAccessDataInput;
+import ru.olegcherednik.zip4jvm.io.readers.LocalFileHeaderReader;
+import ru.olegcherednik.zip4jvm.model.ZipModel;
+import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
+import ru.olegcherednik.zip4jvm.model.entry.ZipEntryBuilder;
+import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
+import ru.olegcherednik.zip4jvm.utils.PathUtils;
+import ru.olegcherednik.zip4jvm.utils.ThreadUtils;
+import ru.olegcherednik.zip4jvm.utils.ZipUtils;
+import ru.olegcherednik.zip4jvm.utils.apache.CollectionUtils;
+import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.io.IOUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Extracts entries using three stages connected with bounded queues:
+ * <ul>
+ * <li><b>read</b> - reads local file header and compressed data of the
+ * entries in the offset order</li>
+ * <li><b>decompress</b> - decrypts, decompresses and checks the checksum of
+ * the entries</li>
+ * <li><b>write</b> - writes the files and sets their attributes</li>
+ * </ul>
+ * Each stage has its own amount of threads, so a huge entry occupies only one
+ * decompress thread and does not stop reading and writing other entries. When
+ * the queue is full, the previous stage waits for the next one, so only
+ * limited amount of entries is kept in memory. Data of the entry bigger than
+ * {@link #MAX_BUFFER_SIZE} is not kept in memory: such entry is read and
+ * written directly by the decompress stage.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+public class UnzipExtractPipelineEngine extends UnzipExtractEngine {
+
+    /** Max size of the compressed or decompressed data of the entry kept in the queue */
+    public static final int MAX_BUFFER_SIZE = 1024 * 1024;
+    /** Max size of the data descriptor (signature, checksum and zip64 sizes) */
+    private static final int MAX_DATA_DESCRIPTOR_SIZE = 24;
+    private static final int QUEUE_SIZE_PER_THREAD = 2;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final int readThreads;
+    private final int decompressThreads;
+    private final int writeThreads;
+
+    public UnzipExtractPipelineEngine(ZipModel zipModel,
+                                      UnzipSettings settings,
+                                      BiConsumer<Path, ZipEntry> onZipEntry) {
+        super(zipModel, settings, onZipEntry);
+        readThreads = ThreadUtils.getTotalThreads(settings.getPipelineReadThreads());
+        decompressThreads = ThreadUtils.getTotalThreads(settings.getPipelineDecompressThreads());
+        writeThreads = ThreadUtils.getTotalThreads(settings.getPipelineWriteThreads());
+    }
+
+    // ---------- UnzipExtractEngine ----------
+
+    @Override
+    protected void extractAllEntries(Path dstDir) {
+        Iterator<ZipEntry> it = zipModel.absOffsAscIterator();
+        new Pipeline(dstDir, it, zipEntry -> dstDir.resolve(zipEntry.getFileName()), onZipEntry).run();
+    }
+
+    @Override
+    protected void extractEntryByPrefix(Path dstDir, Set<String> prefixes) {
+        assert CollectionUtils.isNotEmpty(prefixes);
+
+        Map<String, String> fileNames = getFileNames(prefixes);
+        Iterator<ZipEntry> it = zipModel.absOffsAscIterator(fileNames.keySet());
+        Function<ZipEntry, Path> getFile = zipEntry -> dstDir.resolve(fileNames.get(zipEntry.getFileName()));
+        new Pipeline(dstDir, it, getFile, (dir, zipEntry) -> { }).run();
+    }
+
+    // ----------
+
+    private InputStream createInputStream(Task task) {
+        ZipEntry zipEntry = task.zipEntry;
+        setPassword(zipEntry);
+
+        if (task.compressed == null)
+            return zipEntry.createInputStream();
+
+        ByteArrayConsecutiveAccessDataInput in =
+                new ByteArrayConsecutiveAccessDataInput(task.compressed,
+                                                        zipEntry.getLocalFileHeaderAbsOffs(),
+                                                        zipModel.getByteOrder());
+        return ZipEntryBuilder.createInputStream(zipEntry,
+                                                 in,
+                                                 settings.getCharsetProvider(),
+                                                 zipModel.getSrcZip().getAesKeyCache());
+    }
+
+    /**
+     * Reads local file header, compressed data and data descriptor of the
+     * given {@code zipEntry}.
+     *
+     * @return prefetched data or {@literal null} when the entry is too big
+     */
+    private byte[] prefetch(RandomAccessDataInput in, ZipEntry zipEntry) {
+        if (zipEntry.getCompressedSize() > MAX_BUFFER_SIZE)
+            return null;
+
+        long absOffs = zipEntry.getLocalFileHeaderAbsOffs();
+        in.seek(absOffs);
+        new LocalFileHeaderReader(settings.getCharsetProvider()).read(in);
+
+        long size = in.getAbsOffs() - absOffs + zipEntry.getCompressedSize();
+        size += zipEntry.isDataDescriptorAvailable() ? MAX_DATA_DESCRIPTOR_SIZE : 0;
+        size = Math.min(size, in.getAbsOffs() - absOffs + in.available());
+
+        if (size > MAX_BUFFER_SIZE)
+            return null;
+
+        byte[] buf = new byte[(int) size];
+        in.seek(absOffs);
+
+        int offs = 0;
+
+        while (offs < buf.length) {
+            int readNow = in.read(buf, offs, buf.length - offs);
+
+            if (readNow == IOUtils.EOF)
+                throw new Zip4jvmException("Unexpected end of file");
+
+            offs += readNow;
+        }
+
+        return buf;
+    }
+
+    private static byte[] readAllBytes(InputStream in, long size) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) size);
+        ZipUtils.copyLarge(in, out);
+        return out.toByteArray();
+    }
+
+    @RequiredArgsConstructor
+    private static final class Task {
+
+        private static final Task END = new Task(null, null, false);
+
+        private final ZipEntry zipEntry;
+        private final Path file;
+        /** Only regular file is processed by the decompress stage */
+        private final boolean regularFile;
+        /** Prefetched local file header and compressed data; {@literal null} to read it from the zip file */
+        private byte[] compressed;
+        /** Decompressed data; {@literal null} when the file is already written by the decompress stage */
+        private byte[] data;
+
+    }
+
+    @RequiredArgsConstructor
+    private final class Pipeline {
+
+        private final Path dstDir;
+        private final Iterator<ZipEntry> it;
+        private final Function<ZipEntry, Path> getFile;
+        private final BiConsumer<Path, ZipEntry> onExtracted;
+
+        private final BlockingQueue<Task> decompressQueue =
+                new ArrayBlockingQueue<>(decompressThreads * QUEUE_SIZE_PER_THREAD);
+        private final BlockingQueue<Task> writeQueue = new ArrayBlockingQueue<>(writeThreads * QUEUE_SIZE_PER_THREAD);
+        private final List<ExecutorService> executors = new ArrayList<>();
+        private final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        /** The first failure of any stage; all stages are stopped then */
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        public void run() {
+            try {
+                start("extract-read", readThreads, this::read, () -> finish(decompressQueue, decompressThreads));
+                start("extract-decompress", decompressThreads, this::decompress,
+                      () -> finish(writeQueue, writeThreads));
+                start("extract-write", writeThreads, this::write, () -> { });
+                tasks.forEach(CompletableFuture::join);
+            } catch (Throwable e) {
+                // stop all stages that have been already started
+                failure.compareAndSet(null, e);
+            } finally {
+                executors.forEach(ExecutorService::shutdownNow);
+                executors.forEach(executor -> Quietly.doRuntime(() -> awaitTermination(executor)));
+            }
+
+            if (failure.get() != null)
+                throw ThreadUtils.getTaskException(failure.get());
+        }
+
+        /**
+         * Runs the {@code stage} in all {@code totalThreads} threads; the last
+         * completed thread invokes {@code onFinish}.
+         */
+        private void start(String name, int totalThreads, Runnable stage, Runnable onFinish) {
+            ExecutorService executor = ThreadUtils.createExecutor(name, totalThreads);
+            AtomicInteger activeThreads = new AtomicInteger(totalThreads);
+            executors.add(executor);
+
+            for (int i = 0; i < totalThreads; i++) {
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        runQuietly(stage);
+                    } finally {
+                        if (activeThreads.decrementAndGet() == 0)
+                            runQuietly(onFinish);
+                    }
+                }, executor));
+            }
+        }
+
+        /** Any failure of the task (including {@link Error}) is recorded, so all stages are stopped. */
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        private void runQuietly(Runnable task) {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+
+        /** Stage threads check the failure at least each {@link #POLL_TIMEOUT_MILLIS}, so they stop shortly. */
+        private void awaitTermination(ExecutorService executor) throws InterruptedException {
+            boolean terminated = false;
+
+            while (!terminated)
+                terminated = executor.awaitTermination(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        // ---------- stages ----------
+
+        private void read() {
+            try (RandomAccessDataInput in = UnzipEngine.createRandomAccessDataInput(zipModel.getSrcZip(),
+                                                                                   settings.isMemoryMapped())) {
+                for (ZipEntry zipEntry = nextZipEntry(); zipEntry != null; zipEntry = nextZipEntry()) {
+                    Path file = getFile.apply(zipEntry);
+                    boolean regularFile = zipEntry.isRegularFile() && !zipEntry.isSymlink()
+                            && PathUtils.isUnder(dstDir, file);
+                    Task task = new Task(zipEntry, file, regularFile);
+
+                    if (regularFile)
+                        task.compressed = prefetch(in, zipEntry);
+
+                    put(decompressQueue, task);
+                }
+            }
+        }
+
+        private void decompress() {
+            for (Task task = take(decompressQueue); task != Task.END; task = take(decompressQueue)) {
+                if (task.regularFile) {
+                    InputStream in = createInputStream(task);
+                    long size = task.zipEntry.getUncompressedSize();
+
+                    if (size >= 0 && size <= MAX_BUFFER_SIZE)
+                        task.data = readAllBytes(in, size);
+                    else
+                        writeRegularFile(task.file, task.zipEntry, in);
+
+                    task.compressed = null;
+                }
+
+                put(writeQueue, task);
+            }
+        }
+
+        private void write() {
+            for (Task task = take(writeQueue); task != Task.END; task = take(writeQueue)) {
+                if (task.data != null)
+                    writeRegularFile(task.file, task.zipEntry, new ByteArrayInputStream(task.data));
+                else if (!task.regularFile)
+                    extractEntry(dstDir, task.file, task.zipEntry);
+
+                onExtracted.accept(dstDir, task.zipEntry);
+            }
+        }
+
+        // ---------- queues ----------
+
+        private ZipEntry nextZipEntry() {
+            checkNotFailed();
+
+            synchronized (it) {
+                return it.hasNext() ? it.next() : null;
+            }
+        }
+
+        private void put(BlockingQueue<Task> queue, Task task) {
+            boolean added = false;
+
+            while (!added) {
+                checkNotFailed();
+                added = Quietly.doRuntime(() -> queue.offer(task, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            }
+        }
+
+        private Task take(BlockingQueue<Task> queue) {
+            Task task = null;
+
+            while (task == null) {
+                checkNotFailed();
+                task = Quietly.doRuntime(() -> queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            }
+
+            return task;
+        }
+
+        /** Notifies all threads of the next stage that there are no more tasks. */
+        private void finish(BlockingQueue<Task> queue, int totalThreads) {
+            if (failure.get() == null)
+                for (int i = 0; i < totalThreads; i++)
+                    put(queue, Task.END);
+        }
+
+        /** Stops the current stage, when any stage is failed; the failure itself is rethrown by {@link #run()}. */
+        private void checkNotFailed() {
+            if (failure.get() != null)
+                throw new CancellationException();
+        }
+
+    }
+
+}
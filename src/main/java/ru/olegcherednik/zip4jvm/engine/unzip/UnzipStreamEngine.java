@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.engine.unzip;
+
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
+import ru.olegcherednik.zip4jvm.io.in.DataInput;
+import ru.olegcherednik.zip4jvm.io.in.ReadBufferInputStream;
+import ru.olegcherednik.zip4jvm.io.in.compressed.StreamDeflateDataInput;
+import ru.olegcherednik.zip4jvm.io.in.decorators.BoundDataInput;
+import ru.olegcherednik.zip4jvm.io.in.decorators.ChecksumCheckDataInput;
+import ru.olegcherednik.zip4jvm.io.in.decorators.SizeCheckDataInput;
+import ru.olegcherednik.zip4jvm.io.in.encrypted.EncryptedDataInput;
+import ru.olegcherednik.zip4jvm.io.in.file.consecutive.StreamConsecutiveAccessDataInput;
+import ru.olegcherednik.zip4jvm.io.readers.DataDescriptorReader;
+import ru.olegcherednik.zip4jvm.io.readers.LocalFileHeaderReader;
+import ru.olegcherednik.zip4jvm.model.Compression;
+import ru.olegcherednik.zip4jvm.model.DataDescriptor;
+import ru.olegcherednik.zip4jvm.model.LocalFileHeader;
+import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
+import ru.olegcherednik.zip4jvm.model.entry.ZipEntryBuilder;
+import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
+import ru.olegcherednik.zip4jvm.utils.ZipUtils;
+import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Reads zip file from the {@link InputStream} from the beginning to the end
+ * using only {@link LocalFileHeader} of each entry, i.e. central directory is
+ * not used at all. It allows extracting entries of the zip file which is not
+ * completely received yet.
+ * <p>
+ * Entry with unknown compressed size (i.e. sizes are in the data descriptor)
+ * is supported only when it is not encrypted and compressed with
+ * {@link Compression#DEFLATE}: the end of such entry is detected by the
+ * decompressor.
+ * <p>
+ * The given {@link InputStream} is owned by this engine and is closed on
+ * {@link #close()}.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+public class UnzipStreamEngine extends UnzipExtractEngine implements Closeable {
+
+    private final InputStream is;
+    private final StreamConsecutiveAccessDataInput in;
+
+    private ZipEntry zipEntry;
+    /** absolute offset of the end of the current entry's data or {@code -1} when it is unknown */
+    private long dataEndAbsOffs;
+    /** data of the current entry with all decorators; it is created on demand */
+    private DataInput dataIn;
+    private boolean dataEnd;
+    private boolean finished;
+
+    public UnzipStreamEngine(InputStream is, UnzipSettings settings) {
+        // there is no zip model in the stream mode, entries are extracted one by one
+        super(null, settings, (dir, entry) -> { });
+        this.is = is;
+        in = new StreamConsecutiveAccessDataInput(is);
+    }
+
+    /**
+     * Extracts all entries to the given {@code dstDir} one by one.
+     *
+     * @param dstDir destination directory
+     */
+    public void extract(Path dstDir) {
+        for (ZipEntry entry = nextZipEntry(); entry != null; entry = nextZipEntry())
+            extractEntry(dstDir, dstDir.resolve(entry.getFileName()), entry);
+    }
+
+    /**
+     * Moves to the next entry; not read data of the current entry is skipped.
+     * The data of the retrieved entry could be read only once and only until
+     * this method is invoked again.
+     *
+     * @return next entry or {@literal null} when there are no more entries
+     */
+    public ZipEntry nextZipEntry() {
+        if (finished)
+            return null;
+
+        skipCurrentEntry();
+
+        if (in.peekDwordSignature() != LocalFileHeader.SIGNATURE) {
+            // central directory or end of the stream
+            finished = true;
+            zipEntry = null;
+            return null;
+        }
+
+        long absOffs = in.getAbsOffs();
+        LocalFileHeader localFileHeader = new LocalFileHeaderReader(settings.getCharsetProvider()).read(in);
+
+        zipEntry = ZipEntryBuilder.build(localFileHeader, absOffs);
+        zipEntry.setInputStreamSupplier(this::createInputStream);
+        dataEndAbsOffs = isSizeKnown(zipEntry) ? in.getAbsOffs() + zipEntry.getCompressedSize() : -1;
+        dataIn = null;
+        dataEnd = false;
+
+        if (dataEndAbsOffs < 0 && (zipEntry.isEncrypted() || zipEntry.getCompression() != Compression.DEFLATE))
+            throw new Zip4jvmException("Entry size is unknown, it could not be read from the stream: "
+                                               + zipEntry.getFileName());
+
+        return zipEntry;
+    }
+
+    private InputStream createInputStream() {
+        if (dataIn != null)
+            throw new Zip4jvmException("Entry data could be read only once: " + zipEntry.getFileName());
+
+        String fileName = ZipUtils.getFileNameNoDirectoryMarker(zipEntry.getFileName());
+        zipEntry.setPassword(settings.getPasswordProvider().getFilePassword(fileName));
+        dataIn = createDataInput();
+        return ReadBufferInputStream.create(dataIn);
+    }
+
+    private DataInput createDataInput() {
+        DataInput res;
+
+        if (dataEndAbsOffs < 0)
+            res = StreamDeflateDataInput.create(in, this::readDataDescriptor);
+        else {
+            res = BoundDataInput.create(zipEntry.getCompressedSize(), in);
+            res = EncryptedDataInput.create(zipEntry.createDecoder(res, null), res);
+            res = zipEntry.getCompression().addCompressionDecorator(res);
+        }
+
+        res = SizeCheckDataInput.uncompressedSize(zipEntry, res);
+        return ChecksumCheckDataInput.checksum(zipEntry, res);
+    }
+
+    private void skipCurrentEntry() {
+        if (zipEntry == null)
+            return;
+
+        if (dataEndAbsOffs >= 0) {
+            in.seekForward(dataEndAbsOffs);
+
+            if (zipEntry.isDataDescriptorAvailable())
+                readDataDescriptor();
+        } else {
+            if (dataIn == null)
+                dataIn = createDataInput();
+
+            // the end of the data is known only after decompression
+            byte[] buf = new byte[IOUtils.DEFAULT_BUFFER_SIZE];
+
+            while (!dataEnd)
+                if (dataIn.read(buf, 0, buf.length) == IOUtils.EOF)
+                    break;
+        }
+    }
+
+    private void readDataDescriptor() {
+        // data descriptor signature is optional
+        boolean signature = in.peekDwordSignature() == DataDescriptor.SIGNATURE;
+        DataDescriptor dataDescriptor = DataDescriptorReader.get(zipEntry.isZip64(), signature).read(in);
+
+        if (dataEndAbsOffs < 0) {
+            zipEntry.setCrc32(dataDescriptor.getCrc32());
+            zipEntry.setCompressedSize(dataDescriptor.getCompressedSize());
+            zipEntry.setUncompressedSize(dataDescriptor.getUncompressedSize());
+        }
+
+        dataEnd = true;
+    }
+
+    // ---------- Closeable ----------
+
+    /** Closes the given zip archive stream, even if not all entries are read. */
+    @Override
+    public void close() {
+        Quietly.doRuntime(is::close);
+    }
+
+    // ---------- static ----------
+
+    /**
+     * When data descriptor flag is set, then sizes in the local file header
+     * are not reliable (usually they are {@code 0}, but some tools write there
+     * garbage), so they are taken only from the data descriptor after the
+     * data. Directory has no data at all.
+     */
+    private static boolean isSizeKnown(ZipEntry zipEntry) {
+        return zipEntry.isDirectory() || !zipEntry.isDataDescriptorAvailable();
+    }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.engine.zip;
+
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
+import ru.olegcherednik.zip4jvm.utils.PathUtils;
+import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Rollback journal for in-place append of the new entries to the existed zip
+ * file. Before the zip file is modified, its tail (i.e. central directory and
+ * all following data) is saved to the journal file next to the zip file. On
+ * failure, the original tail is restored from the journal. If the process
+ * crashes in the middle, the tail is restored by {@link #recover(Path)} next
+ * time the zip file is opened for in-place append.
+ * <p>
+ * The journal file contains the offset of the tail (8 bytes) and the tail
+ * itself. It's written under the temporary name and renamed only when it's
+ * completely written and synchronized with the storage device. The journal
+ * file is locked until {@link #commit()} or {@link #rollback()}, so another
+ * writer never takes a journal of the running append for a crashed one.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class AppendJournal {
+
+    private static final String EXT = ".journal";
+    private static final String TMP_EXT = ".journal.tmp";
+
+    private final Path zip;
+    private final Path journal;
+    /** Opened and locked journal file; closing it releases the lock */
+    private final FileChannel channel;
+
+    public static AppendJournal create(Path zip, long offs) {
+        Path journal = getJournalPath(zip, EXT);
+        Path tmp = getJournalPath(zip, TMP_EXT);
+        FileChannel channel = openLocked(zip, tmp, true);
+
+        try {
+            Quietly.doRuntime(() -> {
+                channel.truncate(0);
+                writeTail(zip, offs, channel);
+                channel.force(true);
+            });
+
+            PathUtils.move(tmp, journal, StandardCopyOption.ATOMIC_MOVE);
+            return new AppendJournal(zip, journal, channel);
+        } catch (RuntimeException | Error e) {
+            PathUtils.deleteIfExists(tmp);
+            close(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * Restores the tail of the zip file if the journal exists, i.e. previous
+     * append was not completed.
+     *
+     * @throws Zip4jvmException in case of another writer is appending to the
+     *                          zip file right now
+     */
+    public static void recover(Path zip) {
+        Path journal = getJournalPath(zip, EXT);
+
+        if (!Files.exists(journal) || !Files.exists(zip))
+            return;
+
+        FileChannel channel = openLocked(zip, journal, false);
+
+        if (channel == null)
+            return;
+
+        if (Files.exists(journal)) {
+            log.warn("Incomplete append to '{}' was found; restore the original zip file", zip);
+            new AppendJournal(zip, journal, channel).rollback();
+        } else
+            // the journal was committed right before it was locked
+            close(channel);
+    }
+
+    public void commit() {
+        // delete the journal before releasing the lock, so nobody can catch it between
+        try {
+            PathUtils.deleteIfExists(journal);
+        } finally {
+            close(channel);
+        }
+    }
+
+    public void rollback() {
+        try (FileChannel dst = FileChannel.open(zip, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(Long.BYTES);
+
+            while (header.hasRemaining())
+                if (channel.read(header, header.position()) < 0)
+                    throw new Zip4jvmException("Journal is corrupted: " + journal);
+
+            long offs = header.getLong(0);
+            long size = channel.size() - Long.BYTES;
+
+            dst.truncate(offs);
+            channel.position(Long.BYTES);
+
+            long pos = 0;
+
+            while (pos < size) {
+                long n = dst.transferFrom(channel, offs + pos, size - pos);
+
+                if (n <= 0)
+                    throw new Zip4jvmException("Journal is corrupted: " + journal);
+
+                pos += n;
+            }
+
+            dst.force(true);
+            commit();
+        } catch (IOException e) {
+            throw new Zip4jvmException(e);
+        } finally {
+            close(channel);
+        }
+    }
+
+    private static void writeTail(Path zip, long offs, FileChannel dst) throws IOException {
+        try (FileChannel src = FileChannel.open(zip, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(Long.BYTES).putLong(0, offs);
+
+            while (header.hasRemaining())
+                dst.write(header);
+
+            long pos = offs;
+            long size = src.size();
+
+            while (pos < size)
+                pos += src.transferTo(pos, size - pos, dst);
+        }
+    }
+
+    /**
+     * Opens the given journal {@code file} and locks it. Returns {@literal null}
+     * when the file does not exist and {@code create} is {@literal false}.
+     *
+     * @throws Zip4jvmException in case of the file is locked by another writer
+     */
+    private static FileChannel openLocked(Path zip, Path file, boolean create) {
+        FileChannel channel;
+
+        try {
+            channel = create ? FileChannel.open(file,
+                                                StandardOpenOption.CREATE,
+                                                StandardOpenOption.READ,
+                                                StandardOpenOption.WRITE)
+                             : FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (NoSuchFileException ignored) {
+            return null;
+        } catch (IOException e) {
+            throw new Zip4jvmException(e);
+        }
+
+        if (!tryLock(channel)) {
+            close(channel);
+            throw new Zip4jvmException("Zip file is being appended by another writer: " + zip);
+        }
+
+        return channel;
+    }
+
+    private static boolean tryLock(FileChannel channel) {
+        try {
+            return channel.tryLock() != null;
+        } catch (OverlappingFileLockException ignored) {
+            // the file is locked by another writer within the same JVM
+            return false;
+        } catch (IOException e) {
+            throw new Zip4jvmException(e);
+        }
+    }
+
+    private static void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Cannot close journal file", e);
+        }
+    }
+
+    private static Path getJournalPath(Path zip, String ext) {
+        return zip.resolveSibling(zip.getFileName() + ext);
+    }
+
+}
@@ -19,14 +19,18 @@ package ru.olegcherednik.zip4jvm.engine.zip;
 import ru.olegcherednik.zip4jvm.ZipFile;
 import ru.olegcherednik.zip4jvm.engine.np.NamedPath;
 import ru.olegcherednik.zip4jvm.engine.symlink.ZipSymlinkEngine;
+import ru.olegcherednik.zip4jvm.engine.unzip.UnzipEngine;
 import ru.olegcherednik.zip4jvm.exception.EntryDuplicationException;
 import ru.olegcherednik.zip4jvm.exception.EntryNotFoundException;
 import ru.olegcherednik.zip4jvm.exception.SplitTriggerNotFoundException;
+import ru.olegcherednik.zip4jvm.io.in.file.random.RandomAccessDataInput;
 import ru.olegcherednik.zip4jvm.io.out.DataOutput;
 import ru.olegcherednik.zip4jvm.io.out.file.SolidZipDataOutput;
 import ru.olegcherednik.zip4jvm.io.out.file.SplitZipDataOutput;
+import ru.olegcherednik.zip4jvm.io.writers.ExistedEntrySource;
 import ru.olegcherednik.zip4jvm.io.writers.ExistedEntryWriter;
 import ru.olegcherednik.zip4jvm.io.writers.entry.ZipEntryWriter;
+import ru.olegcherednik.zip4jvm.model.CentralDirectory;
 import ru.olegcherednik.zip4jvm.model.ZipModel;
 import ru.olegcherednik.zip4jvm.model.builders.ZipModelBuilder;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
@@ -43,12 +47,14 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -68,13 +74,21 @@ public final class ZipEngine implements ZipFile.Writer {
     private final ZipSymlinkEngine zipSymlinkEngine;
     private final ZipSettings settings;
     private final FileNameWriter fileNameWriter = new FileNameWriter();
+    private final List<ExistedEntrySource> sources = new ArrayList<>();
+    /** Source of the existed zip file; {@literal null} if the zip file does not exist */
+    private final ExistedEntrySource origin;
 
     private boolean success;
 
     public ZipEngine(Path zip, ZipSettings settings) {
         this.zip = requireNotNull(zip, "ZipEngine.zip");
         this.settings = requireNotNull(settings, "ZipEngine.settings");
-        tempZipModel = createTempZipModel(zip, settings, fileNameWriter);
+
+        if (settings.isAppendInPlace())
+            AppendJournal.recover(zip);
+
+        tempZipModel = createTempZipModel(zip, settings, fileNameWriter, sources);
+        origin = sources.isEmpty() ? null : sources.get(0);
         zipSymlinkEngine = new ZipSymlinkEngine(settings.getZipSymlink());
     }
 
@@ -89,7 +103,7 @@ public final class ZipEngine implements ZipFile.Writer {
         if (Files.isSymbolicLink(path))
             path = ZipSymlinkEngine.getSymlinkTarget(path);
 
-        for (NamedPath namedPath : getNamedPaths(path, entryName)) {
+        for (NamedPath namedPath : getNamedPaths(path, entryName, settings, zipSymlinkEngine)) {
             ZipEntrySettings entrySettings = settings.getEntrySettings(namedPath.getEntryName());
             add(namedPath.createZipEntry(entrySettings));
         }
@@ -100,9 +114,12 @@ public final class ZipEngine implements ZipFile.Writer {
         add(ZipFile.Entry.regularFile(inputStreamSupplier, entryName));
     }
 
-    private List<NamedPath> getNamedPaths(Path path, String entryName) {
+    static List<NamedPath> getNamedPaths(Path path,
+                                         String entryName,
+                                         ZipSettings settings,
+                                         ZipSymlinkEngine zipSymlinkEngine) {
         if (Files.isDirectory(path))
-            return zipSymlinkEngine.list(getDirectoryNamedPaths(path, entryName));
+            return zipSymlinkEngine.list(getDirectoryNamedPaths(path, entryName, settings));
 
         if (Files.isRegularFile(path))
             return Collections.singletonList(NamedPath.create(path, entryName));
@@ -111,7 +128,7 @@ public final class ZipEngine implements ZipFile.Writer {
         return Collections.emptyList();
     }
 
-    private List<NamedPath> getDirectoryNamedPaths(Path dir, String entryName) {
+    private static List<NamedPath> getDirectoryNamedPaths(Path dir, String entryName, ZipSettings settings) {
         assert Files.isDirectory(dir);
 
         if (settings.isRemoveRootDir())
@@ -142,28 +159,32 @@ public final class ZipEngine implements ZipFile.Writer {
         entryName = ZipUtils.getFileNameNoDirectoryMarker(entryName);
         entryName = ZipUtils.normalizeFileName(entryName);
 
-        if (fileNameWriter.remove(entryName) != null)
-            return;
-        if (fileNameWriter.remove(entryName + '/') != null)
+        if (removeEntry(entryName) || removeEntry(entryName + '/'))
             return;
 
         throw new EntryNotFoundException(entryName);
     }
 
+    private boolean removeEntry(String entryName) {
+        if (fileNameWriter.remove(entryName) == null)
+            return false;
+
+        // new entry is added to the model at once, so it should not get to the central directory
+        tempZipModel.removeZipEntry(entryName);
+        return true;
+    }
+
     @Override
     public void removeEntryByNamePrefix(String entryNamePrefix) {
         requireNotBlank(entryNamePrefix, "ZipEngine.entryNamePrefix");
 
         String normalizedPrefixEntryName = ZipUtils.normalizeFileName(entryNamePrefix);
-
-        Set<String> entryNames = fileNameWriter.getEntryNames().stream()
-                                               .filter(entryName -> entryName.startsWith(normalizedPrefixEntryName))
-                                               .collect(Collectors.toSet());
+        List<String> entryNames = fileNameWriter.getEntryNamesByPrefix(normalizedPrefixEntryName);
 
         if (entryNames.isEmpty())
             throw new EntryNotFoundException(entryNamePrefix);
 
-        entryNames.forEach(fileNameWriter::remove);
+        entryNames.forEach(this::removeEntry);
     }
 
     @Override
@@ -172,10 +193,12 @@ public final class ZipEngine implements ZipFile.Writer {
         requireNotNull(zip, "ZipEngine.zip");
 
         ZipModel srcZipModel = ZipModelBuilder.read(SrcZip.of(zip));
+        ExistedEntrySource source = new ExistedEntrySource(srcZipModel);
+        sources.add(source);
 
         for (String fileName : srcZipModel.getEntryNames()) {
             char[] password = settings.getEntrySettings(fileName).getPassword();
-            fileNameWriter.put(fileName, new ExistedEntryWriter(srcZipModel, fileName, tempZipModel, password));
+            fileNameWriter.put(fileName, new ExistedEntryWriter(source, fileName, tempZipModel, password));
         }
     }
 
@@ -195,19 +218,92 @@ public final class ZipEngine implements ZipFile.Writer {
     @Override
     public void close() {
         if (success && (tempZipModel.isChanged() || fileNameWriter.isChanged())) {
-            createTempZipFiles();
-            removeOriginalZipFiles();
-            moveTempZipFiles();
+            if (isAppendInPlace())
+                appendInPlace();
+            else {
+                createTempZipFiles();
+                removeOriginalZipFiles();
+                moveTempZipFiles();
+            }
+        }
+    }
+
+    private boolean isAppendInPlace() {
+        if (!settings.isAppendInPlace() || origin == null || fileNameWriter.isRemoved() || tempZipModel.isSplit())
+            return false;
+
+        ZipModel zipModel = origin.getZipModel();
+
+        if (zipModel.isSplit() || zipModel.isCentralDirectoryEncrypted() || zipModel.isEmpty())
+            return false;
+
+        // check that central directory is exactly on the given offset (e.g. there is no prefix data)
+        try (RandomAccessDataInput in = UnzipEngine.createRandomAccessDataInput(zipModel.getSrcZip())) {
+            in.seek(zipModel.getCentralDirectoryRelativeOffs());
+            return in.isDwordSignature(CentralDirectory.FileHeader.SIGNATURE);
+        }
+    }
+
+    /**
+     * New entries are written directly to the existed zip file instead of the
+     * central directory; then a new central directory is written. The zip file
+     * is synchronized with the storage device before the journal is dropped.
+     * On failure, the central directory is not written and the original tail
+     * of the zip file is restored from the journal.
+     */
+    private void appendInPlace() {
+        long offs = origin.getZipModel().getCentralDirectoryRelativeOffs();
+        // existed entries are kept in place, so the zip file is not read anymore
+        fileNameWriter.getInitWriters().forEach(writer -> ((ExistedEntryWriter) writer).keepInPlace());
+        origin.close();
+        AppendJournal journal = AppendJournal.create(zip, offs);
+
+        try (SolidZipDataOutput out = new SolidZipDataOutput(tempZipModel, zip, offs)) {
+            writeOrAbort(fileNameWriter.getNewWriters(), out);
+        } catch (RuntimeException | Error e) {
+            journal.rollback();
+            throw e;
+        } finally {
+            sources.forEach(ExistedEntrySource::close);
+        }
+
+        journal.commit();
+        PathUtils.deleteIfExists(tempZipModel.getSrcZip().getPath().getParent());
+    }
+
+    private void writeOrAbort(Collection<Writer> writers, SolidZipDataOutput out) {
+        try {
+            write(writers, out);
+        } catch (RuntimeException | Error e) {
+            out.abort();
+            throw e;
         }
     }
 
     private void createTempZipFiles() {
         try (DataOutput out = creatDataOutput(tempZipModel)) {
-            for (Writer writer : fileNameWriter.getWriters())
-                writer.write(out);
+            write(fileNameWriter.getWriters(), out);
+        } finally {
+            sources.forEach(ExistedEntrySource::close);
         }
     }
 
+    private void write(Collection<Writer> writers, DataOutput out) {
+        // encoders (i.e. AES keys) of the entries are created in background while the previous entries are written
+        writers.stream()
+               .filter(ZipEntryWriter.class::isInstance)
+               .map(ZipEntryWriter.class::cast)
+               .forEach(ZipEntryWriter::prepareEncoder);
+
+        if (settings.getAsyncThreads() == ZipSettings.ASYNC_THREADS_OFF)
+            writers.forEach(writer -> writer.write(out));
+        else
+            new ZipEntriesAsyncWriter(settings.getAsyncThreads()).write(writers, out);
+
+        // entries are moved to the new offsets
+        tempZipModel.invalidateIndices();
+    }
+
     private void removeOriginalZipFiles() {
         if (!Files.exists(zip))
             return;
@@ -228,7 +324,10 @@ public final class ZipEngine implements ZipFile.Writer {
         PathUtils.deleteIfExists(tempZipModel.getSrcZip().getPath().getParent());
     }
 
-    private static ZipModel createTempZipModel(Path zip, ZipSettings settings, FileNameWriter fileNameWriter) {
+    private static ZipModel createTempZipModel(Path zip,
+                                               ZipSettings settings,
+                                               FileNameWriter fileNameWriter,
+                                               List<ExistedEntrySource> sources) {
         Map<String, Writer> map = new LinkedHashMap<>();
         Path tempZip = createTempZip(zip);
         ZipModel tempZipModel = ZipModelBuilder.build(tempZip, settings);
@@ -246,9 +345,12 @@ public final class ZipEngine implements ZipFile.Writer {
 
             tempZipModel.setZip64(zipModel.isZip64());
 
+            ExistedEntrySource source = new ExistedEntrySource(zipModel);
+            sources.add(source);
+
             zipModel.getEntryNames().forEach(entryName -> {
                 char[] password = settings.getEntrySettings(entryName).getPassword();
-                map.put(entryName, new ExistedEntryWriter(zipModel, entryName, tempZipModel, password));
+                map.put(entryName, new ExistedEntryWriter(source, entryName, tempZipModel, password));
             });
         }
 
@@ -270,11 +372,16 @@ public final class ZipEngine implements ZipFile.Writer {
     private static final class FileNameWriter {
 
         private final Map<String, Writer> map = new LinkedHashMap<>();
+        /** Sorted entry names to find entries by prefix */
+        private final NavigableSet<String> entryNames = new TreeSet<>();
         private int initSize;
+        private boolean removed;
 
         void init(Map<String, Writer> map) {
             this.map.clear();
             this.map.putAll(map);
+            entryNames.clear();
+            entryNames.addAll(map.keySet());
             initSize = map.size();
         }
 
@@ -285,20 +392,38 @@ public final class ZipEngine implements ZipFile.Writer {
                 throw new EntryDuplicationException(entryName);
 
             map.put(entryName, writer);
+            entryNames.add(entryName);
         }
 
         Writer remove(String entryName) {
-            return map.remove(entryName);
+            Writer writer = map.remove(entryName);
+            entryNames.remove(entryName);
+            removed |= writer != null;
+            return writer;
         }
 
-        Set<String> getEntryNames() {
-            return map.keySet();
+        List<String> getEntryNamesByPrefix(String prefix) {
+            return ZipUtils.getFileNamesByPrefix(entryNames, prefix);
         }
 
         Collection<Writer> getWriters() {
             return map.values();
         }
 
+        /** Writers of the existed entries; valid only when nothing was {@link #isRemoved()}. */
+        Collection<Writer> getInitWriters() {
+            return map.values().stream().limit(initSize).collect(Collectors.toList());
+        }
+
+        /** Writers added after {@link #init(Map)}; valid only when nothing was {@link #isRemoved()}. */
+        Collection<Writer> getNewWriters() {
+            return map.values().stream().skip(initSize).collect(Collectors.toList());
+        }
+
+        boolean isRemoved() {
+            return removed;
+        }
+
         boolean isChanged() {
             return initSize != map.size();
         }
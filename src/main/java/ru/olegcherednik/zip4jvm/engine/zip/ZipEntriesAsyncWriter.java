@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.engine.zip;
+
+import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.io.out.DataOutput;
+import ru.olegcherednik.zip4jvm.io.writers.entry.ZipEntryWriter;
+import ru.olegcherednik.zip4jvm.utils.ThreadUtils;
+import ru.olegcherednik.zip4jvm.utils.function.Writer;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * This writer compresses and encrypts payloads of the new entries
+ * ({@link ZipEntryWriter}) on the worker pool, while the current thread is a
+ * sequencer: it takes writers in the original order, waits for the payload
+ * to be prepared and writes the entry to the {@link DataOutput}. So the
+ * result is exactly the same as writing all entries one by one.
+ * <p>
+ * Only limited amount of writers are prepared ahead of the sequencer, so the
+ * memory (and temporary disk space) consumption is bounded. Tasks are run on
+ * the shared pool ({@link ThreadUtils#getSharedExecutor()}), so no pool is
+ * created per zip file.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+final class ZipEntriesAsyncWriter {
+
+    private static final int PREPARED_AHEAD_PER_THREAD = 2;
+
+    private final int totalThreads;
+
+    ZipEntriesAsyncWriter(int asyncThreads) {
+        totalThreads = ThreadUtils.getTotalThreads(asyncThreads);
+    }
+
+    void write(Collection<Writer> writers, DataOutput out) {
+        Iterator<Writer> it = writers.iterator();
+        Deque<PreparedWriter> queue = new ArrayDeque<>();
+        int maxQueueSize = totalThreads * PREPARED_AHEAD_PER_THREAD;
+        ExecutorService executor = ThreadUtils.getSharedExecutor();
+
+        try {
+            while (it.hasNext() || !queue.isEmpty()) {
+                while (it.hasNext() && queue.size() < maxQueueSize)
+                    queue.add(prepare(it.next(), out.getByteOrder(), executor));
+
+                queue.remove().write(out);
+            }
+        } catch (CompletionException e) {
+            throw ThreadUtils.getTaskException(e);
+        } finally {
+            // do not leave running tasks behind, e.g. when the sequencer fails
+            queue.forEach(PreparedWriter::await);
+        }
+    }
+
+    // ---------- static ----------
+
+    private static PreparedWriter prepare(Writer writer, ByteOrder byteOrder, ExecutorService executor) {
+        if (writer instanceof ZipEntryWriter) {
+            ZipEntryWriter zipEntryWriter = (ZipEntryWriter) writer;
+            return new PreparedWriter(writer,
+                                      CompletableFuture.runAsync(() -> zipEntryWriter.preparePayload(byteOrder),
+                                                                 executor));
+        }
+
+        return new PreparedWriter(writer, CompletableFuture.completedFuture(null));
+    }
+
+    @RequiredArgsConstructor
+    private static final class PreparedWriter {
+
+        private final Writer writer;
+        private final CompletableFuture<Void> task;
+
+        void write(DataOutput out) {
+            task.join();
+            writer.write(out);
+        }
+
+        /** Waits for the preparation and deletes the payload, which is not going to be written. */
+        void await() {
+            task.handle((res, e) -> null).join();
+
+            if (writer instanceof ZipEntryWriter)
+                ((ZipEntryWriter) writer).discardPayload();
+        }
+
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.engine.zip;
+
+import ru.olegcherednik.zip4jvm.ZipFile;
+import ru.olegcherednik.zip4jvm.engine.np.NamedPath;
+import ru.olegcherednik.zip4jvm.engine.symlink.ZipSymlinkEngine;
+import ru.olegcherednik.zip4jvm.exception.EntryDuplicationException;
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
+import ru.olegcherednik.zip4jvm.io.out.DataOutput;
+import ru.olegcherednik.zip4jvm.io.out.file.StreamZipDataOutput;
+import ru.olegcherednik.zip4jvm.io.writers.entry.ZipEntryWriter;
+import ru.olegcherednik.zip4jvm.model.ZipModel;
+import ru.olegcherednik.zip4jvm.model.builders.ZipModelBuilder;
+import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
+import ru.olegcherednik.zip4jvm.model.entry.ZipEntryBuilder;
+import ru.olegcherednik.zip4jvm.model.settings.ZipEntrySettings;
+import ru.olegcherednik.zip4jvm.model.settings.ZipSettings;
+import ru.olegcherednik.zip4jvm.utils.function.InputStreamSupplier;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireNotBlank;
+import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireNotNull;
+import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireValidEntryName;
+
+/**
+ * Writes zip archive directly to the given {@link OutputStream}. Unlike
+ * {@link ZipEngine}, neither temporary directory nor random access to the
+ * destination is used: each entry is compressed and encrypted on the fly and
+ * is followed by the data descriptor. Only the central directory (i.e.
+ * metadata of the entries) is kept in memory until {@link #close()}.
+ * <p>
+ * Already written entries cannot be removed or modified.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+public final class ZipStreamEngine implements ZipFile.Writer {
+
+    /** Reserve for the headers of the compressed and encrypted data */
+    private static final int COMPRESSION_OVERHEAD = 1024;
+
+    private final ZipModel zipModel;
+    private final ZipSymlinkEngine zipSymlinkEngine;
+    private final ZipSettings settings;
+    private final DataOutput out;
+
+    /** When any entry was not written completely, then central directory is not written as well */
+    private boolean failed;
+
+    public ZipStreamEngine(OutputStream out, ZipSettings settings) {
+        requireNotNull(out, "ZipStreamEngine.out");
+        this.settings = requireNotNull(settings, "ZipStreamEngine.settings");
+        zipModel = ZipModelBuilder.build(settings);
+        zipSymlinkEngine = new ZipSymlinkEngine(settings.getZipSymlink());
+        this.out = new StreamZipDataOutput(zipModel, out);
+    }
+
+    @Override
+    public void add(Path path, String entryName) {
+        if (!Files.exists(path))
+            return;
+
+        requireNotBlank(entryName, "entryName");
+        requireValidEntryName(entryName);
+
+        if (Files.isSymbolicLink(path))
+            path = ZipSymlinkEngine.getSymlinkTarget(path);
+
+        for (NamedPath namedPath : ZipEngine.getNamedPaths(path, entryName, settings, zipSymlinkEngine)) {
+            ZipEntrySettings entrySettings = settings.getEntrySettings(namedPath.getEntryName());
+            add(namedPath.createZipEntry(entrySettings));
+        }
+    }
+
+    @Override
+    public void add(InputStreamSupplier inputStreamSupplier, String entryName) {
+        add(ZipFile.Entry.regularFile(inputStreamSupplier, entryName));
+    }
+
+    @Override
+    public void add(ZipFile.Entry entry) {
+        ZipEntrySettings entrySettings = settings.getEntrySettings(entry.getName());
+        ZipEntry zipEntry = ZipEntryBuilder.build(entry, entrySettings);
+        add(zipEntry);
+    }
+
+    private void add(ZipEntry entry) {
+        if (failed)
+            throw new Zip4jvmException("Zip stream is broken by the previous failure");
+        if (zipModel.hasEntry(entry.getFileName()))
+            throw new EntryDuplicationException(entry.getFileName());
+
+        if (isZip64Required(entry))
+            entry.setZip64(true);
+
+        boolean zip64 = entry.isZip64();
+
+        try {
+            ZipEntryWriter.createWithDataDescriptor(entry).write(out);
+        } catch (RuntimeException | Error e) {
+            failed = true;
+            throw e;
+        }
+
+        if (!zip64 && isSizeExceeded(entry)) {
+            // local file header is already written without ZIP64, so the data descriptor could not be read correctly
+            failed = true;
+            throw new Zip4jvmException("Entry size exceeds 4Gb, ZIP64 should be set for it explicitly: "
+                                               + entry.getFileName());
+        }
+
+        zipModel.addZipEntry(entry);
+    }
+
+    /**
+     * Size of the regular file is known before writing, so ZIP64 could be set
+     * in advance; the compressed data could be a little bigger than the
+     * original one (e.g. deflate of not compressible data or encryption
+     * header), so the limit is checked with reserve.
+     */
+    private static boolean isZip64Required(ZipEntry entry) {
+        long size = entry.getUncompressedSize();
+        return size > 0 && size + (size >> 8) + COMPRESSION_OVERHEAD > ZipModel.MAX_ENTRY_SIZE;
+    }
+
+    private static boolean isSizeExceeded(ZipEntry entry) {
+        return entry.getCompressedSize() > ZipModel.MAX_ENTRY_SIZE
+                || entry.getUncompressedSize() > ZipModel.MAX_ENTRY_SIZE;
+    }
+
+    @Override
+    public void removeEntryByName(String entryName) {
+        throw new Zip4jvmException("Entry cannot be removed from the zip stream: " + entryName);
+    }
+
+    @Override
+    public void removeEntryByNamePrefix(String entryNamePrefix) {
+        throw new Zip4jvmException("Entry cannot be removed from the zip stream: " + entryNamePrefix);
+    }
+
+    @Override
+    public void copy(Path zip) {
+        throw new Zip4jvmException("Zip file cannot be copied to the zip stream: " + zip);
+    }
+
+    @Override
+    public void setComment(String comment) {
+        zipModel.setComment(comment);
+    }
+
+    /**
+     * Writes central directory of all added entries. The destination stream is
+     * not closed.
+     *
+     * @throws Zip4jvmException in case of any entry was not written
+     *                          completely; the data is already in the
+     *                          destination stream and cannot be rolled back,
+     *                          so central directory is not written
+     */
+    @Override
+    public void close() {
+        if (!failed) {
+            out.close();
+            return;
+        }
+
+        out.flush();
+        throw new Zip4jvmException("Zip stream is broken by the previous failure, central directory is not written");
+    }
+
+}
@@ -42,6 +42,11 @@ public enum ByteOrder {
             return ByteUtils.readWord(in);
         }
 
+        @Override
+        public int readWord(byte[] buf, int offs) {
+            return ByteUtils.readWord(buf, offs);
+        }
+
         @Override
         public long readDword(byte[] buf, int offs) {
             return ByteUtils.readDword(buf, offs);
@@ -57,6 +62,11 @@ public enum ByteOrder {
             return ByteUtils.readQword(in);
         }
 
+        @Override
+        public long readQword(byte[] buf, int offs) {
+            return ByteUtils.readQword(buf, offs);
+        }
+
         @Override
         public BigInteger readBigInteger(int size, ReadBuffer in) {
             return ByteUtils.readBigInteger(size, in);
@@ -84,6 +94,11 @@ public enum ByteOrder {
             ByteUtils.writeQword(val, out);
         }
 
+        @Override
+        public void writeDword(long val, byte[] buf, int offs) {
+            ByteUtils.writeDword(val, buf, offs);
+        }
+
     };
 
     // ---------- read ----------
@@ -92,12 +107,16 @@ public enum ByteOrder {
 
     public abstract int readWord(ReadBuffer in);
 
+    public abstract int readWord(byte[] buf, int offs);
+
     public abstract long readDword(ReadBuffer in);
 
     public abstract long readDword(byte[] buf, int offs);
 
     public abstract long readQword(ReadBuffer in);
 
+    public abstract long readQword(byte[] buf, int offs);
+
     public abstract BigInteger readBigInteger(int size, ReadBuffer in);
 
     // ---------- write ----------
@@ -110,4 +129,6 @@ public enum ByteOrder {
 
     public abstract void writeQword(long val, WriteBuffer out);
 
+    public abstract void writeDword(long val, byte[] buf, int offs);
+
 }
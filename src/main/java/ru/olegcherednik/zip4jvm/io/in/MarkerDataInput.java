@@ -40,12 +40,12 @@ public abstract class MarkerDataInput extends BaseDataInput {
     }
 
     @Override
-    public final long getMark(String id) {
+    public long getMark(String id) {
         return marker.getMark(id);
     }
 
     @Override
-    public final long getMarkSize(String id) {
+    public long getMarkSize(String id) {
         marker.setAbsOffs(getAbsOffs());
         return marker.getMarkSize(id);
     }
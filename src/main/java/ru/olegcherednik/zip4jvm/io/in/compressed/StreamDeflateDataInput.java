@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.in.compressed;
+
+import ru.olegcherednik.zip4jvm.io.in.DataInput;
+import ru.olegcherednik.zip4jvm.io.in.ReadBufferInputStream;
+import ru.olegcherednik.zip4jvm.io.in.file.consecutive.StreamConsecutiveAccessDataInput;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Inflates data of the entry with unknown compressed size (i.e. the size is
+ * located in the data descriptor after the data). The end of the data is
+ * detected by the {@link Inflater}; all bytes read ahead by the inflater are
+ * returned back to the {@link StreamConsecutiveAccessDataInput} and then
+ * {@code onEnd} is invoked to read the rest of the entry.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+public final class StreamDeflateDataInput extends CompressedDataInput {
+
+    public static StreamDeflateDataInput create(StreamConsecutiveAccessDataInput in, Runnable onEnd) {
+        return new StreamDeflateDataInput(new UnreadInflaterInputStream(in, onEnd), in);
+    }
+
+    private StreamDeflateDataInput(InputStream inf, DataInput in) {
+        super(inf, in);
+    }
+
+    private static final class UnreadInflaterInputStream extends InflaterInputStream {
+
+        private static final int BUF_SIZE = 8 * 1024;
+
+        private final StreamConsecutiveAccessDataInput in;
+        private final Runnable onEnd;
+        private boolean end;
+
+        private UnreadInflaterInputStream(StreamConsecutiveAccessDataInput in, Runnable onEnd) {
+            super(new ReadBufferInputStream(in), new Inflater(true), BUF_SIZE);
+            this.in = in;
+            this.onEnd = onEnd;
+        }
+
+        // ---------- InputStream ----------
+
+        @Override
+        public int read(byte[] buf, int offs, int len) throws IOException {
+            int readNow = super.read(buf, offs, len);
+
+            if (readNow == IOUtils.EOF && !end) {
+                end = true;
+                // bytes after the compressed data belong to the next record
+                in.unread(this.buf, this.len - inf.getRemaining(), inf.getRemaining());
+                onEnd.run();
+            }
+
+            return readNow;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inf.end();
+            super.close();
+        }
+
+    }
+
+}
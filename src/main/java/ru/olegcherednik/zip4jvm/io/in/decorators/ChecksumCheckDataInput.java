@@ -19,16 +19,18 @@ package ru.olegcherednik.zip4jvm.io.in.decorators;
 import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
 import ru.olegcherednik.zip4jvm.io.in.DataInput;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
+import ru.olegcherednik.zip4jvm.utils.ChecksumUtils;
 
-import org.apache.commons.codec.digest.PureJavaCrc32;
 import org.apache.commons.io.IOUtils;
 
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.function.LongSupplier;
 import java.util.zip.Checksum;
 
 /**
+ * Calculates CRC32 of the read data and checks it with the expected one on
+ * {@link #close()}. Only the running checksum is kept, so memory usage does
+ * not depend on the entry size.
+ *
  * @author Oleg Cherednik
  * @since 15.11.2024
  */
@@ -36,8 +38,7 @@ public class ChecksumCheckDataInput extends BaseDecoratorDataInput<DataInput> {
 
     private final LongSupplier expectedCrc32;
     private final String fileName;
-    private final Checksum crc32 = new PureJavaCrc32();
-    private final Deque<Long> stack = new LinkedList<>();
+    private final Checksum crc32 = ChecksumUtils.createCrc32();
 
     public static ChecksumCheckDataInput checksum(ZipEntry zipEntry, DataInput in) {
         return new ChecksumCheckDataInput(zipEntry::getCrc32, zipEntry.getFileName(), in);
@@ -59,10 +60,8 @@ public class ChecksumCheckDataInput extends BaseDecoratorDataInput<DataInput> {
     public int read(byte[] buf, int offs, int len) {
         int readNow = super.read(buf, offs, len);
 
-        if (readNow != IOUtils.EOF) {
+        if (readNow != IOUtils.EOF)
             crc32.update(buf, offs, readNow);
-            stack.push(crc32.getValue());
-        }
 
         return readNow;
     }
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.in.file;
+
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
+import ru.olegcherednik.zip4jvm.model.src.SrcZip;
+import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.io.IOUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This pool shares opened {@link FileChannel} of the disks of one
+ * {@link SrcZip} between all readers. Readers use only positional
+ * {@link FileChannel#read(ByteBuffer, long)}, so one channel can be used by
+ * many threads at the same time without sharing a file pointer.
+ * <p>
+ * Not more than {@link #getMaxChannelsPerDisk()} channels are opened for one
+ * disk; the least used one is returned when the limit is reached. When the
+ * pool is not {@link #open()}, channel is closed as soon as the last reader
+ * releases it (i.e. exactly like reader opens and closes the file by itself).
+ * While the pool is opened (e.g. during extraction), the released channels are
+ * kept opened to be reused by the next readers.
+ * <p>
+ * When a reader is interrupted in the middle of the read, the shared channel
+ * is closed by the JVM (see {@link ClosedByInterruptException}). Such a dead
+ * channel is evicted from the pool and other readers of this channel
+ * transparently continue with a new one.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@RequiredArgsConstructor
+public final class FileChannelPool implements Closeable {
+
+    public static final int DEFAULT_MAX_CHANNELS_PER_DISK = 4;
+
+    private final SrcZip srcZip;
+    private final Map<Integer, List<Slot>> disks = new HashMap<>();
+    private int maxChannelsPerDisk = DEFAULT_MAX_CHANNELS_PER_DISK;
+    private int openCounter;
+
+    public synchronized int getMaxChannelsPerDisk() {
+        return maxChannelsPerDisk;
+    }
+
+    public synchronized void setMaxChannelsPerDisk(int maxChannelsPerDisk) {
+        this.maxChannelsPerDisk = Math.max(1, maxChannelsPerDisk);
+    }
+
+    /**
+     * Keeps released channels opened until {@link #close()} is invoked.
+     *
+     * @return this pool
+     */
+    public synchronized FileChannelPool open() {
+        openCounter++;
+        return this;
+    }
+
+    public Lease acquire(SrcZip.Disk disk) {
+        return new Lease(disk, acquireSlot(disk));
+    }
+
+    private synchronized Slot acquireSlot(SrcZip.Disk disk) {
+        List<Slot> slots = disks.computeIfAbsent(disk.getNo(), diskNo -> new ArrayList<>());
+        // channels closed by the interrupted readers are not used anymore
+        slots.removeIf(Slot::isClosed);
+        Slot slot = null;
+
+        for (Slot cur : slots)
+            if (slot == null || cur.users < slot.users)
+                slot = cur;
+
+        if (slot == null || slot.users > 0 && slots.size() < maxChannelsPerDisk) {
+            slot = new Slot(Quietly.doRuntime(() -> FileChannel.open(disk.getPath(), StandardOpenOption.READ)));
+            slots.add(slot);
+        }
+
+        slot.users++;
+        return slot;
+    }
+
+    /** Replaces the closed channel of the lease with the opened one. */
+    private synchronized Slot reacquire(SrcZip.Disk disk, Slot slot) {
+        release(disk, slot);
+        return acquireSlot(disk);
+    }
+
+    public InputStream newInputStream(SrcZip.Disk disk) {
+        return new LeaseInputStream(acquire(disk));
+    }
+
+    private synchronized void release(SrcZip.Disk disk, Slot slot) {
+        slot.users--;
+
+        if (slot.isClosed())
+            disks.get(disk.getNo()).remove(slot);
+        else if (slot.users == 0 && openCounter == 0) {
+            disks.get(disk.getNo()).remove(slot);
+            slot.close();
+        }
+    }
+
+    // ---------- Closeable ----------
+
+    @Override
+    public synchronized void close() {
+        openCounter = Math.max(0, openCounter - 1);
+
+        if (openCounter > 0)
+            return;
+
+        for (List<Slot> slots : disks.values()) {
+            Iterator<Slot> it = slots.iterator();
+
+            while (it.hasNext()) {
+                Slot slot = it.next();
+
+                if (slot.users == 0) {
+                    it.remove();
+                    slot.close();
+                }
+            }
+        }
+    }
+
+    // ---------- Object ----------
+
+    @Override
+    public String toString() {
+        return srcZip.toString();
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Slot {
+
+        private final FileChannel channel;
+        private int users;
+
+        private boolean isClosed() {
+            return !channel.isOpen();
+        }
+
+        private void close() {
+            Quietly.doRuntime(channel::close);
+        }
+
+    }
+
+    /**
+     * Channel of the disk acquired from the pool. It must be closed to return
+     * the channel back to the pool.
+     */
+    public final class Lease implements Closeable {
+
+        private final SrcZip.Disk disk;
+        private Slot slot;
+        private boolean closed;
+
+        private Lease(SrcZip.Disk disk, Slot slot) {
+            this.disk = disk;
+            this.slot = slot;
+        }
+
+        public SrcZip.Disk getDisk() {
+            return disk;
+        }
+
+        public FileChannel getChannel() {
+            return getSlot().channel;
+        }
+
+        private Slot getSlot() {
+            if (!closed && slot.isClosed())
+                slot = reacquire(disk, slot);
+            return slot;
+        }
+
+        public int read(long pos, byte[] buf, int offs, int len) {
+            if (len == 0)
+                return 0;
+
+            try {
+                return read(getSlot().channel, pos, buf, offs, len);
+            } catch (ClosedByInterruptException e) {
+                // this reader is interrupted, the channel is evicted on the next acquire
+                throw new Zip4jvmException(e);
+            } catch (ClosedChannelException e) {
+                // the channel was closed by another interrupted reader, so continue with a new one
+                return Quietly.doRuntime(() -> read(getSlot().channel, pos, buf, offs, len));
+            } catch (IOException e) {
+                throw new Zip4jvmException(e);
+            }
+        }
+
+        private int read(FileChannel channel, long pos, byte[] buf, int offs, int len) throws IOException {
+            ByteBuffer bb = ByteBuffer.wrap(buf, offs, len);
+            int readNow = 0;
+
+            while (bb.hasRemaining()) {
+                int n = channel.read(bb, pos + readNow);
+
+                if (n == IOUtils.EOF)
+                    break;
+
+                readNow += n;
+            }
+
+            return readNow == 0 ? IOUtils.EOF : readNow;
+        }
+
+        // ---------- Closeable ----------
+
+        @Override
+        public void close() {
+            if (closed)
+                return;
+
+            closed = true;
+            release(disk, slot);
+        }
+
+    }
+
+    /**
+     * Consecutive access to the disk via positional reads of the pooled
+     * channel.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class LeaseInputStream extends InputStream {
+
+        private final Lease lease;
+        private final byte[] one = new byte[1];
+        private long pos;
+
+        @Override
+        public int read() {
+            return read(one, 0, 1) == IOUtils.EOF ? IOUtils.EOF : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buf, int offs, int len) {
+            int readNow = lease.read(pos, buf, offs, len);
+
+            if (readNow > 0)
+                pos += readNow;
+
+            return readNow;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, lease.getDisk().getSize() - pos));
+            pos += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(0, lease.getDisk().getSize() - pos));
+        }
+
+        @Override
+        public void close() {
+            lease.close();
+        }
+
+    }
+
+}
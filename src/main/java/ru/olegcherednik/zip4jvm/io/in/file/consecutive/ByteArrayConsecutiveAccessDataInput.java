@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.in.file.consecutive;
+
+import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.utils.PathUtils;
+
+import lombok.Getter;
+import org.apache.commons.io.IOUtils;
+
+import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireZeroOrPositive;
+
+/**
+ * Consecutive access to the part of the zip file, which is already read to
+ * the memory (e.g. prefetched local file header and compressed data of the
+ * entry). Absolute offsets are the same as in the zip file.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+public class ByteArrayConsecutiveAccessDataInput extends BaseConsecutiveAccessDataInput {
+
+    @Getter
+    private final ByteOrder byteOrder;
+    private final byte[] buf;
+    private int pos;
+
+    /**
+     * @param buf       part of the zip file
+     * @param absOffs   absolute offset of the first byte of the {@code buf} in the zip file
+     * @param byteOrder byte order of the zip file
+     */
+    public ByteArrayConsecutiveAccessDataInput(byte[] buf, long absOffs, ByteOrder byteOrder) {
+        this.buf = buf;
+        this.byteOrder = byteOrder;
+        incAbsOffs(absOffs);
+    }
+
+    // ---------- DataInput ----------
+
+    @Override
+    public long skip(long bytes) {
+        requireZeroOrPositive(bytes, "skip.bytes");
+
+        int skipped = (int) Math.min(bytes, buf.length - pos);
+        pos += skipped;
+        incAbsOffs(skipped);
+        return skipped;
+    }
+
+    @Override
+    public int read(byte[] buf, int offs, int len) {
+        if (len == 0)
+            return 0;
+        if (pos == this.buf.length)
+            return IOUtils.EOF;
+
+        int readNow = Math.min(len, this.buf.length - pos);
+        System.arraycopy(this.buf, pos, buf, offs, readNow);
+        pos += readNow;
+        incAbsOffs(readNow);
+        return readNow;
+    }
+
+    // ---------- Object ----------
+
+    @Override
+    public String toString() {
+        return PathUtils.getOffsStr(getAbsOffs());
+    }
+
+}
@@ -40,7 +40,7 @@ public class SolidConsecutiveAccessDataInput extends BaseConsecutiveAccessDataIn
 
     public SolidConsecutiveAccessDataInput(SrcZip srcZip) {
         byteOrder = srcZip.getByteOrder();
-        is = new BufferedInputStream(PathUtils.newInputStream(srcZip.getDiskByNo(0).getPath()));
+        is = new BufferedInputStream(srcZip.getChannelPool().newInputStream(srcZip.getDiskByNo(0)));
     }
 
     // ---------- DataInput ----------
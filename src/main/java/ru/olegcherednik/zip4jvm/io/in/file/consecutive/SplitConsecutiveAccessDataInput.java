@@ -16,6 +16,7 @@
  */
 package ru.olegcherednik.zip4jvm.io.in.file.consecutive;
 
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
 import ru.olegcherednik.zip4jvm.io.ByteOrder;
 import ru.olegcherednik.zip4jvm.model.src.SrcZip;
 import ru.olegcherednik.zip4jvm.utils.PathUtils;
@@ -31,6 +32,9 @@ import java.util.Objects;
 import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireZeroOrPositive;
 
 /**
+ * Disks are opened on demand: the first one is opened by the first read or
+ * skip, unless {@link #seekForward(long)} opens the required disk directly.
+ *
  * @author Oleg Cherednik
  * @since 20.12.2024
  */
@@ -42,10 +46,13 @@ public class SplitConsecutiveAccessDataInput extends BaseConsecutiveAccessDataIn
     private InputStream is;
     private long diskOffs;
 
-    @SuppressWarnings("PMD.ConstructorCallsOverridableMethod")
     public SplitConsecutiveAccessDataInput(SrcZip srcZip) {
         this.srcZip = srcZip;
-        openDisk(srcZip.getDiskByNo(0));
+    }
+
+    private void openFirstDiskIfRequired() {
+        if (disk == null)
+            openDisk(srcZip.getDiskByNo(0));
     }
 
     private boolean openNextDisk() {
@@ -62,7 +69,7 @@ public class SplitConsecutiveAccessDataInput extends BaseConsecutiveAccessDataIn
             return;
 
         close();
-        is = new BufferedInputStream(PathUtils.newInputStream(disk.getPath()));
+        is = new BufferedInputStream(srcZip.getChannelPool().newInputStream(disk));
         this.disk = disk;
         diskOffs = 0;
     }
@@ -72,6 +79,32 @@ public class SplitConsecutiveAccessDataInput extends BaseConsecutiveAccessDataIn
         incAbsOffs(bytes);
     }
 
+    // ---------- ConsecutiveAccessDataInput ----------
+
+    /**
+     * Opens the disk with given {@code dstAbsOffs} directly instead of
+     * skipping all previous disks.
+     */
+    @Override
+    public long seekForward(long dstAbsOffs) {
+        long absOffs = getAbsOffs();
+
+        if (dstAbsOffs == absOffs)
+            return 0;
+        if (dstAbsOffs < absOffs)
+            throw new Zip4jvmException("can't move backward");
+
+        SrcZip.Disk dstDisk = srcZip.getDiskByAbsOffs(dstAbsOffs);
+
+        if (disk == null || dstDisk.getNo() > disk.getNo()) {
+            openDisk(dstDisk);
+            incAbsOffs(dstDisk.getAbsOffs() - absOffs);
+        }
+
+        skip(dstAbsOffs - getAbsOffs());
+        return getAbsOffs() - absOffs;
+    }
+
     // ---------- DataInput ----------
 
     @Override
@@ -82,6 +115,7 @@ public class SplitConsecutiveAccessDataInput extends BaseConsecutiveAccessDataIn
     @Override
     public long skip(long bytes) {
         requireZeroOrPositive(bytes, "skip.bytes");
+        openFirstDiskIfRequired();
 
         long skipped = 0;
 
@@ -102,6 +136,8 @@ public class SplitConsecutiveAccessDataInput extends BaseConsecutiveAccessDataIn
 
     @Override
     public int read(byte[] buf, int offs, int len) {
+        openFirstDiskIfRequired();
+
         int res = 0;
         int size = len;
 
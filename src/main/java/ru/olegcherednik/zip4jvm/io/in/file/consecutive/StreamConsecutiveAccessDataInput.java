@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.in.file.consecutive;
+
+import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.utils.PathUtils;
+import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+
+import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireZeroOrPositive;
+
+/**
+ * Consecutive access to the zip file given as an {@link InputStream}, e.g.
+ * network stream. It is not possible to move backward, but it is possible to
+ * return already read bytes with {@link #unread(byte[], int, int)} (e.g.
+ * bytes read ahead by the decompressor).
+ * <p>
+ * The given stream belongs to the caller, so it is not closed by this data
+ * input.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+public class StreamConsecutiveAccessDataInput extends BaseConsecutiveAccessDataInput {
+
+    public static final int MAX_UNREAD_SIZE = 64 * 1024;
+
+    private final PushbackInputStream is;
+
+    public StreamConsecutiveAccessDataInput(InputStream is) {
+        this.is = new PushbackInputStream(is, MAX_UNREAD_SIZE);
+    }
+
+    /**
+     * Returns given bytes back to the stream, so they will be read again.
+     *
+     * @param buf  buffer
+     * @param offs offset in the buffer
+     * @param len  amount of bytes, not more than {@link #MAX_UNREAD_SIZE}
+     */
+    public void unread(byte[] buf, int offs, int len) {
+        if (len <= 0)
+            return;
+
+        Quietly.doRuntime(() -> is.unread(buf, offs, len));
+        incAbsOffs(-len);
+    }
+
+    /**
+     * Reads the next dword signature without moving forward.
+     *
+     * @return signature or {@code 0} when there are not enough bytes
+     */
+    public int peekDwordSignature() {
+        byte[] buf = new byte[4];
+        int readNow = Math.max(0, read(buf, 0, buf.length));
+        unread(buf, 0, readNow);
+        return readNow == buf.length ? (int) getByteOrder().readDword(buf, 0) : 0;
+    }
+
+    // ---------- DataInput ----------
+
+    @Override
+    public ByteOrder getByteOrder() {
+        return ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public long skip(long bytes) {
+        requireZeroOrPositive(bytes, "skip.bytes");
+
+        long skipped = Quietly.doRuntime(() -> IOUtils.skip(is, bytes));
+        incAbsOffs(skipped);
+        return skipped;
+    }
+
+    /** Unlike an {@link InputStream}, it blocks until all {@code len} bytes are read or end of stream is reached. */
+    @Override
+    public int read(byte[] buf, int offs, int len) {
+        int readNow = Quietly.doRuntime(() -> IOUtils.read(is, buf, offs, len));
+
+        if (readNow == 0 && len > 0)
+            return IOUtils.EOF;
+
+        incAbsOffs(readNow);
+        return readNow;
+    }
+
+    // ---------- AutoCloseable ----------
+
+    @Override
+    public void close() {
+        /* the stream belongs to the caller */
+    }
+
+    // ---------- Object ----------
+
+    @Override
+    public String toString() {
+        return PathUtils.getOffsStr(getAbsOffs());
+    }
+
+}
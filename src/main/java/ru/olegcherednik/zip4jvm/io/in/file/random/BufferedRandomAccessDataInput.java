@@ -0,0 +1,234 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.in.file.random;
+
+import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.io.out.DataOutput;
+import ru.olegcherednik.zip4jvm.model.src.SrcZip;
+import ru.olegcherednik.zip4jvm.utils.ByteUtils;
+import ru.olegcherednik.zip4jvm.utils.PathUtils;
+
+import org.apache.commons.io.IOUtils;
+
+import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireZeroOrPositive;
+
+/**
+ * This decorator reads the given {@link RandomAccessDataInput} with the large
+ * windows and decodes numbers directly from the window array. It is used to
+ * read many small structures one by one (e.g. central directory), when each
+ * {@link #readWord()} or {@link #readDword()} call to the file is too
+ * expensive. Marks are kept by the decorated input, so marks set before and
+ * after decoration are available via both of them.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+public final class BufferedRandomAccessDataInput extends BaseRandomAccessDataInput {
+
+    private static final int MIN_WINDOW_SIZE = 8 * 1024;
+    private static final int MAX_WINDOW_SIZE = 8 * 1024 * 1024;
+
+    private final RandomAccessDataInput in;
+    private final byte[] window;
+    private long windowAbsOffs;
+    private int windowSize;
+    private int windowPos;
+
+    /**
+     * @param srcZip source zip file of the {@code in}
+     * @param in     decorated input
+     * @param size   expected total amount of bytes to read from the current
+     *               position; it is used to choose the window size only
+     * @return not {@literal null} buffered input
+     */
+    public static BufferedRandomAccessDataInput create(SrcZip srcZip, RandomAccessDataInput in, long size) {
+        int windowSize = (int) Math.max(MIN_WINDOW_SIZE, Math.min(MAX_WINDOW_SIZE, size));
+        return new BufferedRandomAccessDataInput(srcZip, in, windowSize);
+    }
+
+    private BufferedRandomAccessDataInput(SrcZip srcZip, RandomAccessDataInput in, int windowSize) {
+        super(srcZip);
+        this.in = in;
+        window = new byte[windowSize];
+        windowAbsOffs = in.getAbsOffs();
+    }
+
+    private int getWindowAvailable() {
+        return windowSize - windowPos;
+    }
+
+    /**
+     * Guarantees that at least {@code bytes} are available in the window if
+     * it is possible.
+     *
+     * @param bytes required amount of bytes
+     * @return {@literal true} if required amount of bytes is available in the
+     * window
+     */
+    private boolean fill(int bytes) {
+        if (getWindowAvailable() >= bytes)
+            return true;
+
+        int available = getWindowAvailable();
+        System.arraycopy(window, windowPos, window, 0, available);
+        windowAbsOffs += windowPos;
+        windowSize = available;
+        windowPos = 0;
+
+        in.seek(windowAbsOffs + windowSize);
+
+        while (windowSize < window.length) {
+            int readNow = in.read(window, windowSize, window.length - windowSize);
+
+            if (readNow == IOUtils.EOF || readNow == 0)
+                break;
+
+            windowSize += readNow;
+        }
+
+        return windowSize >= bytes;
+    }
+
+    // ---------- DataInput ----------
+
+    @Override
+    public ByteOrder getByteOrder() {
+        return in.getByteOrder();
+    }
+
+    @Override
+    public long getAbsOffs() {
+        return windowAbsOffs + windowPos;
+    }
+
+    @Override
+    public int readByte() {
+        if (!fill(ByteUtils.BYTE_SIZE))
+            return super.readByte();
+
+        return window[windowPos++] & 0xFF;
+    }
+
+    @Override
+    public int readWord() {
+        if (!fill(ByteUtils.WORD_SIZE))
+            return super.readWord();
+
+        int val = getByteOrder().readWord(window, windowPos);
+        windowPos += ByteUtils.WORD_SIZE;
+        return val;
+    }
+
+    @Override
+    public long readDword() {
+        if (!fill(ByteUtils.DWORD_SIZE))
+            return super.readDword();
+
+        long val = getByteOrder().readDword(window, windowPos);
+        windowPos += ByteUtils.DWORD_SIZE;
+        return val;
+    }
+
+    @Override
+    public long readQword() {
+        if (!fill(ByteUtils.QWORD_SIZE))
+            return super.readQword();
+
+        long val = getByteOrder().readQword(window, windowPos);
+        windowPos += ByteUtils.QWORD_SIZE;
+        return val;
+    }
+
+    @Override
+    public long skip(long bytes) {
+        requireZeroOrPositive(bytes, "skip.bytes");
+        long skipped = Math.min(bytes, Math.max(0, available()));
+        seek(getAbsOffs() + skipped);
+        return skipped;
+    }
+
+    // ---------- Marker ----------
+
+    @Override
+    public void mark(String id) {
+        in.seek(getAbsOffs());
+        in.mark(id);
+    }
+
+    @Override
+    public long getMark(String id) {
+        return in.getMark(id);
+    }
+
+    @Override
+    public long getMarkSize(String id) {
+        in.seek(getAbsOffs());
+        return in.getMarkSize(id);
+    }
+
+    // ---------- ReadBuffer ----------
+
+    @Override
+    public int read(byte[] buf, int offs, int len) {
+        int readNow = 0;
+
+        while (readNow < len && fill(1)) {
+            int n = Math.min(len - readNow, getWindowAvailable());
+            System.arraycopy(window, windowPos, buf, offs + readNow, n);
+            windowPos += n;
+            readNow += n;
+        }
+
+        return readNow == 0 && len > 0 ? IOUtils.EOF : readNow;
+    }
+
+    // ---------- AutoCloseable ----------
+
+    @Override
+    public void close() {
+        in.close();
+    }
+
+    // ---------- RandomAccessDataInput ----------
+
+    @Override
+    public void seek(long absOffs) {
+        if (absOffs >= windowAbsOffs && absOffs <= windowAbsOffs + windowSize)
+            windowPos = (int) (absOffs - windowAbsOffs);
+        else {
+            windowAbsOffs = absOffs;
+            windowSize = 0;
+            windowPos = 0;
+        }
+    }
+
+    @Override
+    public void transferTo(DataOutput out, long size) {
+        long absOffs = getAbsOffs();
+        in.seek(absOffs);
+        in.transferTo(out, size);
+        seek(absOffs + size);
+    }
+
+    // ---------- Object ----------
+
+    @Override
+    public String toString() {
+        return PathUtils.getOffsStr(getAbsOffs());
+    }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.in.file.random;
+
+import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.io.out.DataOutput;
+import ru.olegcherednik.zip4jvm.model.src.SrcZip;
+import ru.olegcherednik.zip4jvm.utils.PathUtils;
+import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
+
+import org.apache.commons.io.IOUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireZeroOrPositive;
+
+/**
+ * Random access to a single regular file via memory mapped buffers. The file
+ * is mapped with several chunks (one chunk cannot be bigger than
+ * {@link Integer#MAX_VALUE}), so all reads are the plain memory copies without
+ * system calls. Numbers, which are not crossing the chunk boundary, are read
+ * directly from the mapped buffer.
+ * <p>
+ * The mapped buffer holds the file until it is garbage collected (e.g. the
+ * file cannot be deleted on Windows), so {@link #close()} unmaps all chunks
+ * right away when JVM allows it (see {@link #createUnmapper()}); otherwise the
+ * chunks are only released to the garbage collector. The input must not be
+ * used after it is closed.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+public class MappedRandomAccessDataInput extends BaseRandomAccessDataInput {
+
+    private static final int CHUNK_SIZE = 1 << 30;
+    private static final Consumer<ByteBuffer> UNMAPPER = createUnmapper();
+
+    private final FileChannel channel;
+    private final ByteBuffer[] chunks;
+    private long absOffs;
+
+    public MappedRandomAccessDataInput(SrcZip srcZip) {
+        super(srcZip);
+        channel = Quietly.doRuntime(() -> FileChannel.open(srcZip.getDiskByNo(0).getPath(), StandardOpenOption.READ));
+        chunks = map(channel);
+    }
+
+    private static ByteBuffer[] map(FileChannel channel) {
+        return Quietly.doRuntime(() -> {
+            long size = channel.size();
+            ByteBuffer[] buffers = new ByteBuffer[(int) ((size + CHUNK_SIZE - 1) / CHUNK_SIZE)];
+
+            for (int i = 0; i < buffers.length; i++) {
+                long pos = (long) i * CHUNK_SIZE;
+                buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(CHUNK_SIZE, size - pos))
+                                   .order(java.nio.ByteOrder.LITTLE_ENDIAN);
+            }
+
+            return buffers;
+        });
+    }
+
+    private long getSize() {
+        return chunks.length == 0 ? 0 : (long) (chunks.length - 1) * CHUNK_SIZE + chunks[chunks.length - 1].limit();
+    }
+
+    private boolean isInsideChunk(int bytes) {
+        int chunk = (int) (absOffs / CHUNK_SIZE);
+        return chunk < chunks.length && (int) (absOffs % CHUNK_SIZE) + bytes <= chunks[chunk].limit();
+    }
+
+    private ByteBuffer getChunk() {
+        return chunks[(int) (absOffs / CHUNK_SIZE)];
+    }
+
+    private int getChunkOffs() {
+        return (int) (absOffs % CHUNK_SIZE);
+    }
+
+    // ---------- DataInput ----------
+
+    @Override
+    public ByteOrder getByteOrder() {
+        return srcZip.getByteOrder();
+    }
+
+    @Override
+    public long getAbsOffs() {
+        return absOffs;
+    }
+
+    @Override
+    public int readWord() {
+        if (!isInsideChunk(2))
+            return super.readWord();
+
+        int val = getChunk().getShort(getChunkOffs()) & 0xFFFF;
+        absOffs += 2;
+        return val;
+    }
+
+    @Override
+    public long readDword() {
+        if (!isInsideChunk(4))
+            return super.readDword();
+
+        long val = getChunk().getInt(getChunkOffs()) & 0xFFFFFFFFL;
+        absOffs += 4;
+        return val;
+    }
+
+    @Override
+    public long readQword() {
+        if (!isInsideChunk(8))
+            return super.readQword();
+
+        long val = getChunk().getLong(getChunkOffs());
+        absOffs += 8;
+        return val;
+    }
+
+    @Override
+    public long skip(long bytes) {
+        requireZeroOrPositive(bytes, "skip.bytes");
+        long skipped = Math.min(bytes, Math.max(0, getSize() - absOffs));
+        absOffs += skipped;
+        return skipped;
+    }
+
+    // ---------- ReadBuffer ----------
+
+    @Override
+    public int read(byte[] buf, int offs, int len) {
+        long size = getSize();
+
+        if (absOffs >= size)
+            return IOUtils.EOF;
+
+        int total = (int) Math.min(len, size - absOffs);
+        int readNow = 0;
+
+        while (readNow < total) {
+            ByteBuffer chunk = getChunk().duplicate();
+            int chunkOffs = getChunkOffs();
+            int n = Math.min(total - readNow, chunk.limit() - chunkOffs);
+
+            chunk.position(chunkOffs);
+            chunk.get(buf, offs + readNow, n);
+
+            readNow += n;
+            absOffs += n;
+        }
+
+        return readNow;
+    }
+
+    // ---------- AutoCloseable ----------
+
+    @Override
+    public void close() {
+        for (int i = 0; i < chunks.length; i++) {
+            ByteBuffer chunk = chunks[i];
+            chunks[i] = null;
+
+            if (chunk != null)
+                UNMAPPER.accept(chunk);
+        }
+
+        Quietly.doRuntime(channel::close);
+    }
+
+    // ---------- RandomAccessDataInput ----------
+
+    @Override
+    public void seek(long absOffs) {
+        requireZeroOrPositive(absOffs, "seek.absOffs");
+        this.absOffs = absOffs;
+    }
+
+    @Override
+    public void transferTo(DataOutput out, long size) {
+        out.transferFrom(channel, absOffs, size);
+        absOffs += size;
+    }
+
+    /**
+     * Creates a function, which unmaps the buffer right away. It uses
+     * {@code sun.misc.Unsafe.invokeCleaner()} for Java 9+ and
+     * {@code sun.nio.ch.DirectBuffer.cleaner()} for Java 8; when none of them
+     * is available, then the buffer is left to the garbage collector.
+     */
+    private static Consumer<ByteBuffer> createUnmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            return buf -> Quietly.doRuntime(() -> invokeCleaner.invoke(unsafe, buf));
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // Java 8
+        }
+
+        try {
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buf -> Quietly.doRuntime(() -> clean.invoke(cleaner.invoke(buf)));
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            return buf -> {
+                /* the buffer is released by the garbage collector */
+            };
+        }
+    }
+
+    // ---------- Object ----------
+
+    @Override
+    public String toString() {
+        return PathUtils.getOffsStr(absOffs);
+    }
+
+}
@@ -16,7 +16,11 @@
  */
 package ru.olegcherednik.zip4jvm.io.in.file.random;
 
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
 import ru.olegcherednik.zip4jvm.io.in.DataInput;
+import ru.olegcherednik.zip4jvm.io.out.DataOutput;
+
+import org.apache.commons.io.IOUtils;
 
 import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireZeroOrPositive;
 
@@ -43,6 +47,24 @@ public interface RandomAccessDataInput extends DataInput {
         return actual == expected;
     }
 
+    /**
+     * Copies {@code size} bytes starting from the current position to the
+     * given {@code out} as is and moves the current position.
+     */
+    default void transferTo(DataOutput out, long size) {
+        byte[] buf = new byte[(int) Math.min(size, 1024 * 8)];
+
+        while (size > 0) {
+            int n = read(buf, 0, (int) Math.min(buf.length, size));
+
+            if (n == IOUtils.EOF)
+                throw new Zip4jvmException("Unexpected end of file");
+
+            out.write(buf, 0, n);
+            size -= n;
+        }
+    }
+
     default void backward(int bytes) {
         requireZeroOrPositive(bytes, "backward.bytes");
         seek(getAbsOffs() - bytes);
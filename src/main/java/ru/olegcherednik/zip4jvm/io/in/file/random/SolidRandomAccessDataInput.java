@@ -17,30 +17,28 @@
 package ru.olegcherednik.zip4jvm.io.in.file.random;
 
 import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.io.in.file.FileChannelPool;
+import ru.olegcherednik.zip4jvm.io.out.DataOutput;
 import ru.olegcherednik.zip4jvm.model.src.SrcZip;
 import ru.olegcherednik.zip4jvm.utils.PathUtils;
-import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
-
-import org.apache.commons.io.IOUtils;
-
-import java.io.IOException;
-import java.io.RandomAccessFile;
 
 import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireZeroOrPositive;
 
 /**
- * Random access to a single regular file.
+ * Random access to a single regular file. The file is read with positional
+ * reads of the channel from {@link SrcZip#getChannelPool()}.
  *
  * @author Oleg Cherednik
  * @since 10.11.2024
  */
 public class SolidRandomAccessDataInput extends BaseRandomAccessDataInput {
 
-    private final RandomAccessFile raf;
+    private final FileChannelPool.Lease lease;
+    private long absOffs;
 
     public SolidRandomAccessDataInput(SrcZip srcZip) {
         super(srcZip);
-        raf = Quietly.doRuntime(() -> new RandomAccessFile(srcZip.getDiskByNo(0).getPath().toFile(), "r"));
+        lease = srcZip.getChannelPool().acquire(srcZip.getDiskByNo(0));
     }
 
     // ---------- DataInput ----------
@@ -52,45 +50,54 @@ public class SolidRandomAccessDataInput extends BaseRandomAccessDataInput {
 
     @Override
     public long getAbsOffs() {
-        try {
-            return raf.getFilePointer();
-        } catch (IOException e) {
-            return IOUtils.EOF;
-        }
+        return absOffs;
     }
 
     @Override
     public long skip(long bytes) {
         requireZeroOrPositive(bytes, "skip.bytes");
-        return Quietly.doRuntime(() -> raf.skipBytes((int) Math.min(Integer.MAX_VALUE, bytes)));
+        long skipped = Math.min(bytes, Math.max(0, srcZip.getSize() - absOffs));
+        absOffs += skipped;
+        return skipped;
     }
 
     // ---------- ReadBuffer ----------
 
     @Override
     public int read(byte[] buf, int offs, int len) {
-        return Quietly.doRuntime(() -> raf.read(buf, offs, len));
+        int readNow = lease.read(absOffs, buf, offs, len);
+
+        if (readNow > 0)
+            absOffs += readNow;
+
+        return readNow;
     }
 
     // ---------- AutoCloseable ----------
 
     @Override
     public void close() {
-        Quietly.doRuntime(raf::close);
+        lease.close();
     }
 
     // ---------- RandomAccessDataInput ----------
 
     @Override
     public void seek(long absOffs) {
-        Quietly.doRuntime(() -> raf.seek(absOffs));
+        this.absOffs = absOffs;
+    }
+
+    @Override
+    public void transferTo(DataOutput out, long size) {
+        out.transferFrom(lease.getChannel(), absOffs, size);
+        absOffs += size;
     }
 
     // ---------- Object ----------
 
     @Override
     public String toString() {
-        return raf == null ? "<empty>" : PathUtils.getOffsStr(getAbsOffs());
+        return PathUtils.getOffsStr(absOffs);
     }
 
 }
@@ -16,21 +16,22 @@
  */
 package ru.olegcherednik.zip4jvm.io.in.file.random;
 
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
 import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.io.in.file.FileChannelPool;
+import ru.olegcherednik.zip4jvm.io.out.DataOutput;
 import ru.olegcherednik.zip4jvm.model.src.SrcZip;
 import ru.olegcherednik.zip4jvm.utils.PathUtils;
-import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
 
 import org.apache.commons.io.IOUtils;
 
-import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.util.Objects;
 
 import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireZeroOrPositive;
 
 /**
- * Random access to a multiple regular files.
+ * Random access to a multiple regular files. The disks are read with
+ * positional reads of the channels from {@link SrcZip#getChannelPool()}.
  *
  * @author Oleg Cherednik
  * @since 22.01.2020
@@ -38,7 +39,8 @@ import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireZeroOrPositi
 public class SplitRandomAccessDataInput extends BaseRandomAccessDataInput {
 
     private SrcZip.Disk disk;
-    private RandomAccessFile raf;
+    private FileChannelPool.Lease lease;
+    private long diskOffs;
 
     @SuppressWarnings("PMD.ConstructorCallsOverridableMethod")
     public SplitRandomAccessDataInput(SrcZip srcZip) {
@@ -60,16 +62,13 @@ public class SplitRandomAccessDataInput extends BaseRandomAccessDataInput {
             return;
 
         close();
-        raf = Quietly.doRuntime(() -> new RandomAccessFile(disk.getPath().toFile(), "r"));
+        lease = srcZip.getChannelPool().acquire(disk);
         this.disk = disk;
+        diskOffs = 0;
     }
 
     protected long getDiskOffs() {
-        try {
-            return raf.getFilePointer();
-        } catch (IOException e) {
-            return IOUtils.EOF;
-        }
+        return diskOffs;
     }
 
     // ---------- DataInput ----------
@@ -91,9 +90,9 @@ public class SplitRandomAccessDataInput extends BaseRandomAccessDataInput {
         long skipped = 0;
 
         while (bytes > 0) {
-            final long skipBytes = bytes;
-            long actual = Quietly.doRuntime(() -> raf.skipBytes((int) Math.min(Integer.MAX_VALUE, skipBytes)));
+            long actual = Math.min(bytes, Math.max(0, disk.getSize() - diskOffs));
 
+            diskOffs += actual;
             skipped += actual;
             bytes -= actual;
 
@@ -109,8 +108,23 @@ public class SplitRandomAccessDataInput extends BaseRandomAccessDataInput {
     @Override
     public void seek(long absOffs) {
         openDisk(srcZip.getDiskByAbsOffs(absOffs));
-        long relativeOffs = absOffs - disk.getAbsOffs();
-        Quietly.doRuntime(() -> raf.seek(relativeOffs));
+        diskOffs = absOffs - disk.getAbsOffs();
+    }
+
+    @Override
+    public void transferTo(DataOutput out, long size) {
+        while (size > 0) {
+            long n = Math.min(size, disk.getSize() - diskOffs);
+
+            if (n > 0) {
+                out.transferFrom(lease.getChannel(), diskOffs, n);
+                diskOffs += n;
+                size -= n;
+            }
+
+            if (size > 0 && !openNextDisk())
+                throw new Zip4jvmException("Unexpected end of file");
+        }
     }
 
     // ---------- ReadBuffer ----------
@@ -121,12 +135,12 @@ public class SplitRandomAccessDataInput extends BaseRandomAccessDataInput {
         int size = len;
 
         while (res < len) {
-            final int readOffs = offs;
-            final int readSize = size;
-            int readNow = Quietly.doRuntime(() -> raf.read(buf, readOffs, readSize));
+            int readNow = lease.read(diskOffs, buf, offs, size);
 
-            if (readNow > 0)
+            if (readNow > 0) {
                 res += readNow;
+                diskOffs += readNow;
+            }
 
             if (readNow == IOUtils.EOF || readNow < size) {
                 if (!openNextDisk())
@@ -144,8 +158,8 @@ public class SplitRandomAccessDataInput extends BaseRandomAccessDataInput {
 
     @Override
     public void close() {
-        if (raf != null)
-            Quietly.doRuntime(() -> raf.close());
+        if (lease != null)
+            lease.close();
         super.close();
     }
 
@@ -74,6 +74,11 @@ public class BaseDataOutput implements DataOutput {
         out.write(b);
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        out.write(buf, offs, len);
+    }
+
     // ---------- Flushable ----------
 
     @Override
@@ -16,15 +16,23 @@
  */
 package ru.olegcherednik.zip4jvm.io.out;
 
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
 import ru.olegcherednik.zip4jvm.io.ByteOrder;
 import ru.olegcherednik.zip4jvm.io.Marker;
 import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ArrayUtils;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
 /**
  * This interface describes an abstract resource where we can write data
- * consecutively. It does not support a random data access at this level.
+ * consecutively. It does not support a random data access at this level;
+ * the only exception is {@link #patch(int, long, byte[])} of already written
+ * data, when the resource is {@link #isPatchable()}.
  *
  * @author Oleg Cherednik
  * @since 03.08.2019
@@ -60,6 +68,50 @@ public interface DataOutput extends Marker, WriteBuffer {
         return 0;
     }
 
+    /**
+     * Returns {@literal true} if already written data could be overwritten
+     * with {@link #patch(int, long, byte[])}.
+     */
+    default boolean isPatchable() {
+        return false;
+    }
+
+    /**
+     * Overwrites already written data starting from the {@code diskOffs} of the
+     * disk {@code diskNo} with given {@code buf}. Current position is not
+     * changed.
+     */
+    default void patch(int diskNo, long diskOffs, byte[] buf) {
+        throw new Zip4jvmException("DataOutput is not patchable: " + this);
+    }
+
+    /**
+     * Writes {@code size} bytes of the {@code src} starting from {@code pos}.
+     * File based implementations transfer data directly from the channel
+     * without copying it to the user space.
+     */
+    default void transferFrom(FileChannel src, long pos, long size) {
+        byte[] buf = new byte[(int) Math.min(size, 1024 * 8)];
+        ByteBuffer bb = ByteBuffer.wrap(buf);
+
+        try {
+            while (size > 0) {
+                bb.clear();
+                bb.limit((int) Math.min(buf.length, size));
+                int n = src.read(bb, pos);
+
+                if (n == IOUtils.EOF)
+                    throw new Zip4jvmException("Unexpected end of file");
+
+                write(buf, 0, n);
+                pos += n;
+                size -= n;
+            }
+        } catch (IOException e) {
+            throw new Zip4jvmException(e);
+        }
+    }
+
     default void flush() {
         // avoid checked exception
     }
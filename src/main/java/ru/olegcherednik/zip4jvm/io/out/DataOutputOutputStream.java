@@ -50,6 +50,11 @@ public class DataOutputOutputStream extends OutputStream {
         out.write(b);
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) throws IOException {
+        out.write(buf, offs, len);
+    }
+
     @Override
     public void flush() throws IOException {
         out.flush();
@@ -38,6 +38,16 @@ public abstract class MarkerDataOutput implements DataOutput {
         absOffs++;
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        absOffs += len;
+    }
+
+    /** Moves the current position for the {@code len} bytes written bypassing {@link #write(byte[], int, int)}. */
+    protected final void addAbsOffs(long len) {
+        absOffs += len;
+    }
+
     // ---------- Marker ----------
 
     @Override
@@ -16,6 +16,7 @@
  */
 package ru.olegcherednik.zip4jvm.io.out;
 
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
 import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
 
 import lombok.AccessLevel;
@@ -24,12 +25,17 @@ import lombok.RequiredArgsConstructor;
 
 import java.io.BufferedOutputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
- * This is a decorator for {@link OutputStream} only to control {@link #toString()}
- * result.
+ * This is a decorator for {@link OutputStream} to control {@link #toString()}
+ * result. It also allows to {@link #patch(long, byte[], int, int)} already
+ * written data of the file.
  *
  * @author Oleg Cherednik
  * @since 08.08.2019
@@ -38,13 +44,88 @@ import java.nio.file.Path;
 public class OffsOutputStream extends OutputStream {
 
     private final OutputStream out;
+    private final FileChannel channel;
     @Getter
     private long offs;
 
     public static OffsOutputStream create(Path file) {
         return Quietly.doRuntime(() -> {
             Files.createDirectories(file.getParent());
-            return new OffsOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+            FileChannel channel = FileChannel.open(file,
+                                                   StandardOpenOption.CREATE,
+                                                   StandardOpenOption.TRUNCATE_EXISTING,
+                                                   StandardOpenOption.WRITE);
+            return new OffsOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)), channel);
+        });
+    }
+
+    /**
+     * Opens existed {@code file} to continue writing from the given
+     * {@code offs}; all data after this offset is truncated.
+     */
+    public static OffsOutputStream create(Path file, long offs) {
+        return Quietly.doRuntime(() -> {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE);
+            channel.truncate(offs);
+            channel.position(offs);
+
+            OffsOutputStream out = new OffsOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)),
+                                                        channel);
+            out.offs = offs;
+            return out;
+        });
+    }
+
+    /**
+     * Overwrites already written {@code len} bytes starting from the given
+     * {@code offs}. Current {@link #getOffs()} is not changed.
+     */
+    public void patch(long offs, byte[] buf, int pos, int len) {
+        flush();
+        writeAt(channel, offs, buf, pos, len);
+    }
+
+    /**
+     * Writes {@code size} bytes of the {@code src} starting from {@code pos}
+     * directly to the file, i.e. without copying them to the user space when
+     * OS supports it.
+     */
+    public void transferFrom(FileChannel src, long pos, long size) {
+        flush();
+
+        Quietly.doRuntime(() -> {
+            long position = pos;
+            long remaining = size;
+
+            while (remaining > 0) {
+                long n = src.transferTo(position, remaining, channel);
+
+                if (n <= 0)
+                    throw new Zip4jvmException("Unexpected end of file");
+
+                position += n;
+                remaining -= n;
+                offs += n;
+            }
+        });
+    }
+
+    /**
+     * Writes all buffered data and synchronizes the file (both content and
+     * metadata) with the storage device.
+     */
+    public void force() {
+        flush();
+        Quietly.doRuntime(() -> channel.force(true));
+    }
+
+    public static void writeAt(FileChannel channel, long offs, byte[] buf, int pos, int len) {
+        Quietly.doRuntime(() -> {
+            ByteBuffer bb = ByteBuffer.wrap(buf, pos, len);
+            long position = offs;
+
+            while (bb.hasRemaining())
+                position += channel.write(bb, position);
         });
     }
 
@@ -56,6 +137,12 @@ public class OffsOutputStream extends OutputStream {
         offs++;
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        Quietly.doRuntime(() -> out.write(buf, offs, len));
+        this.offs += len;
+    }
+
     @Override
     public void flush() {
         Quietly.doRuntime(out::flush);
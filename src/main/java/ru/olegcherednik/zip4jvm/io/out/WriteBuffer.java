@@ -17,8 +17,14 @@
 package ru.olegcherednik.zip4jvm.io.out;
 
 import java.io.Closeable;
+import java.nio.ByteBuffer;
 
 /**
+ * This interface describes a sink of bytes. Implementations are expected to
+ * override {@link #write(byte[], int, int)} to pass a whole chunk to the
+ * delegate at once; default implementation writes byte by byte and is only a
+ * fallback.
+ *
  * @author Oleg Cherednik
  * @since 02.08.2026
  */
@@ -29,6 +35,27 @@ public interface WriteBuffer extends Closeable {
             write(buf[offs + i]);
     }
 
+    /**
+     * Write all remaining bytes of the given {@code buf} and move its position
+     * to the limit. Heap buffers are written directly via the backing array,
+     * other buffers (e.g. direct) are copied in chunks.
+     */
+    default void write(ByteBuffer buf) {
+        if (buf.hasArray()) {
+            int len = buf.remaining();
+            write(buf.array(), buf.arrayOffset() + buf.position(), len);
+            buf.position(buf.position() + len);
+        } else {
+            byte[] arr = new byte[Math.min(buf.remaining(), 1024 * 8)];
+
+            while (buf.hasRemaining()) {
+                int len = Math.min(buf.remaining(), arr.length);
+                buf.get(arr, 0, len);
+                write(arr, 0, len);
+            }
+        }
+    }
+
     void write(int b);
 
 }
@@ -48,6 +48,11 @@ final class Bzip2EntryDataOutput extends CompressedEntryDataOutput {
         Quietly.doRuntime(() -> bzip2.write(b));
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        Quietly.doRuntime(() -> bzip2.write(buf, offs, len));
+    }
+
     // ---------- AutoCloseable ----------
 
     @Override
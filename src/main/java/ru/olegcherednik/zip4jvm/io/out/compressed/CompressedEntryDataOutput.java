@@ -22,6 +22,7 @@ import ru.olegcherednik.zip4jvm.io.out.DataOutput;
 import ru.olegcherednik.zip4jvm.model.Compression;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
 import ru.olegcherednik.zip4jvm.model.settings.CompressionLevelEnum;
+import ru.olegcherednik.zip4jvm.model.settings.ZipEntrySettings;
 
 /**
  * This class represents a compressed {@link DataOutput} stream using given
@@ -38,8 +39,13 @@ public class CompressedEntryDataOutput extends BaseDataOutput {
 
         if (compression == Compression.STORE)
             return new StoreEntryDataOutput(out);
+        if (isParallelDeflate(entry))
+            return new ParallelDeflateEntryDataOutput(out,
+                                                      compressionLevel,
+                                                      entry.getDeflateThreads(),
+                                                      entry::setCrc32);
         if (compression == Compression.DEFLATE)
-            return new DeflateEntryDataOutput(out, compressionLevel);
+            return new DeflateEntryDataOutput(out, compressionLevel, entry.getDeflateBufferSize());
         if (compression == Compression.DEFLATE_64)
             return new Deflate64EntryDataOutput(out, compressionLevel);
         if (compression == Compression.BZIP2)
@@ -52,6 +58,24 @@ public class CompressedEntryDataOutput extends BaseDataOutput {
         throw new CompressionWritingNotSupportedException(compression);
     }
 
+    /**
+     * Big {@link Compression#DEFLATE} entry is compressed by blocks in
+     * parallel, when it's allowed by {@link ZipEntry#getDeflateThreads()}.
+     * In this case {@link ParallelDeflateEntryDataOutput} calculates CRC32 of
+     * the entry itself.
+     * <p>
+     * Entry with unknown size (i.e. negative) is compressed in parallel as
+     * well, because it could be big; when it's actually small, then it's
+     * compressed as a single block.
+     */
+    public static boolean isParallelDeflate(ZipEntry entry) {
+        long size = entry.getUncompressedSize();
+
+        return entry.getCompression() == Compression.DEFLATE
+                && entry.getDeflateThreads() != ZipEntrySettings.DEFLATE_THREADS_OFF
+                && (size < 0 || size > ParallelDeflateEntryDataOutput.BLOCK_SIZE);
+    }
+
     protected CompressedEntryDataOutput(DataOutput out) {
         super(out);
     }
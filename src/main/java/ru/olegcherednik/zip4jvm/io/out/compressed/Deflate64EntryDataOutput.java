@@ -25,7 +25,8 @@ import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
 /**
  * Writes an entry using Deflate64 ("enhanced deflate", PKWARE method 9).
  * <p>
- * Incoming bytes are handed straight to {@link Deflate64Compressor}, which
+ * Incoming bytes (single or in chunks) are handed straight to
+ * {@link Deflate64Compressor}, which
  * accumulates them in a fixed size buffer and emits one deflate block per batch,
  * so the whole entry is never held in memory.
  *
@@ -38,8 +39,7 @@ final class Deflate64EntryDataOutput extends CompressedEntryDataOutput {
 
     Deflate64EntryDataOutput(DataOutput out, CompressionLevelEnum compressionLevel) {
         super(out);
-        compressor = new Deflate64Compressor(DataOutputOutputStream.createUnseasonable(out),
-                                             maxChain(compressionLevel));
+        compressor = new Deflate64Compressor(DataOutputOutputStream.createUnseasonable(out), compressionLevel);
     }
 
     // ---------- WriteBuffer ----------
@@ -49,6 +49,11 @@ final class Deflate64EntryDataOutput extends CompressedEntryDataOutput {
         Quietly.doRuntime(() -> compressor.write(b));
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        Quietly.doRuntime(() -> compressor.write(buf, offs, len));
+    }
+
     // ---------- AutoCloseable ----------
 
     @Override
@@ -57,18 +62,4 @@ final class Deflate64EntryDataOutput extends CompressedEntryDataOutput {
         super.close();
     }
 
-    // ---------- static ----------
-
-    private static int maxChain(CompressionLevelEnum compressionLevel) {
-        if (compressionLevel == CompressionLevelEnum.SUPER_FAST)
-            return 8;
-        if (compressionLevel == CompressionLevelEnum.FAST)
-            return 32;
-        if (compressionLevel == CompressionLevelEnum.NORMAL)
-            return 128;
-        if (compressionLevel == CompressionLevelEnum.MAXIMUM)
-            return 1024;
-        return 128;
-    }
-
 }
@@ -22,6 +22,14 @@ import ru.olegcherednik.zip4jvm.model.settings.CompressionLevelEnum;
 import java.util.zip.Deflater;
 
 /**
+ * Writes an entry using {@link Deflater}. Incoming bytes are accumulated in
+ * the input buffer, so the {@link Deflater} is always fed with large slices
+ * instead of single bytes; chunks that are not smaller than the buffer are
+ * given to the {@link Deflater} directly.
+ * <p>
+ * {@link Deflater} writes data in zlib format, so the 2-byte header and
+ * 4-byte adler32 trailer are stripped off.
+ *
  * @author Oleg Cherednik
  * @since 26.07.2019
  */
@@ -29,19 +37,40 @@ final class DeflateEntryDataOutput extends CompressedEntryDataOutput {
 
     private static final int FOUR = 4;
 
-    private final byte[] buf1 = new byte[1024 * 4];
-    private final byte[] buf2 = new byte[1];
+    private final byte[] inBuf;
+    private final byte[] outBuf;
     private final Deflater delegate;
 
+    private int inLen;
     private boolean firstBytesRead;
 
-    DeflateEntryDataOutput(DataOutput out, CompressionLevelEnum compressionLevel) {
+    DeflateEntryDataOutput(DataOutput out, CompressionLevelEnum compressionLevel, int bufferSize) {
         super(out);
+        inBuf = new byte[bufferSize];
+        outBuf = new byte[bufferSize];
         delegate = new Deflater(level(compressionLevel));
     }
 
+    private void deflateInput(byte[] buf, int offs, int len) {
+        delegate.setInput(buf, offs, len);
+        deflateUntilNeedsInput();
+    }
+
+    private void deflateInputBuffer() {
+        if (inLen > 0) {
+            deflateInput(inBuf, 0, inLen);
+            inLen = 0;
+        }
+    }
+
+    private void deflateUntilNeedsInput() {
+        while (!delegate.needsInput()) {
+            deflate();
+        }
+    }
+
     private void deflate() {
-        int len = delegate.deflate(buf1, 0, buf1.length);
+        int len = delegate.deflate(outBuf, 0, outBuf.length);
 
         if (len <= 0)
             return;
@@ -55,9 +84,9 @@ final class DeflateEntryDataOutput extends CompressedEntryDataOutput {
         }
 
         if (firstBytesRead)
-            out.write(buf1, 0, len);
+            out.write(outBuf, 0, len);
         else {
-            out.write(buf1, 2, len - 2);
+            out.write(outBuf, 2, len - 2);
             firstBytesRead = true;
         }
     }
@@ -66,22 +95,38 @@ final class DeflateEntryDataOutput extends CompressedEntryDataOutput {
         if (delegate.finished())
             return;
 
+        deflateInputBuffer();
         delegate.finish();
 
         while (!delegate.finished()) {
             deflate();
         }
+
+        delegate.end();
     }
 
     // ---------- WriteBuffer ----------
 
     @Override
     public void write(int b) {
-        buf2[0] = (byte) b;
-        delegate.setInput(buf2);
+        if (inLen == inBuf.length)
+            deflateInputBuffer();
 
-        while (!delegate.needsInput()) {
-            deflate();
+        inBuf[inLen] = (byte) b;
+        inLen++;
+    }
+
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        if (len >= inBuf.length) {
+            deflateInputBuffer();
+            deflateInput(buf, offs, len);
+        } else {
+            if (len > inBuf.length - inLen)
+                deflateInputBuffer();
+
+            System.arraycopy(buf, offs, inBuf, inLen, len);
+            inLen += len;
         }
     }
 
@@ -95,7 +140,7 @@ final class DeflateEntryDataOutput extends CompressedEntryDataOutput {
 
     // ---------- static ----------
 
-    private static int level(CompressionLevelEnum compressionLevel) {
+    static int level(CompressionLevelEnum compressionLevel) {
         if (compressionLevel == CompressionLevelEnum.SUPER_FAST)
             return Deflater.NO_COMPRESSION;
         if (compressionLevel == CompressionLevelEnum.FAST)
@@ -49,6 +49,11 @@ final class LzmaEntryDataOutput extends CompressedEntryDataOutput {
         Quietly.doRuntime(() -> lzma.write(b));
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        Quietly.doRuntime(() -> lzma.write(buf, offs, len));
+    }
+
     // ---------- AutoCloseable ----------
 
     @Override
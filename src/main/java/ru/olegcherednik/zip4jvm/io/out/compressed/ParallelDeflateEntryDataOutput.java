@@ -0,0 +1,215 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.out.compressed;
+
+import ru.olegcherednik.zip4jvm.io.out.DataOutput;
+import ru.olegcherednik.zip4jvm.model.settings.CompressionLevelEnum;
+import ru.olegcherednik.zip4jvm.utils.ChecksumUtils;
+import ru.olegcherednik.zip4jvm.utils.ThreadUtils;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongConsumer;
+import java.util.zip.Checksum;
+import java.util.zip.Deflater;
+
+/**
+ * Writes an entry using {@link Deflater} like <a href="https://zlib.net/pigz">pigz</a>
+ * does: the payload is split into the independent blocks of
+ * {@link #BLOCK_SIZE} bytes, which are compressed concurrently. Each block
+ * is primed with the last {@link #DICTIONARY_SIZE} bytes of the previous block
+ * as a dictionary, so the compression ratio is almost the same as for the
+ * single {@link Deflater}.
+ * <p>
+ * All blocks except the last one are finished with {@link Deflater#SYNC_FLUSH},
+ * i.e. they end on a byte boundary without the final bit; so the
+ * concatenation of all blocks is one valid deflate stream. The current thread
+ * writes compressed blocks in the original order. CRC32 of the entry is
+ * combined from the CRC32 of the blocks.
+ * <p>
+ * Blocks are compressed on the shared pool ({@link ThreadUtils#getSharedExecutor()}),
+ * the same one that prepares the entries, so no pool is created per entry.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+final class ParallelDeflateEntryDataOutput extends CompressedEntryDataOutput {
+
+    static final int BLOCK_SIZE = 256 * 1024;
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final int COMPRESSED_AHEAD_PER_THREAD = 2;
+
+    private final int level;
+    private final LongConsumer saveCrc32;
+    private final ExecutorService executor;
+    private final int maxQueueSize;
+    private final Deque<CompletableFuture<CompressedBlock>> queue = new ArrayDeque<>();
+
+    private byte[] inBuf = new byte[BLOCK_SIZE];
+    private int inLen;
+    private byte[] prvInBuf;
+    private long crc32;
+    private boolean finished;
+
+    ParallelDeflateEntryDataOutput(DataOutput out,
+                                   CompressionLevelEnum compressionLevel,
+                                   int deflateThreads,
+                                   LongConsumer saveCrc32) {
+        super(out);
+        level = DeflateEntryDataOutput.level(compressionLevel);
+        this.saveCrc32 = saveCrc32;
+
+        int totalThreads = ThreadUtils.getTotalThreads(deflateThreads);
+        executor = ThreadUtils.getSharedExecutor();
+        maxQueueSize = totalThreads * COMPRESSED_AHEAD_PER_THREAD;
+    }
+
+    private void submitBlock(boolean last) {
+        byte[] dictionary = prvInBuf;
+        byte[] block = inBuf;
+        int blockLen = inLen;
+
+        queue.add(CompletableFuture.supplyAsync(() -> compress(dictionary, block, blockLen, last), executor));
+
+        prvInBuf = inBuf;
+        inBuf = new byte[BLOCK_SIZE];
+        inLen = 0;
+
+        while (queue.size() > maxQueueSize)
+            writeBlock(queue.remove());
+    }
+
+    private void writeBlock(CompletableFuture<CompressedBlock> task) {
+        CompressedBlock block;
+
+        try {
+            block = task.join();
+        } catch (CompletionException e) {
+            throw ThreadUtils.getTaskException(e);
+        }
+
+        out.write(block.buf, 0, block.len);
+        crc32 = ChecksumUtils.crc32Combine(crc32, block.crc32, block.uncompressedSize);
+    }
+
+    private void finish() {
+        if (finished)
+            return;
+
+        finished = true;
+
+        try {
+            submitBlock(true);
+
+            while (!queue.isEmpty())
+                writeBlock(queue.remove());
+
+            saveCrc32.accept(crc32);
+        } finally {
+            // do not leave running tasks behind when any block fails
+            queue.forEach(task -> task.handle((res, e) -> null).join());
+            queue.clear();
+        }
+    }
+
+    private CompressedBlock compress(byte[] dictionary, byte[] block, int blockLen, boolean last) {
+        Checksum checksum = ChecksumUtils.createCrc32();
+        checksum.update(block, 0, blockLen);
+
+        Deflater deflater = new Deflater(level, true);
+
+        try {
+            if (dictionary != null)
+                deflater.setDictionary(dictionary, dictionary.length - DICTIONARY_SIZE, DICTIONARY_SIZE);
+
+            deflater.setInput(block, 0, blockLen);
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(blockLen / 2 + 64);
+            byte[] tmp = new byte[Math.max(blockLen, DICTIONARY_SIZE)];
+
+            if (last) {
+                deflater.finish();
+
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(tmp);
+                    bos.write(tmp, 0, n);
+                }
+            } else {
+                int n;
+
+                do {
+                    n = deflater.deflate(tmp, 0, tmp.length, Deflater.SYNC_FLUSH);
+                    bos.write(tmp, 0, n);
+                } while (n == tmp.length);
+            }
+
+            return new CompressedBlock(bos.toByteArray(), bos.size(), checksum.getValue(), blockLen);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // ---------- WriteBuffer ----------
+
+    @Override
+    public void write(int b) {
+        inBuf[inLen] = (byte) b;
+        inLen++;
+
+        if (inLen == inBuf.length)
+            submitBlock(false);
+    }
+
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        while (len > 0) {
+            int n = Math.min(len, inBuf.length - inLen);
+            System.arraycopy(buf, offs, inBuf, inLen, n);
+            inLen += n;
+            offs += n;
+            len -= n;
+
+            if (inLen == inBuf.length)
+                submitBlock(false);
+        }
+    }
+
+    // ---------- AutoCloseable ----------
+
+    @Override
+    public void close() {
+        finish();
+        super.close();
+    }
+
+    @RequiredArgsConstructor
+    private static final class CompressedBlock {
+
+        private final byte[] buf;
+        private final int len;
+        private final long crc32;
+        private final long uncompressedSize;
+
+    }
+
+}
@@ -47,6 +47,11 @@ final class ZstdEntryDataOutput extends CompressedEntryDataOutput {
         Quietly.doRuntime(() -> zstd.write(b));
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        Quietly.doRuntime(() -> zstd.write(buf, offs, len));
+    }
+
     // ---------- AutoCloseable ----------
 
     @Override
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.out.compressed.deflate64;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Deflate bit writer (least significant bit first). Bits are collected in a
+ * 64-bit accumulator and moved to the byte buffer by whole 32-bit words; the
+ * buffer is written to the {@link OutputStream} when it is full, so the stream
+ * is not touched for every bit or byte.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+final class BitWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int WORD_BITS = 32;
+
+    private final OutputStream out;
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    private int pos;
+    private long bits;
+    private int bitCount;
+
+    BitWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes {@code numBits} (up to 32) of {@code value}, least significant bit
+     * first; {@code value} must not have bits higher than {@code numBits}.
+     * Huffman codes are expected to be already reversed.
+     */
+    void writeBits(int value, int numBits) throws IOException {
+        bits |= (value & 0xFFFF_FFFFL) << bitCount;
+        bitCount += numBits;
+
+        if (bitCount >= WORD_BITS) {
+            if (pos + 4 > buf.length)
+                flushBuffer();
+
+            int word = (int) bits;
+            buf[pos] = (byte) word;
+            buf[pos + 1] = (byte) (word >>> 8);
+            buf[pos + 2] = (byte) (word >>> 16);
+            buf[pos + 3] = (byte) (word >>> 24);
+            pos += 4;
+            bits >>>= WORD_BITS;
+            bitCount -= WORD_BITS;
+        }
+    }
+
+    /** Pads a partially filled byte with zeroes and moves all pending bits to the buffer. */
+    void align() throws IOException {
+        bitCount = (bitCount + 7) & ~7;
+
+        while (bitCount > 0) {
+            if (pos == buf.length)
+                flushBuffer();
+
+            buf[pos] = (byte) bits;
+            pos++;
+            bits >>>= 8;
+            bitCount -= 8;
+        }
+    }
+
+    /** Writes bytes as is; the writer is aligned to the byte boundary before. */
+    void writeBytes(byte[] src, int offs, int len) throws IOException {
+        align();
+
+        if (len > buf.length - pos)
+            flushBuffer();
+
+        if (len > buf.length)
+            out.write(src, offs, len);
+        else {
+            System.arraycopy(src, offs, buf, pos, len);
+            pos += len;
+        }
+    }
+
+    /** Aligns the writer and writes all buffered bytes to the stream; the stream is not flushed. */
+    void flush() throws IOException {
+        align();
+        flushBuffer();
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buf, 0, pos);
+        pos = 0;
+    }
+
+}
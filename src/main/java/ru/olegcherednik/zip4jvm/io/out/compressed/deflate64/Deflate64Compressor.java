@@ -16,16 +16,16 @@
  */
 package ru.olegcherednik.zip4jvm.io.out.compressed.deflate64;
 
-import lombok.RequiredArgsConstructor;
+import ru.olegcherednik.zip4jvm.model.settings.CompressionLevelEnum;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Arrays;
 
 /**
- * Minimal streaming Deflate64 (a.k.a. "Enhanced Deflate", PKWARE method 9) encoder.
+ * Streaming Deflate64 (a.k.a. "Enhanced Deflate", PKWARE method 9) encoder.
  * <p>
- * Bytes are pushed in one at a time and accumulated in a fixed size buffer. As
+ * Bytes are pushed in (one at a time or in chunks) and accumulated in a fixed size buffer. As
  * soon as {@value #BATCH_SIZE} bytes are pending, they are compressed and emitted
  * as one deflate block; the buffer, then slides, keeping the last
  * {@value #WINDOW_SIZE} bytes as history so that matches may still point back
@@ -33,10 +33,12 @@ import java.util.Arrays;
  * independent of the entry size, mirroring the way {@code DeflateEntryDataOutput}
  * reuses a small buffer around {@link java.util.zip.Deflater}.
  * <p>
- * The encoder is deliberately simple: a greedy LZ77 match finder (hash chains)
- * with <b>fixed Huffman</b> and <b>stored</b> blocks only (no dynamic Huffman).
- * It is faithful to the Deflate64 bitstream defined by 7-Zip's
- * {@code DeflateConst.h}:
+ * LZ77 matches are found with hash chains; like zlib, the encoder uses lazy
+ * matching (the match is deferred when the next position has a longer one),
+ * and the search depth depends on {@link CompressionLevelEnum}. Each block is
+ * written as <b>dynamic Huffman</b>, <b>fixed Huffman</b> or <b>stored</b>,
+ * whichever is the smallest. It is faithful to the Deflate64 bitstream defined
+ * by 7-Zip's {@code DeflateConst.h}:
  * <ul>
  *   <li>a 64 KB sliding window (match distances up to {@value #WINDOW_SIZE}),
  *       which is the essential difference from classic 32 KB Deflate and is
@@ -45,8 +47,8 @@ import java.util.Arrays;
  *       257..284 are used - their meaning is identical in Deflate and Deflate64,
  *       which avoids the length-code-285 ambiguity between the two formats.</li>
  * </ul>
- * Compressed bytes are written straight into the {@link OutputStream} handed to
- * the constructor; the stream is never flushed or closed here.
+ * Compressed bytes are written into the {@link OutputStream} handed to the
+ * constructor via {@link BitWriter}; the stream is never flushed or closed here.
  *
  * @author Oleg Cherednik
  * @since 26.07.2026
@@ -57,6 +59,8 @@ public class Deflate64Compressor {
 
     private static final int MIN_MATCH = 3;
     private static final int MAX_MATCH = 257;       // keeps us within length codes 257..284
+    /** Matches of {@value #MIN_MATCH} bytes with a bigger distance are usually longer than literals. */
+    private static final int TOO_FAR = 4096;
     /** Pending bytes that trigger emission of the next block. */
     private static final int BATCH_SIZE = 1 << 15;  // 32768, keeps a block below the 65535 stored limit
     private static final int BUF_SIZE = WINDOW_SIZE + BATCH_SIZE + MAX_MATCH;
@@ -65,6 +69,20 @@ public class Deflate64Compressor {
     private static final int HASH_SIZE = 1 << HASH_BITS;
     private static final int HASH_MASK = HASH_SIZE - 1;
 
+    private static final int END_OF_BLOCK = 256;
+    private static final int LITERAL_CODES = 285;   // length code 285 is not used
+    private static final int DISTANCE_CODES = 32;
+    private static final int CODE_LENGTH_CODES = 19;
+    private static final int MAX_BITS = 15;
+    private static final int MAX_CODE_LENGTH_BITS = 7;
+
+    /** Order of the code length codes in the header of the dynamic block (RFC 1951 3.2.7). */
+    private static final int[] CODE_LENGTH_ORDER = {
+            16, 17, 18, 0, 8, 7, 9, 6, 10, 5, 11, 4, 12, 3, 13, 2, 14, 1, 15 };
+    private static final int REPEAT_PREVIOUS = 16;
+    private static final int REPEAT_ZERO_SHORT = 17;
+    private static final int REPEAT_ZERO_LONG = 18;
+
     // ---------- RFC 1951 length codes for lengths 3..257 (codes 257..284) ----------
     private static final int[] LEN_BASE = {
             3, 4, 5, 6, 7, 8, 9, 10, 11, 13, 15, 17, 19, 23, 27, 31, 35, 43, 51, 59,
@@ -81,31 +99,46 @@ public class Deflate64Compressor {
             0, 0, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8,
             9, 9, 10, 10, 11, 11, 12, 12, 13, 13, 14, 14 };
 
-    // ---------- fixed Huffman literal/length codes (RFC 1951 3.2.6), MSB-first ----------
-    private static final int[] FIXED_CODE = new int[288];
+    /** Index of the length code for each match length. */
+    private static final int[] LEN_INDEX = new int[MAX_MATCH + 1];
+    /**
+     * Index of the distance code for {@code distance - 1}: first 256 items are
+     * used directly, the rest are used for {@code (distance - 1) >> 7}, like in
+     * zlib.
+     */
+    private static final int[] DIST_INDEX = new int[256 + (WINDOW_SIZE >> 7)];
+
+    // ---------- fixed Huffman codes (RFC 1951 3.2.6), reversed ----------
     private static final int[] FIXED_LEN = new int[288];
+    private static final int[] FIXED_CODE = new int[288];
+    private static final int[] FIXED_DIST_LEN = new int[DISTANCE_CODES];
+    private static final int[] FIXED_DIST_CODE = new int[DISTANCE_CODES];
 
     static {
-        int i = 0;
-        for (; i < 144; i++) {
-            FIXED_CODE[i] = 0x30 + i;
-            FIXED_LEN[i] = 8;
-        }
-        for (; i < 256; i++) {
-            FIXED_CODE[i] = 0x190 + (i - 144);
-            FIXED_LEN[i] = 9;
-        }
-        for (; i < 280; i++) {
-            FIXED_CODE[i] = i - 256;
-            FIXED_LEN[i] = 7;
-        }
-        for (; i < 288; i++) {
-            FIXED_CODE[i] = 0xC0 + (i - 280);
-            FIXED_LEN[i] = 8;
+        for (int i = 0; i < LEN_BASE.length; i++)
+            Arrays.fill(LEN_INDEX, LEN_BASE[i], Math.min(LEN_BASE[i] + (1 << LEN_EXTRA[i]), LEN_INDEX.length), i);
+
+        for (int i = 0; i < DIST_BASE.length; i++) {
+            int from = DIST_BASE[i] - 1;
+            int to = from + (1 << DIST_EXTRA[i]);
+
+            if (from < 256)
+                Arrays.fill(DIST_INDEX, from, to, i);
+            else
+                Arrays.fill(DIST_INDEX, 256 + (from >> 7), 256 + (to >> 7), i);
         }
+
+        Arrays.fill(FIXED_LEN, 0, 144, 8);
+        Arrays.fill(FIXED_LEN, 144, 256, 9);
+        Arrays.fill(FIXED_LEN, 256, 280, 7);
+        Arrays.fill(FIXED_LEN, 280, 288, 8);
+        HuffmanCodes.buildCodes(FIXED_LEN, FIXED_CODE);
+
+        Arrays.fill(FIXED_DIST_LEN, 5);
+        HuffmanCodes.buildCodes(FIXED_DIST_LEN, FIXED_DIST_CODE);
     }
 
-    private final int maxChain;
+    private final Level level;
     private final BitWriter bw;
 
     /**
@@ -118,12 +151,27 @@ public class Deflate64Compressor {
     /** Reused per block, so no allocation happens while streaming. */
     private final int[] tokens = new int[BATCH_SIZE + MAX_MATCH + 1];
 
+    private final int[] litFreq = new int[LITERAL_CODES];
+    private final int[] distFreq = new int[DISTANCE_CODES];
+    private final int[] litLen = new int[LITERAL_CODES];
+    private final int[] litCode = new int[LITERAL_CODES];
+    private final int[] distLen = new int[DISTANCE_CODES];
+    private final int[] distCode = new int[DISTANCE_CODES];
+    private final int[] codeLengthFreq = new int[CODE_LENGTH_CODES];
+    private final int[] codeLengthLen = new int[CODE_LENGTH_CODES];
+    private final int[] codeLengthCode = new int[CODE_LENGTH_CODES];
+    /** Run-length encoded code lengths of the dynamic block: symbol and its extra bits value. */
+    private final int[] codeLengthTokens = new int[LITERAL_CODES + DISTANCE_CODES];
+
     private int start;
     private int end;
+    /** All positions before it are inserted to the hash chains. */
+    private int hashPos;
+    private int matchDistance;
     private boolean finished;
 
-    public Deflate64Compressor(OutputStream out, int maxChain) {
-        this.maxChain = maxChain;
+    public Deflate64Compressor(OutputStream out, CompressionLevelEnum compressionLevel) {
+        level = Level.of(compressionLevel);
         bw = new BitWriter(out);
         Arrays.fill(head, -1);
     }
@@ -144,6 +192,30 @@ public class Deflate64Compressor {
             emitBlock(false);
     }
 
+    /**
+     * Bulk version of {@link #write(int)}: copies the chunk into the sliding
+     * buffer with {@link System#arraycopy}, emitting blocks exactly at the same
+     * positions as byte by byte writing would do.
+     */
+    public void write(byte[] src, int offs, int len) throws IOException {
+        while (len > 0) {
+            if (end == buf.length) {
+                if (start <= WINDOW_SIZE)
+                    emitBlock(false);
+                slide();
+            }
+
+            int n = Math.min(len, Math.min(buf.length - end, BATCH_SIZE - (end - start)));
+            System.arraycopy(src, offs, buf, end, n);
+            end += n;
+            offs += n;
+            len -= n;
+
+            if (end - start >= BATCH_SIZE)
+                emitBlock(false);
+        }
+    }
+
     /** Emits the final block and pads the last byte. Idempotent. */
     public void finish() throws IOException {
         if (finished)
@@ -151,7 +223,7 @@ public class Deflate64Compressor {
 
         finished = true;
         emitBlock(true);
-        bw.align();
+        bw.flush();
     }
 
     // ---------- sliding window ----------
@@ -178,6 +250,7 @@ public class Deflate64Compressor {
 
         start -= shift;
         end -= shift;
+        hashPos -= shift;
     }
 
     // ---------- LZ77 + block emission ----------
@@ -188,56 +261,98 @@ public class Deflate64Compressor {
      * {@value #MAX_MATCH} bytes so that a match starting there can still grow once
      * more input arrives.
      */
-    @SuppressWarnings("PMD.CognitiveComplexity")
     private void emitBlock(boolean last) throws IOException {
         int limit = last ? end : Math.max(start, end - MAX_MATCH);
         int blockStart = start;
         int count = 0;
         int i = start;
+        // length of the match at i; negative when it is not searched yet
+        int len = -1;
+        int dist = 0;
+
+        Arrays.fill(litFreq, 0);
+        Arrays.fill(distFreq, 0);
 
         while (i < limit) {
-            int bestLen = 0;
-            int bestDist = 0;
-            int maxLen = Math.min(MAX_MATCH, end - i);
-
-            if (maxLen >= MIN_MATCH) {
-                int h = hash(i);
-                int j = head[h];
-                int chain = 0;
-
-                while (j >= 0 && (i - j) <= WINDOW_SIZE && chain < maxChain) {
-                    int len = 0;
-                    while (len < maxLen && buf[j + len] == buf[i + len])
-                        len++;
-                    if (len > bestLen) {
-                        bestLen = len;
-                        bestDist = i - j;
-                        if (len >= maxLen)
-                            break;
-                    }
-                    j = prev[j];
-                    chain++;
-                }
+            if (len < 0) {
+                len = findMatch(i, 0);
+                dist = matchDistance;
             }
 
-            if (bestLen >= MIN_MATCH) {
-                tokens[count] = (1 << 30) | (bestLen << 17) | bestDist;
-                count++;
-                int stop = i + bestLen;
-                while (i < stop) {
-                    insert(i);
+            // lazy matching: defer the match when the next position has a longer one
+            if (len >= MIN_MATCH && len < level.maxLazy && i + 1 < limit) {
+                int nextLen = findMatch(i + 1, len);
+
+                if (nextLen > len) {
+                    tokens[count] = addLiteral(i);
+                    count++;
                     i++;
+                    len = nextLen;
+                    dist = matchDistance;
+                    continue;
                 }
+            }
+
+            if (len >= MIN_MATCH) {
+                tokens[count] = addMatch(len, dist);
+                i += len;
             } else {
-                tokens[count] = buf[i] & 0xFF;
-                count++;
-                insert(i);
+                tokens[count] = addLiteral(i);
                 i++;
             }
+
+            count++;
+            len = -1;
         }
 
         start = i;
-        writeBlock(tokens, count, blockStart, start - blockStart, last);
+        writeBlock(count, blockStart, start - blockStart, last);
+    }
+
+    /**
+     * Retrieves the longest match at {@code pos}, which is longer than
+     * {@code prevLen}; distance of the match is saved to {@link #matchDistance}.
+     *
+     * @return length of the match or {@literal 0} when there is no match
+     */
+    private int findMatch(int pos, int prevLen) {
+        while (hashPos < pos) {
+            insert(hashPos);
+            hashPos++;
+        }
+
+        int maxLen = Math.min(MAX_MATCH, end - pos);
+
+        if (maxLen < MIN_MATCH || prevLen >= maxLen)
+            return 0;
+
+        int niceLen = Math.min(level.niceLength, maxLen);
+        int chain = prevLen >= level.goodLength ? level.maxChain >> 2 : level.maxChain;
+        int minPos = pos - WINDOW_SIZE;
+        int bestLen = Math.max(prevLen, MIN_MATCH - 1);
+        int res = 0;
+
+        for (int j = head[hash(pos)]; j >= 0 && j >= minPos && chain > 0; j = prev[j], chain--) {
+            // quick check of the byte, which should make the match longer
+            if (buf[j + bestLen] != buf[pos + bestLen] || buf[j] != buf[pos])
+                continue;
+
+            int len = 1;
+
+            while (len < maxLen && buf[j + len] == buf[pos + len])
+                len++;
+
+            if (len > bestLen) {
+                bestLen = len;
+                res = len;
+                matchDistance = pos - j;
+
+                if (len >= niceLen)
+                    break;
+            }
+        }
+
+        return res == MIN_MATCH && matchDistance > TOO_FAR ? 0 : res;
     }
 
     private void insert(int i) {
@@ -254,49 +369,179 @@ public class Deflate64Compressor {
         return (v * 0x9E3779B1) >>> (32 - HASH_BITS) & HASH_MASK;
     }
 
-    private void writeBlock(int[] tokens, int count, int blockStart, int coverage, boolean last)
-            throws IOException {
-        long fixedBits = fixedCostBits(tokens, count);
-        long storedBits = 3L + 8 + 32 + (long) coverage * 8; // header + align + LEN/NLEN + payload
+    private int addLiteral(int i) {
+        int literal = buf[i] & 0xFF;
+        litFreq[literal]++;
+        return literal;
+    }
+
+    private int addMatch(int length, int distance) {
+        litFreq[257 + LEN_INDEX[length]]++;
+        distFreq[distanceIndex(distance)]++;
+        return (1 << 30) | (length << 17) | distance;
+    }
+
+    // ---------- block writing ----------
+
+    private void writeBlock(int count, int blockStart, int coverage, boolean last) throws IOException {
+        litFreq[END_OF_BLOCK]++;
+
+        HuffmanCodes.buildLengths(litFreq, MAX_BITS, litLen);
+        HuffmanCodes.buildLengths(distFreq, MAX_BITS, distLen);
+
+        int totalLitCodes = Math.max(257, lastUsed(litLen) + 1);
+        int totalDistCodes = Math.max(1, lastUsed(distLen) + 1);
+        int totalCodeLengthTokens = buildCodeLengthTokens(totalLitCodes, totalDistCodes);
+        HuffmanCodes.buildLengths(codeLengthFreq, MAX_CODE_LENGTH_BITS, codeLengthLen);
+        int totalCodeLengthCodes = getTotalCodeLengthCodes();
+
+        long dynamicBits = 3L + 5 + 5 + 4 + 3L * totalCodeLengthCodes
+                + codeLengthCostBits() + costBits(litLen, distLen);
+        long fixedBits = 3L + costBits(FIXED_LEN, FIXED_DIST_LEN);
+        long storedBits = 3L + 7 + 32 + (long) coverage * 8; // header + align + LEN/NLEN + payload
 
         bw.writeBits(last ? 1 : 0, 1);
 
-        if (storedBits < fixedBits) {
+        if (storedBits < fixedBits && storedBits < dynamicBits) {
             bw.writeBits(0, 2);                 // BTYPE = 00 (stored)
             bw.align();
             bw.writeBits(coverage & 0xFFFF, 16);
             bw.writeBits(~coverage & 0xFFFF, 16);
-            for (int k = 0; k < coverage; k++)
-                bw.writeByte(buf[blockStart + k] & 0xFF);
-        } else {
+            bw.writeBytes(buf, blockStart, coverage);
+        } else if (fixedBits <= dynamicBits) {
             bw.writeBits(1, 2);                 // BTYPE = 01 (fixed Huffman)
-            for (int t = 0; t < count; t++)
-                writeToken(tokens[t]);
-            writeSymbol(256);                   // end of block
+            writeTokens(count, FIXED_LEN, FIXED_CODE, FIXED_DIST_LEN, FIXED_DIST_CODE);
+        } else {
+            bw.writeBits(2, 2);                 // BTYPE = 10 (dynamic Huffman)
+            HuffmanCodes.buildCodes(litLen, litCode);
+            HuffmanCodes.buildCodes(distLen, distCode);
+            writeDynamicHeader(totalLitCodes, totalDistCodes, totalCodeLengthTokens, totalCodeLengthCodes);
+            writeTokens(count, litLen, litCode, distLen, distCode);
         }
     }
 
-    private void writeToken(int token) throws IOException {
-        if (!isMatch(token)) {
-            writeSymbol(token & 0xFF);
-            return;
+    private void writeDynamicHeader(int totalLitCodes,
+                                    int totalDistCodes,
+                                    int totalCodeLengthTokens,
+                                    int totalCodeLengthCodes) throws IOException {
+        HuffmanCodes.buildCodes(codeLengthLen, codeLengthCode);
+
+        bw.writeBits(totalLitCodes - 257, 5);
+        bw.writeBits(totalDistCodes - 1, 5);
+        bw.writeBits(totalCodeLengthCodes - 4, 4);
+
+        for (int i = 0; i < totalCodeLengthCodes; i++)
+            bw.writeBits(codeLengthLen[CODE_LENGTH_ORDER[i]], 3);
+
+        for (int i = 0; i < totalCodeLengthTokens; i++) {
+            int symbol = codeLengthTokens[i] & 0xFF;
+            bw.writeBits(codeLengthCode[symbol], codeLengthLen[symbol]);
+
+            if (symbol >= REPEAT_PREVIOUS)
+                bw.writeBits(codeLengthTokens[i] >>> 8, codeLengthExtra(symbol));
         }
+    }
 
-        int length = tokenLength(token);
-        int lenIdx = lengthIndex(length);
-        writeSymbol(257 + lenIdx);
-        if (LEN_EXTRA[lenIdx] > 0)
-            bw.writeBits(length - LEN_BASE[lenIdx], LEN_EXTRA[lenIdx]);
-
-        int distance = tokenDistance(token);
-        int distIdx = distanceIndex(distance);
-        bw.writeHuff(distIdx, 5);               // fixed distance codes are 5 bits, value == code
-        if (DIST_EXTRA[distIdx] > 0)
-            bw.writeBits(distance - DIST_BASE[distIdx], DIST_EXTRA[distIdx]);
+    private void writeTokens(int count, int[] lens, int[] codes, int[] distLens, int[] distCodes) throws IOException {
+        for (int t = 0; t < count; t++) {
+            int token = tokens[t];
+
+            if (isMatch(token)) {
+                int length = tokenLength(token);
+                int lenIdx = LEN_INDEX[length];
+                bw.writeBits(codes[257 + lenIdx], lens[257 + lenIdx]);
+                if (LEN_EXTRA[lenIdx] > 0)
+                    bw.writeBits(length - LEN_BASE[lenIdx], LEN_EXTRA[lenIdx]);
+
+                int distance = tokenDistance(token);
+                int distIdx = distanceIndex(distance);
+                bw.writeBits(distCodes[distIdx], distLens[distIdx]);
+                if (DIST_EXTRA[distIdx] > 0)
+                    bw.writeBits(distance - DIST_BASE[distIdx], DIST_EXTRA[distIdx]);
+            } else
+                bw.writeBits(codes[token], lens[token]);
+        }
+
+        bw.writeBits(codes[END_OF_BLOCK], lens[END_OF_BLOCK]);
     }
 
-    private void writeSymbol(int symbol) throws IOException {
-        bw.writeHuff(FIXED_CODE[symbol], FIXED_LEN[symbol]);
+    // ---------- dynamic block header ----------
+
+    /**
+     * Run-length encodes code lengths of literal/length and distance codes as
+     * one sequence (RFC 1951 3.2.7) and calculates frequencies of the code
+     * length codes.
+     *
+     * @return amount of code length tokens
+     */
+    private int buildCodeLengthTokens(int totalLitCodes, int totalDistCodes) {
+        int total = totalLitCodes + totalDistCodes;
+        int count = 0;
+        int i = 0;
+
+        Arrays.fill(codeLengthFreq, 0);
+
+        while (i < total) {
+            int length = codeLength(i, totalLitCodes);
+            int run = 1;
+
+            while (i + run < total && codeLength(i + run, totalLitCodes) == length)
+                run++;
+
+            int token;
+
+            if (length == 0 && run >= 11) {
+                run = Math.min(run, 138);
+                token = REPEAT_ZERO_LONG | (run - 11) << 8;
+            } else if (length == 0 && run >= 3) {
+                run = Math.min(run, 10);
+                token = REPEAT_ZERO_SHORT | (run - 3) << 8;
+            } else if (i > 0 && length == codeLength(i - 1, totalLitCodes) && run >= 3) {
+                // repeat of the previous length; the first length of the run is written as is
+                run = Math.min(run, 6);
+                token = REPEAT_PREVIOUS | (run - 3) << 8;
+            } else {
+                run = 1;
+                token = length;
+            }
+
+            codeLengthTokens[count] = token;
+            codeLengthFreq[token & 0xFF]++;
+            count++;
+            i += run;
+        }
+
+        return count;
+    }
+
+    private int codeLength(int i, int totalLitCodes) {
+        return i < totalLitCodes ? litLen[i] : distLen[i - totalLitCodes];
+    }
+
+    private int getTotalCodeLengthCodes() {
+        int total = CODE_LENGTH_CODES;
+
+        while (total > 4 && codeLengthLen[CODE_LENGTH_ORDER[total - 1]] == 0)
+            total--;
+
+        return total;
+    }
+
+    private long codeLengthCostBits() {
+        long bits = 0;
+
+        for (int symbol = 0; symbol < CODE_LENGTH_CODES; symbol++)
+            bits += (long) codeLengthFreq[symbol] * (codeLengthLen[symbol] + codeLengthExtra(symbol));
+
+        return bits;
+    }
+
+    private static int codeLengthExtra(int symbol) {
+        if (symbol == REPEAT_PREVIOUS)
+            return 2;
+        if (symbol == REPEAT_ZERO_SHORT)
+            return 3;
+        return symbol == REPEAT_ZERO_LONG ? 7 : 0;
     }
 
     // ---------- token helpers ----------
@@ -313,91 +558,71 @@ public class Deflate64Compressor {
         return token & 0x1FFFF;
     }
 
-    private static long fixedCostBits(int[] tokens, int count) {
+    private long costBits(int[] lens, int[] distLens) {
         long bits = 0;
 
-        for (int t = 0; t < count; t++) {
-            int token = tokens[t];
-            if (!isMatch(token))
-                bits += FIXED_LEN[token & 0xFF];
-            else {
-                int lenIdx = lengthIndex(tokenLength(token));
-                int distIdx = distanceIndex(tokenDistance(token));
-                bits += FIXED_LEN[257 + lenIdx] + LEN_EXTRA[lenIdx] + 5 + DIST_EXTRA[distIdx];
-            }
+        for (int symbol = 0; symbol < LITERAL_CODES; symbol++) {
+            int extra = symbol > END_OF_BLOCK ? LEN_EXTRA[symbol - 257] : 0;
+            bits += (long) litFreq[symbol] * (lens[symbol] + extra);
         }
 
-        return bits + FIXED_LEN[256];
-    }
-
-    private static int lengthIndex(int length) {
-        for (int i = LEN_BASE.length - 1; i >= 0; i--)
-            if (length >= LEN_BASE[i])
-                return i;
-        throw new IllegalArgumentException("length: " + length);
-    }
+        for (int symbol = 0; symbol < DISTANCE_CODES; symbol++)
+            bits += (long) distFreq[symbol] * (distLens[symbol] + DIST_EXTRA[symbol]);
 
-    private static int distanceIndex(int distance) {
-        for (int i = DIST_BASE.length - 1; i >= 0; i--)
-            if (distance >= DIST_BASE[i])
-                return i;
-        throw new IllegalArgumentException("distance: " + distance);
+        return bits;
     }
 
-    // ---------- bit writer (least significant bit first) ----------
+    private static int lastUsed(int[] lengths) {
+        int i = lengths.length - 1;
 
-    @RequiredArgsConstructor
-    private static final class BitWriter {
+        while (i >= 0 && lengths[i] == 0)
+            i--;
 
-        private final OutputStream out;
-        private int cur;
-        private int n;
+        return i;
+    }
 
-        /**
-         * Writes {@code numBits} of {@code value}, least significant bit
-         * first.
-         */
-        void writeBits(int value, int numBits) throws IOException {
-            for (int i = 0; i < numBits; i++) {
-                pushBit(value & 1);
-                value >>>= 1;
-            }
-        }
+    private static int distanceIndex(int distance) {
+        int d = distance - 1;
+        return d < 256 ? DIST_INDEX[d] : DIST_INDEX[256 + (d >> 7)];
+    }
 
-        /**
-         * Writes a canonical Huffman {@code code} of {@code numBits},
-         * most significant bit first.
-         */
-        void writeHuff(int code, int numBits) throws IOException {
-            for (int i = numBits - 1; i >= 0; i--)
-                pushBit((code >>> i) & 1);
-        }
+    // ---------- compression level ----------
 
-        /**
-         * Only legal when byte aligned, i.e. right after {@link #align()}.
-         */
-        void writeByte(int b) throws IOException {
-            out.write(b & 0xFF);
+    /**
+     * Match finder parameters (like zlib's {@code configuration_table}).
+     */
+    private static final class Level {
+
+        private static final Level SUPER_FAST = new Level(4, 0, 32, 8);
+        private static final Level FAST = new Level(8, 16, 32, 32);
+        private static final Level NORMAL = new Level(8, 16, 128, 128);
+        private static final Level MAXIMUM = new Level(32, MAX_MATCH, MAX_MATCH, 1024);
+
+        /** Search depth is reduced when the current match is at least of this length */
+        private final int goodLength;
+        /** Lazy matching is not used for the matches of this length and longer; {@literal 0} means greedy */
+        private final int maxLazy;
+        /** Search stops when the match of this length is found */
+        private final int niceLength;
+        private final int maxChain;
+
+        private Level(int goodLength, int maxLazy, int niceLength, int maxChain) {
+            this.goodLength = goodLength;
+            this.maxLazy = maxLazy;
+            this.niceLength = niceLength;
+            this.maxChain = maxChain;
         }
 
-        /** Flushes a partially filled byte, padding the high bits with zeroes. */
-        void align() throws IOException {
-            if (n > 0) {
-                out.write(cur);
-                cur = 0;
-                n = 0;
-            }
+        static Level of(CompressionLevelEnum compressionLevel) {
+            if (compressionLevel == CompressionLevelEnum.SUPER_FAST)
+                return SUPER_FAST;
+            if (compressionLevel == CompressionLevelEnum.FAST)
+                return FAST;
+            if (compressionLevel == CompressionLevelEnum.MAXIMUM)
+                return MAXIMUM;
+            return NORMAL;
         }
 
-        @SuppressWarnings({ "PMD.AssignmentInOperand", "PMD.AvoidLiteralsInIfCondition" })
-        private void pushBit(int bit) throws IOException {
-            cur |= bit << n;
-            if (++n == 8) {
-                out.write(cur);
-                cur = 0;
-                n = 0;
-            }
-        }
     }
 
 }
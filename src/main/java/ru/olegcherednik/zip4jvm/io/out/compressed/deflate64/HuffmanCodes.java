@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.out.compressed.deflate64;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Builds length-limited canonical Huffman codes for the dynamic deflate
+ * blocks (RFC 1951 3.2.2).
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class HuffmanCodes {
+
+    /**
+     * Retrieves code lengths for the symbols with given {@code freq}; no length
+     * exceeds {@code maxBits}. At least two symbols get a code, because some
+     * decoders do not accept a tree with a single code.
+     */
+    static void buildLengths(int[] freq, int maxBits, int[] lengths) {
+        int[] weights = freq.clone();
+        int used = 0;
+
+        for (int weight : weights)
+            if (weight > 0)
+                used++;
+
+        for (int i = 0; used < 2; i++) {
+            if (weights[i] == 0) {
+                weights[i] = 1;
+                used++;
+            }
+        }
+
+        // flatten the tree until it fits the limit; it is rarely required and converges fast
+        while (!buildLengths(weights, used, maxBits, lengths)) {
+            for (int i = 0; i < weights.length; i++)
+                if (weights[i] > 0)
+                    weights[i] = (weights[i] + 1) >>> 1;
+        }
+    }
+
+    /**
+     * Huffman tree is built with two queues: sorted leaves and internal nodes,
+     * which are created in ascending order of weight.
+     */
+    private static boolean buildLengths(int[] weights, int used, int maxBits, int[] lengths) {
+        long[] leaves = new long[used];
+
+        int total = 0;
+
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0) {
+                leaves[total] = (long) weights[i] << 16 | i;
+                total++;
+            }
+        }
+
+        Arrays.sort(leaves);
+
+        total = used * 2 - 1;
+        long[] weight = new long[total];
+        int[] parent = new int[total];
+
+        for (int i = 0; i < used; i++)
+            weight[i] = leaves[i] >>> 16;
+
+        int leaf = 0;
+        int node = used;
+
+        for (int i = used; i < total; i++) {
+            // each internal node takes two lightest nodes from both queues
+            for (int j = 0; j < 2; j++) {
+                int child;
+
+                if (leaf < used && (node >= i || weight[leaf] <= weight[node])) {
+                    child = leaf;
+                    leaf++;
+                } else {
+                    child = node;
+                    node++;
+                }
+
+                weight[i] += weight[child];
+                parent[child] = i;
+            }
+        }
+
+        // parent is always created after its children, so depth is calculated from the root
+        int[] depth = new int[total];
+
+        for (int i = total - 2; i >= 0; i--)
+            depth[i] = depth[parent[i]] + 1;
+
+        Arrays.fill(lengths, 0);
+
+        for (int i = 0; i < used; i++) {
+            if (depth[i] > maxBits)
+                return false;
+
+            lengths[(int) (leaves[i] & 0xFFFF)] = depth[i];
+        }
+
+        return true;
+    }
+
+    /**
+     * Retrieves canonical codes for the given code {@code lengths}; codes are
+     * reversed to be written least significant bit first.
+     */
+    static void buildCodes(int[] lengths, int[] codes) {
+        int maxBits = 0;
+
+        for (int length : lengths)
+            maxBits = Math.max(maxBits, length);
+
+        int[] count = new int[maxBits + 1];
+
+        for (int length : lengths)
+            count[length]++;
+
+        count[0] = 0;
+        int[] next = new int[maxBits + 1];
+        int code = 0;
+
+        for (int bits = 1; bits <= maxBits; bits++) {
+            code = (code + count[bits - 1]) << 1;
+            next[bits] = code;
+        }
+
+        for (int i = 0; i < lengths.length; i++) {
+            int length = lengths[i];
+
+            if (length > 0) {
+                codes[i] = Integer.reverse(next[length]) >>> (Integer.SIZE - length);
+                next[length]++;
+            }
+        }
+    }
+
+}
@@ -19,9 +19,9 @@ package ru.olegcherednik.zip4jvm.io.out.decorators;
 import ru.olegcherednik.zip4jvm.io.out.BaseDataOutput;
 import ru.olegcherednik.zip4jvm.io.out.DataOutput;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
+import ru.olegcherednik.zip4jvm.utils.ChecksumUtils;
 
-import org.apache.commons.codec.digest.PureJavaCrc32;
-
+import java.nio.ByteBuffer;
 import java.util.function.LongConsumer;
 import java.util.zip.Checksum;
 
@@ -32,7 +32,7 @@ import java.util.zip.Checksum;
 public class ChecksumCalcDataOutput extends BaseDataOutput {
 
     private final LongConsumer saveSize;
-    private final Checksum crc32 = new PureJavaCrc32();
+    private final Checksum crc32 = ChecksumUtils.createCrc32();
 
     public static ChecksumCalcDataOutput create(ZipEntry zipEntry, DataOutput out) {
         return new ChecksumCalcDataOutput(zipEntry::setCrc32, out);
@@ -51,6 +51,18 @@ public class ChecksumCalcDataOutput extends BaseDataOutput {
         super.write(b);
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        crc32.update(buf, offs, len);
+        super.write(buf, offs, len);
+    }
+
+    @Override
+    public void write(ByteBuffer buf) {
+        ChecksumUtils.update(crc32, buf);
+        out.write(buf);
+    }
+
     // ---------- AutoCloseable ----------
 
     @Override
@@ -20,6 +20,7 @@ import ru.olegcherednik.zip4jvm.io.out.BaseDataOutput;
 import ru.olegcherednik.zip4jvm.io.out.DataOutput;
 import ru.olegcherednik.zip4jvm.utils.ByteUtils;
 
+import java.nio.ByteBuffer;
 import java.util.function.LongConsumer;
 
 /**
@@ -67,6 +68,18 @@ public class SizeCalcDataOutput extends BaseDataOutput {
         super.write(b);
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        size += len;
+        super.write(buf, offs, len);
+    }
+
+    @Override
+    public void write(ByteBuffer buf) {
+        size += buf.remaining();
+        out.write(buf);
+    }
+
     // ---------- AutoCloseable ----------
 
     @Override
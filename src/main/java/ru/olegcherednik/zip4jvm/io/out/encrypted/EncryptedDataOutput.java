@@ -19,7 +19,6 @@ package ru.olegcherednik.zip4jvm.io.out.encrypted;
 import ru.olegcherednik.zip4jvm.crypto.Encoder;
 import ru.olegcherednik.zip4jvm.io.out.BaseDataOutput;
 import ru.olegcherednik.zip4jvm.io.out.DataOutput;
-import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
 import ru.olegcherednik.zip4jvm.utils.ByteUtils;
 
 /**
@@ -36,8 +35,8 @@ public class EncryptedDataOutput extends BaseDataOutput {
     private final Encoder encoder;
     private boolean writeHeader = true;
 
-    public static EncryptedDataOutput create(ZipEntry zipEntry, DataOutput out) {
-        return new EncryptedDataOutput(zipEntry.createEncoder(), out);
+    public static EncryptedDataOutput create(Encoder encoder, DataOutput out) {
+        return new EncryptedDataOutput(encoder, out);
     }
 
     protected EncryptedDataOutput(Encoder encoder, DataOutput out) {
@@ -82,6 +81,12 @@ public class EncryptedDataOutput extends BaseDataOutput {
         encoder.encrypt((byte) b, out);
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        writeEncryptionHeaderWhenRequired();
+        encoder.encrypt(buf, offs, len, out);
+    }
+
     // ---------- AutoCloseable ----------
 
     @Override
@@ -22,6 +22,7 @@ import ru.olegcherednik.zip4jvm.io.out.OffsOutputStream;
 
 import lombok.Getter;
 
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 
 /**
@@ -39,6 +40,11 @@ public class SolidDataOutput extends MarkerDataOutput {
         out = OffsOutputStream.create(file);
     }
 
+    public SolidDataOutput(ByteOrder byteOrder, Path file, long offs) {
+        this.byteOrder = byteOrder;
+        out = OffsOutputStream.create(file, offs);
+    }
+
     // ---------- DataOutput ----------
 
     @Override
@@ -66,6 +72,27 @@ public class SolidDataOutput extends MarkerDataOutput {
         return out.getOffs();
     }
 
+    @Override
+    public boolean isPatchable() {
+        return true;
+    }
+
+    @Override
+    public void patch(int diskNo, long diskOffs, byte[] buf) {
+        out.patch(diskOffs, buf, 0, buf.length);
+    }
+
+    @Override
+    public void transferFrom(FileChannel src, long pos, long size) {
+        out.transferFrom(src, pos, size);
+        addAbsOffs(size);
+    }
+
+    /** Synchronizes the file (both content and metadata) with the storage device. */
+    public void force() {
+        out.force();
+    }
+
     // ---------- Flushable ----------
 
     @Override
@@ -81,6 +108,12 @@ public class SolidDataOutput extends MarkerDataOutput {
         super.write(b);
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        out.write(buf, offs, len);
+        super.write(buf, offs, len);
+    }
+
     // ---------- AutoCloseable ----------
 
     @Override
@@ -19,6 +19,8 @@ package ru.olegcherednik.zip4jvm.io.out.file;
 import ru.olegcherednik.zip4jvm.io.writers.ZipModelWriter;
 import ru.olegcherednik.zip4jvm.model.ZipModel;
 
+import java.nio.file.Path;
+
 /**
  * @author Oleg Cherednik
  * @since 08.03.2019
@@ -26,18 +28,50 @@ import ru.olegcherednik.zip4jvm.model.ZipModel;
 public class SolidZipDataOutput extends SolidDataOutput {
 
     protected final ZipModel zipModel;
+    /** When {@literal true}, the file is synchronized with the storage device on {@link #close()} */
+    private final boolean sync;
+    private boolean aborted;
 
     public SolidZipDataOutput(ZipModel zipModel) {
         super(zipModel.getByteOrder(), zipModel.getSrcZip().getPath());
         this.zipModel = zipModel;
+        sync = false;
+    }
+
+    /**
+     * Continues writing to the existed {@code file} from the given
+     * {@code offs}, e.g. to append new entries instead of the central
+     * directory. The file is synchronized with the storage device on
+     * {@link #close()}, so it is safe to drop the rollback data after it.
+     */
+    public SolidZipDataOutput(ZipModel zipModel, Path file, long offs) {
+        super(zipModel.getByteOrder(), file, offs);
+        this.zipModel = zipModel;
+        sync = true;
+    }
+
+    /**
+     * Marks this output as failed: {@link #close()} does not write the central
+     * directory and only releases the file.
+     */
+    public void abort() {
+        aborted = true;
     }
 
     // ---------- AutoCloseable ----------
 
     @Override
     public void close() {
-        new ZipModelWriter(zipModel).write(this);
-        super.close();
+        try {
+            if (!aborted) {
+                new ZipModelWriter(zipModel).write(this);
+
+                if (sync)
+                    force();
+            }
+        } finally {
+            super.close();
+        }
     }
 
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.out.file;
+
+import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.io.out.DataOutput;
+import ru.olegcherednik.zip4jvm.io.out.DataOutputOutputStream;
+import ru.olegcherednik.zip4jvm.io.out.MarkerDataOutput;
+import ru.olegcherednik.zip4jvm.io.out.OffsOutputStream;
+import ru.olegcherednik.zip4jvm.utils.PathUtils;
+import ru.olegcherednik.zip4jvm.utils.ZipUtils;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * This is a temporary storage for the prepared data. Data is kept in memory
+ * until its size exceeds {@code maxMemorySize}; then it's moved to the given
+ * {@code file} and all next data is written directly to this file. Use
+ * {@link #copyTo(DataOutput)} to write the stored data to the destination
+ * (after {@link #close()}) and {@link #delete()} to release the resources.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+public class SpillDataOutput extends MarkerDataOutput {
+
+    private static final int INITIAL_SIZE = 1024 * 4;
+
+    @Getter
+    private final ByteOrder byteOrder;
+    private final Path file;
+    private final int maxMemorySize;
+
+    private byte[] buf;
+    private long size;
+    private OffsOutputStream out;
+
+    public SpillDataOutput(ByteOrder byteOrder, Path file, int maxMemorySize) {
+        this.byteOrder = byteOrder;
+        this.file = file;
+        this.maxMemorySize = maxMemorySize;
+        buf = new byte[Math.min(INITIAL_SIZE, maxMemorySize)];
+    }
+
+    public boolean isSpilled() {
+        return out != null;
+    }
+
+    public void copyTo(DataOutput dst) {
+        if (isSpilled())
+            ZipUtils.copyLarge(PathUtils.newInputStream(file), DataOutputOutputStream.createUnseasonable(dst));
+        else
+            dst.write(buf, 0, (int) size);
+    }
+
+    public void delete() {
+        buf = null;
+
+        if (isSpilled())
+            PathUtils.deleteIfExists(file);
+    }
+
+    private boolean isFitInMemory(int len) {
+        return !isSpilled() && size + len <= maxMemorySize;
+    }
+
+    private void ensureCapacity(int len) {
+        int minCapacity = (int) size + len;
+
+        if (minCapacity > buf.length)
+            buf = Arrays.copyOf(buf, Math.min(maxMemorySize, Math.max(minCapacity, buf.length * 2)));
+    }
+
+    private void spill() {
+        if (!isSpilled()) {
+            PathUtils.deleteIfExists(file);
+            out = OffsOutputStream.create(file);
+            out.write(buf, 0, (int) size);
+            buf = null;
+        }
+    }
+
+    // ---------- DataOutput ----------
+
+    @Override
+    public void writeByte(int val) {
+        byteOrder.writeByte(val, this);
+    }
+
+    @Override
+    public void writeWord(int val) {
+        byteOrder.writeWord(val, this);
+    }
+
+    @Override
+    public void writeDword(long val) {
+        byteOrder.writeDword(val, this);
+    }
+
+    @Override
+    public void writeQword(long val) {
+        byteOrder.writeQword(val, this);
+    }
+
+    @Override
+    public long getDiskOffs() {
+        return size;
+    }
+
+    // ---------- WriteBuffer ----------
+
+    @Override
+    public void write(int b) {
+        if (isFitInMemory(1)) {
+            ensureCapacity(1);
+            buf[(int) size] = (byte) b;
+        } else {
+            spill();
+            out.write(b);
+        }
+
+        size++;
+        super.write(b);
+    }
+
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        if (isFitInMemory(len)) {
+            ensureCapacity(len);
+            System.arraycopy(buf, offs, this.buf, (int) size, len);
+        } else {
+            spill();
+            out.write(buf, offs, len);
+        }
+
+        size += len;
+        super.write(buf, offs, len);
+    }
+
+    // ---------- Flushable ----------
+
+    @Override
+    public void flush() {
+        if (isSpilled())
+            out.flush();
+    }
+
+    // ---------- AutoCloseable ----------
+
+    @Override
+    public void close() {
+        if (isSpilled())
+            out.close();
+    }
+
+    // ---------- Object ----------
+
+    @Override
+    public String toString() {
+        return isSpilled() ? out.toString() : "offs: " + size + " (0x" + Long.toHexString(size) + ')';
+    }
+
+}
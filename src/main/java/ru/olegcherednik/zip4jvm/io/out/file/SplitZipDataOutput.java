@@ -25,12 +25,16 @@ import ru.olegcherednik.zip4jvm.model.DataDescriptor;
 import ru.olegcherednik.zip4jvm.model.ZipModel;
 import ru.olegcherednik.zip4jvm.model.split.SplitTrigger;
 import ru.olegcherednik.zip4jvm.model.src.SrcZip;
+import ru.olegcherednik.zip4jvm.utils.PathUtils;
 import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
 
 import lombok.Getter;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * @author Oleg Cherednik
@@ -68,6 +72,23 @@ public class SplitZipDataOutput extends MarkerDataOutput {
         return false;
     }
 
+    private long getAvailableBytes(long offs) {
+        long available = Long.MAX_VALUE;
+
+        for (SplitTrigger trigger : zipModel.getSplitTriggers())
+            available = Math.min(available, trigger.getAvailableBytes(offs));
+
+        return available;
+    }
+
+    private static void patch(Path diskPath, long diskOffs, byte[] buf, int pos, int len) {
+        try (FileChannel channel = FileChannel.open(diskPath, StandardOpenOption.WRITE)) {
+            OffsOutputStream.writeAt(channel, diskOffs, buf, pos, len);
+        } catch (IOException e) {
+            throw new Zip4jvmException(e);
+        }
+    }
+
     private void openNextDisk() {
         Quietly.doRuntime(() -> out.close());
 
@@ -133,6 +154,55 @@ public class SplitZipDataOutput extends MarkerDataOutput {
         return out.getOffs();
     }
 
+    @Override
+    public boolean isPatchable() {
+        return true;
+    }
+
+    /**
+     * Data could be located on several disks; all previous disks are already
+     * closed and renamed, so they are opened only for the patch.
+     */
+    @Override
+    public void patch(int diskNo, long diskOffs, byte[] buf) {
+        int pos = 0;
+
+        while (pos < buf.length) {
+            if (diskNo == this.diskNo) {
+                out.patch(diskOffs, buf, pos, buf.length - pos);
+                break;
+            }
+
+            Path diskPath = zipModel.getSrcZip().getDiskPath(diskNo + 1);
+            long available = PathUtils.size(diskPath) - diskOffs;
+
+            if (available > 0) {
+                int len = (int) Math.min(buf.length - pos, available);
+                patch(diskPath, diskOffs, buf, pos, len);
+                pos += len;
+                available = 0;
+            }
+
+            diskNo++;
+            diskOffs = -available;
+        }
+    }
+
+    @Override
+    public void transferFrom(FileChannel src, long pos, long size) {
+        while (size > 0) {
+            if (doSplit(getDiskOffs()))
+                openNextDisk();
+
+            long n = Math.max(1, Math.min(size, getAvailableBytes(getDiskOffs())));
+            out.transferFrom(src, pos, n);
+            addAbsOffs(n);
+
+            pos += n;
+            size -= n;
+        }
+    }
+
     @Override
     public void flush() {
         out.flush();
@@ -149,6 +219,21 @@ public class SplitZipDataOutput extends MarkerDataOutput {
         super.write(b);
     }
 
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        while (len > 0) {
+            if (doSplit(getDiskOffs()))
+                openNextDisk();
+
+            int n = (int) Math.max(1, Math.min(len, getAvailableBytes(getDiskOffs())));
+            out.write(buf, offs, n);
+            super.write(buf, offs, n);
+
+            offs += n;
+            len -= n;
+        }
+    }
+
     // ---------- AutoCloseable ----------
 
     @Override
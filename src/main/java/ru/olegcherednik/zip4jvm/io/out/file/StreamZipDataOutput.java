@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.out.file;
+
+import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.io.out.MarkerDataOutput;
+import ru.olegcherednik.zip4jvm.io.writers.ZipModelWriter;
+import ru.olegcherednik.zip4jvm.model.ZipModel;
+import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+
+/**
+ * Writes zip archive to the given {@link OutputStream} (e.g. network stream).
+ * Written data cannot be patched, so all entries should use data descriptor.
+ * Central directory is written on {@link #close()}; the given stream is
+ * flushed, but not closed, because it's owned by the client.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+public class StreamZipDataOutput extends MarkerDataOutput {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    protected final ZipModel zipModel;
+    private final OutputStream out;
+    private long offs;
+
+    public StreamZipDataOutput(ZipModel zipModel, OutputStream out) {
+        this.zipModel = zipModel;
+        this.out = new BufferedOutputStream(out, BUFFER_SIZE);
+    }
+
+    // ---------- DataOutput ----------
+
+    @Override
+    public ByteOrder getByteOrder() {
+        return zipModel.getByteOrder();
+    }
+
+    @Override
+    public void writeByte(int val) {
+        getByteOrder().writeByte(val, this);
+    }
+
+    @Override
+    public void writeWord(int val) {
+        getByteOrder().writeWord(val, this);
+    }
+
+    @Override
+    public void writeDword(long val) {
+        getByteOrder().writeDword(val, this);
+    }
+
+    @Override
+    public void writeQword(long val) {
+        getByteOrder().writeQword(val, this);
+    }
+
+    @Override
+    public long getDiskOffs() {
+        return offs;
+    }
+
+    // ---------- Flushable ----------
+
+    @Override
+    public void flush() {
+        Quietly.doRuntime(out::flush);
+    }
+
+    // ---------- WriteBuffer ----------
+
+    @Override
+    public void write(int b) {
+        Quietly.doRuntime(() -> out.write(b));
+        offs++;
+        super.write(b);
+    }
+
+    @Override
+    public void write(byte[] buf, int offs, int len) {
+        Quietly.doRuntime(() -> out.write(buf, offs, len));
+        this.offs += len;
+        super.write(buf, offs, len);
+    }
+
+    // ---------- AutoCloseable ----------
+
+    @Override
+    public void close() {
+        new ZipModelWriter(zipModel).write(this);
+        flush();
+    }
+
+    // ---------- Object ----------
+
+    @Override
+    public String toString() {
+        return "offs: " + offs;
+    }
+
+}
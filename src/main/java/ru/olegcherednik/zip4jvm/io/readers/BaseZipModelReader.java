@@ -17,6 +17,8 @@
 package ru.olegcherednik.zip4jvm.io.readers;
 
 import ru.olegcherednik.zip4jvm.exception.SignatureNotFoundException;
+import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.io.in.file.random.BufferedRandomAccessDataInput;
 import ru.olegcherednik.zip4jvm.io.in.file.random.RandomAccessDataInput;
 import ru.olegcherednik.zip4jvm.io.readers.zip64.Zip64Reader;
 import ru.olegcherednik.zip4jvm.model.CentralDirectory;
@@ -27,10 +29,15 @@ import ru.olegcherednik.zip4jvm.model.builders.ZipModelBuilder;
 import ru.olegcherednik.zip4jvm.model.charset.CharsetProvider;
 import ru.olegcherednik.zip4jvm.model.password.PasswordProvider;
 import ru.olegcherednik.zip4jvm.model.src.SrcZip;
+import ru.olegcherednik.zip4jvm.utils.ByteUtils;
 
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.commons.io.IOUtils;
+
+import java.util.Arrays;
 
 /**
  * Start reading from the end of the file.
@@ -51,6 +58,8 @@ import lombok.RequiredArgsConstructor;
 public abstract class BaseZipModelReader {
 
     private static final String MARKER_END_CENTRAL_DIRECTORY = "end_central_directory";
+    /** Offset of the comment length in {@link EndCentralDirectory} */
+    private static final int COMMENT_LENGTH_OFFS = EndCentralDirectory.MIN_SIZE - ByteUtils.WORD_SIZE;
 
     protected final SrcZip srcZip;
     protected final CharsetProvider charsetProvider;
@@ -59,6 +68,9 @@ public abstract class BaseZipModelReader {
     protected EndCentralDirectory endCentralDirectory;
     protected CentralDirectory centralDirectory;
     protected Zip64 zip64 = Zip64.NULL;
+    /** Read the solid zip file via memory mapped buffers instead of the {@link java.io.RandomAccessFile}. */
+    @Setter
+    protected boolean memoryMapped;
 
     public final void readCentralData() {
         readCentralData(true);
@@ -90,12 +102,25 @@ public abstract class BaseZipModelReader {
     }
 
     private void readCentralDirectory(RandomAccessDataInput in) {
+        long totalEntries = ZipModelBuilder.getTotalEntries(endCentralDirectory, zip64);
+        centralDirectory = getCentralDirectoryReader(totalEntries).read(seekCentralDirectory(in));
+    }
+
+    /**
+     * Moves given {@code in} to the beginning of the central directory. End
+     * central directory and zip64 should be already read.
+     *
+     * @param in data input
+     * @return data input to read central directory
+     */
+    protected final RandomAccessDataInput seekCentralDirectory(RandomAccessDataInput in) {
         int mainDiskNo = ZipModelBuilder.getMainDiskNo(endCentralDirectory, zip64);
         long relativeOffs = ZipModelBuilder.getCentralDirectoryRelativeOffs(endCentralDirectory, zip64);
-        long totalEntries = ZipModelBuilder.getTotalEntries(endCentralDirectory, zip64);
+        long size = ZipModelBuilder.getCentralDirectorySize(endCentralDirectory, zip64);
 
         in.seek(srcZip.getAbsOffs(mainDiskNo, relativeOffs));
-        centralDirectory = getCentralDirectoryReader(totalEntries).read(in);
+        // read whole central directory (or large windows of it) at once and decode headers from the memory
+        return BufferedRandomAccessDataInput.create(srcZip, in, size);
     }
 
     protected abstract RandomAccessDataInput createDataInput();
@@ -107,21 +132,73 @@ public abstract class BaseZipModelReader {
     protected abstract CentralDirectoryReader getCentralDirectoryReader(long totalEntries);
 
     public static void findEndCentralDirectorySignature(RandomAccessDataInput in) {
-        int commentLength = ZipModel.MAX_COMMENT_SIZE;
-        long absOffs = in.available() - EndCentralDirectory.MIN_SIZE;
+        long size = in.available();
+        long absOffs = size - EndCentralDirectory.MIN_SIZE;
+
+        // zip file without a comment
+        if (absOffs >= 0 && isEndCentralDirectory(in, absOffs)) {
+            markEndCentralDirectory(in, absOffs);
+            return;
+        }
 
-        do {
-            in.seek(absOffs);
-            absOffs--;
-            commentLength--;
+        // read all possible positions of the signature with the comment at once and find it from the end
+        long blockAbsOffs = Math.max(0, absOffs - ZipModel.MAX_COMMENT_SIZE);
+        byte[] buf = readFully(in, blockAbsOffs, (int) (size - blockAbsOffs));
+        ByteOrder byteOrder = in.getByteOrder();
+        int last = -1;
 
-            if (in.isDwordSignature(EndCentralDirectory.SIGNATURE)) {
-                in.mark(MARKER_END_CENTRAL_DIRECTORY);
+        for (int i = buf.length - EndCentralDirectory.MIN_SIZE; i >= 0; i--) {
+            if ((int) byteOrder.readDword(buf, i) != EndCentralDirectory.SIGNATURE)
+                continue;
+
+            // signature could be a part of the comment, so the comment should end exactly at the end of the file
+            if (byteOrder.readWord(buf, i + COMMENT_LENGTH_OFFS) == buf.length - i - EndCentralDirectory.MIN_SIZE) {
+                markEndCentralDirectory(in, blockAbsOffs + i);
                 return;
             }
-        } while (commentLength >= 0 && absOffs >= 0);
 
-        throw new SignatureNotFoundException(EndCentralDirectory.SIGNATURE, "EndCentralDirectory");
+            if (last < 0)
+                last = i;
+        }
+
+        // some tools add data after the zip file, so the last signature is used
+        if (last < 0)
+            throw new SignatureNotFoundException(EndCentralDirectory.SIGNATURE, "EndCentralDirectory");
+
+        markEndCentralDirectory(in, blockAbsOffs + last);
+    }
+
+    private static boolean isEndCentralDirectory(RandomAccessDataInput in, long absOffs) {
+        in.seek(absOffs);
+
+        if (!in.isDwordSignature(EndCentralDirectory.SIGNATURE))
+            return false;
+
+        in.seek(absOffs + COMMENT_LENGTH_OFFS);
+        return in.readWord() == 0;
+    }
+
+    private static void markEndCentralDirectory(RandomAccessDataInput in, long absOffs) {
+        in.seek(absOffs);
+        in.mark(MARKER_END_CENTRAL_DIRECTORY);
+    }
+
+    private static byte[] readFully(RandomAccessDataInput in, long absOffs, int len) {
+        byte[] buf = new byte[Math.max(0, len)];
+        int offs = 0;
+
+        in.seek(absOffs);
+
+        while (offs < buf.length) {
+            int readNow = in.read(buf, offs, buf.length - offs);
+
+            if (readNow == IOUtils.EOF || readNow == 0)
+                return Arrays.copyOf(buf, offs);
+
+            offs += readNow;
+        }
+
+        return buf;
     }
 
 }
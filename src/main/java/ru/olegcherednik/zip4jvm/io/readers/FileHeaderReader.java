@@ -34,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 import java.nio.charset.Charset;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.ObjLongConsumer;
 
 /**
  * @author Oleg Cherednik
@@ -48,13 +49,25 @@ public class FileHeaderReader implements Reader<List<CentralDirectory.FileHeader
     @Override
     public final List<CentralDirectory.FileHeader> read(DataInput in) {
         List<CentralDirectory.FileHeader> fileHeaders = new LinkedList<>();
-
-        for (int i = 0; i < totalEntries; i++)
-            fileHeaders.add(readFileHeader(in));
-
+        read(in, (fileHeader, absOffs) -> fileHeaders.add(fileHeader));
         return fileHeaders;
     }
 
+    /**
+     * Reads file headers one by one and gives each of them to the
+     * {@code consumer} together with its absolute offset, i.e. the whole list
+     * of the file headers is not kept in the memory.
+     *
+     * @param in       data input
+     * @param consumer consumer of the file header and its absolute offset
+     */
+    public final void read(DataInput in, ObjLongConsumer<CentralDirectory.FileHeader> consumer) {
+        for (int i = 0; i < totalEntries; i++) {
+            long absOffs = in.getAbsOffs();
+            consumer.accept(readFileHeader(in), absOffs);
+        }
+    }
+
     protected CentralDirectory.FileHeader readFileHeader(DataInput in) {
         checkSignature(in);
 
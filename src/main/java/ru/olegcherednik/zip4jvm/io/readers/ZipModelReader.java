@@ -20,14 +20,22 @@ import ru.olegcherednik.zip4jvm.engine.unzip.UnzipEngine;
 import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
 import ru.olegcherednik.zip4jvm.io.in.file.random.RandomAccessDataInput;
 import ru.olegcherednik.zip4jvm.io.readers.zip64.Zip64Reader;
+import ru.olegcherednik.zip4jvm.model.CentralDirectory;
 import ru.olegcherednik.zip4jvm.model.Zip64;
 import ru.olegcherednik.zip4jvm.model.ZipModel;
 import ru.olegcherednik.zip4jvm.model.builders.ZipModelBuilder;
 import ru.olegcherednik.zip4jvm.model.charset.CharsetProvider;
 import ru.olegcherednik.zip4jvm.model.charset.UnmodifiedCharsetProvider;
+import ru.olegcherednik.zip4jvm.model.entry.CompactZipEntries;
+import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
+import ru.olegcherednik.zip4jvm.model.entry.ZipEntryBuilder;
 import ru.olegcherednik.zip4jvm.model.password.PasswordProvider;
 import ru.olegcherednik.zip4jvm.model.src.SrcZip;
 import ru.olegcherednik.zip4jvm.utils.ValidationUtils;
+import ru.olegcherednik.zip4jvm.utils.ZipUtils;
+
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
 
 /**
  * @author Oleg Cherednik
@@ -52,6 +60,81 @@ public final class ZipModelReader extends BaseZipModelReader {
         return new ZipModelBuilder(srcZip, endCentralDirectory, zip64, centralDirectory, charsetProvider).build();
     }
 
+    /**
+     * Reads zip model only with entries which names are accepted by the given
+     * {@code fileNameFilter}; the filter gets the name of the entry as it is
+     * in the {@link ZipModel} (i.e. with {@literal /} directory marker). File
+     * headers are read one by one and entries are not created for the rejected
+     * ones. When central directory is encrypted, then all entries are read.
+     *
+     * @param fileNameFilter not {@literal null} filter of the entry names
+     * @return zip model with filtered entries
+     */
+    public ZipModel read(Predicate<String> fileNameFilter) {
+        readCentralData(false);
+
+        if (zip64.isCentralDirectoryEncrypted())
+            return read();
+
+        ZipModel zipModel = new ZipModelBuilder(srcZip, endCentralDirectory, zip64, null, charsetProvider).build();
+
+        readFileHeaders((fileHeader, absOffs) -> {
+            String fileName = fileHeader.getFileName();
+
+            // filter accepts the same name as the entry has in the model
+            if (fileNameFilter.test(ZipUtils.getFileName(fileName, ZipUtils.isDirectory(fileName))))
+                zipModel.addZipEntry(ZipEntryBuilder.build(fileHeader, srcZip, charsetProvider));
+        });
+
+        return zipModel;
+    }
+
+    /**
+     * Reads zip model with entries stored in {@link CompactZipEntries}. File
+     * headers are read one by one and not retained in the memory. When
+     * central directory is encrypted, then regular model is read.
+     *
+     * @return read-only zip model
+     */
+    public ZipModel readCompact() {
+        readCentralData(false);
+
+        if (zip64.isCentralDirectoryEncrypted())
+            return read();
+
+        ZipModel zipModel = new ZipModelBuilder(srcZip, endCentralDirectory, zip64, null, charsetProvider).build();
+        CompactZipEntries compactEntries = new CompactZipEntries(this::readZipEntry);
+
+        readFileHeaders((fileHeader, absOffs) -> compactEntries.add(absOffs,
+                                                                    ZipEntryBuilder.build(fileHeader,
+                                                                                          srcZip,
+                                                                                          charsetProvider)));
+
+        compactEntries.finishInit();
+        zipModel.setCompactEntries(compactEntries);
+        return zipModel;
+    }
+
+    /**
+     * Reads the entry of the compact model; it uses the same data input as the
+     * whole central directory, so {@link #memoryMapped} is respected.
+     */
+    private ZipEntry readZipEntry(long centralDirectoryAbsOffs) {
+        try (RandomAccessDataInput in = createDataInput()) {
+            in.seek(centralDirectoryAbsOffs);
+            CentralDirectory.FileHeader fileHeader = new FileHeaderReader(1, charsetProvider).read(in).get(0);
+            return ZipEntryBuilder.build(fileHeader, srcZip, charsetProvider);
+        }
+    }
+
+        private void readFileHeaders(ObjLongConsumer<CentralDirectory.FileHeader> consumer) {
+        long totalEntries = ZipModelBuilder.getTotalEntries(endCentralDirectory, zip64);
+
+        try (RandomAccessDataInput in = createDataInput()) {
+            new FileHeaderReader(totalEntries, charsetProvider).read(seekCentralDirectory(in), consumer);
+        }
+    }
+
     /**
      * Returns <code>1</code> for single zip and <code>{@literal >}1</code> for split
      *
@@ -78,7 +161,7 @@ public final class ZipModelReader extends BaseZipModelReader {
 
     @Override
     protected RandomAccessDataInput createDataInput() {
-        return UnzipEngine.createRandomAccessDataInput(srcZip);
+        return UnzipEngine.createRandomAccessDataInput(srcZip, memoryMapped);
     }
 
     @Override
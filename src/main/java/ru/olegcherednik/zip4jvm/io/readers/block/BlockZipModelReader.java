@@ -80,7 +80,7 @@ public final class BlockZipModelReader extends BaseZipModelReader {
 
     @Override
     protected RandomAccessDataInput createDataInput() {
-        return UnzipEngine.createRandomAccessDataInput(srcZip);
+        return UnzipEngine.createRandomAccessDataInput(srcZip, memoryMapped);
     }
 
     @Override
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.writers;
+
+import ru.olegcherednik.zip4jvm.engine.unzip.UnzipEngine;
+import ru.olegcherednik.zip4jvm.io.in.file.random.RandomAccessDataInput;
+import ru.olegcherednik.zip4jvm.model.ZipModel;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Closeable;
+
+/**
+ * Source zip of the {@link ExistedEntryWriter}. All entries of the same
+ * {@link ZipModel} are copied using one {@link RandomAccessDataInput}, which
+ * is opened on the first request and kept open until {@link #close()}.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@RequiredArgsConstructor
+public final class ExistedEntrySource implements Closeable {
+
+    @Getter
+    private final ZipModel zipModel;
+    private RandomAccessDataInput in;
+
+    public RandomAccessDataInput getDataInput() {
+        if (in == null)
+            in = UnzipEngine.createRandomAccessDataInput(zipModel.getSrcZip());
+        return in;
+    }
+
+    // ---------- Closeable ----------
+
+    @Override
+    public void close() {
+        if (in != null) {
+            in.close();
+            in = null;
+        }
+    }
+
+}
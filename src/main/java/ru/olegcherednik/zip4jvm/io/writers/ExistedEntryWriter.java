@@ -16,8 +16,6 @@
  */
 package ru.olegcherednik.zip4jvm.io.writers;
 
-import ru.olegcherednik.zip4jvm.engine.unzip.UnzipEngine;
-import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
 import ru.olegcherednik.zip4jvm.io.in.file.random.RandomAccessDataInput;
 import ru.olegcherednik.zip4jvm.io.out.DataOutput;
 import ru.olegcherednik.zip4jvm.io.readers.DataDescriptorReader;
@@ -31,11 +29,11 @@ import ru.olegcherednik.zip4jvm.utils.ZipUtils;
 import ru.olegcherednik.zip4jvm.utils.function.Writer;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.io.IOUtils;
 
 /**
  * This writer copy existed {@link ZipEntry} block from one zip file to another as is. This block is not modified during
- * the copy.
+ * the copy. Entry data is transferred directly between file channels when possible; the source zip is opened once for
+ * all entries (see {@link ExistedEntrySource}).
  *
  * @author Oleg Cherednik
  * @since 12.09.2019
@@ -43,7 +41,7 @@ import org.apache.commons.io.IOUtils;
 @RequiredArgsConstructor
 public class ExistedEntryWriter implements Writer {
 
-    private final ZipModel srcZipModel;
+    private final ExistedEntrySource source;
     private final String entryName;
     private final ZipModel destZipModel;
     private final char[] password;
@@ -52,30 +50,38 @@ public class ExistedEntryWriter implements Writer {
 
     @Override
     public void write(DataOutput out) {
-        ZipEntry entry = srcZipModel.getZipEntryByFileName(entryName);
+        ZipEntry entry = source.getZipModel().getZipEntryByFileName(entryName);
         // TODO it seems that this should not be done, because we just copy encrypted/not encrypted entry
         entry.setPassword(entry.isEncrypted() ? password : null);
 
         long offs = out.getDiskOffs();
         int diskNo = out.getDiskNo();
 
-        try (RandomAccessDataInput in = UnzipEngine.createRandomAccessDataInput(srcZipModel.getSrcZip())) {
-            CopyEntryInputStream is = new CopyEntryInputStream(entry, in);
+        CopyEntryInputStream is = new CopyEntryInputStream(entry, source.getDataInput());
 
-            if (!destZipModel.hasEntry(entryName))
-                destZipModel.addZipEntry(entry);
+        if (!destZipModel.hasEntry(entryName))
+            destZipModel.addZipEntry(entry);
 
-            is.copyLocalFileHeader(out);
-            is.copyEncryptionHeaderAndData(out);
-            is.copyDataDescriptor(out);
-            // TODO probably should set compressed size here
-        }
+        is.copyLocalFileHeader(out);
+        is.copyEncryptionHeaderAndData(out);
+        is.copyDataDescriptor(out);
+        // TODO probably should set compressed size here
 
         entry.setLocalFileHeaderDiskOffs(offs);
         // TODO add setLocalFileHeaderAbsOffs()
         entry.setDiskNo(diskNo);
     }
 
+    /**
+     * Entry is not moved, i.e. it stays on the same place in the source zip
+     * file, which is modified in place; so only add it to the destination
+     * model.
+     */
+    public void keepInPlace() {
+        if (!destZipModel.hasEntry(entryName))
+            destZipModel.addZipEntry(source.getZipModel().getZipEntryByFileName(entryName));
+    }
+
     @Override
     public String toString() {
         return "->" + entryName;
@@ -96,18 +102,7 @@ public class ExistedEntryWriter implements Writer {
         }
 
         void copyEncryptionHeaderAndData(DataOutput out) {
-            long size = zipEntry.getCompressedSize();
-            byte[] buf = new byte[1024 * 4];
-
-            while (size > 0) {
-                int n = in.read(buf, 0, (int) Math.min(buf.length, size));
-
-                if (n == IOUtils.EOF)
-                    throw new Zip4jvmException("Unexpected end of file");
-
-                out.write(buf, 0, n);
-                size -= n;
-            }
+            in.transferTo(out, zipEntry.getCompressedSize());
         }
 
         void copyDataDescriptor(DataOutput out) {
@@ -17,18 +17,18 @@
 package ru.olegcherednik.zip4jvm.io.writers.entry;
 
 import ru.olegcherednik.zip4jvm.io.out.DataOutput;
-import ru.olegcherednik.zip4jvm.io.writers.DataDescriptorWriter;
-import ru.olegcherednik.zip4jvm.model.DataDescriptor;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
 
+import java.nio.file.Path;
+
 /**
  * @author Oleg Cherednik
  * @since 26.02.2023
  */
 final class ZipEntryWithDataDescriptorWriter extends ZipEntryWriter {
 
-    ZipEntryWithDataDescriptorWriter(ZipEntry zipEntry) {
-        super(zipEntry);
+    ZipEntryWithDataDescriptorWriter(ZipEntry zipEntry, Path tempDir) {
+        super(zipEntry, tempDir);
     }
 
     @Override
@@ -36,18 +36,9 @@ final class ZipEntryWithDataDescriptorWriter extends ZipEntryWriter {
         super.write(out);
 
         writeLocalFileHeader(out);
-        writePayload(out);
+        writePreparedPayload(out);
         updateZip64();
         writeDataDescriptor(out);
     }
 
-    private void writeDataDescriptor(DataOutput out) {
-        if (zipEntry.isDataDescriptorAvailable()) {
-            DataDescriptor dataDescriptor = new DataDescriptor(zipEntry.getCrc32(),
-                                                               zipEntry.getCompressedSize(),
-                                                               zipEntry.getUncompressedSize());
-            DataDescriptorWriter.get(zipEntry.isZip64(), dataDescriptor).write(out);
-        }
-    }
-
 }
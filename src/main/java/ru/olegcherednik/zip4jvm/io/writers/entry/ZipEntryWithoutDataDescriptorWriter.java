@@ -16,29 +16,83 @@
  */
 package ru.olegcherednik.zip4jvm.io.writers.entry;
 
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
+import ru.olegcherednik.zip4jvm.io.ByteOrder;
 import ru.olegcherednik.zip4jvm.io.out.DataOutput;
-import ru.olegcherednik.zip4jvm.io.out.DataOutputOutputStream;
-import ru.olegcherednik.zip4jvm.io.out.file.SolidDataOutput;
+import ru.olegcherednik.zip4jvm.model.Encryption;
+import ru.olegcherednik.zip4jvm.model.LocalFileHeader;
+import ru.olegcherednik.zip4jvm.model.builders.LocalFileHeaderBuilder;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
 import ru.olegcherednik.zip4jvm.utils.ChecksumUtils;
-import ru.olegcherednik.zip4jvm.utils.PathUtils;
-import ru.olegcherednik.zip4jvm.utils.ZipUtils;
-
-import org.apache.commons.io.FileUtils;
 
 import java.nio.file.Path;
 
+import static ru.olegcherednik.zip4jvm.model.ZipModel.MAX_ENTRY_SIZE;
+
 /**
+ * Local file header of this entry contains checksum and sizes, which are
+ * known only after the payload is written. When the destination
+ * {@link DataOutput#isPatchable()}, the header is written with placeholders,
+ * the payload is streamed once and then the header is patched in place.
+ * Otherwise the payload is prepared in a temporary storage before the header
+ * is written.
+ *
  * @author Oleg Cherednik
  * @since 26.02.2023
  */
 final class ZipEntryWithoutDataDescriptorWriter extends ZipEntryWriter {
 
-    private final Path tempDir;
+    /** Offset of the crc32, compressed and uncompressed size fields in the local file header. */
+    private static final int CRC32_OFFS = 14;
 
     ZipEntryWithoutDataDescriptorWriter(ZipEntry zipEntry, Path tempDir) {
-        super(zipEntry);
-        this.tempDir = tempDir;
+        super(zipEntry, tempDir);
+    }
+
+    @Override
+    public void preparePayload(ByteOrder byteOrder) {
+        calcCrc32ForPkware();
+        super.preparePayload(byteOrder);
+    }
+
+    /**
+     * PKWARE encryption header contains checksum, so it should be known before
+     * the payload is written; otherwise it is calculated while the payload is
+     * written, i.e. the source is read only once.
+     */
+    private void calcCrc32ForPkware() {
+        if (zipEntry.getEncryption() == Encryption.PKWARE)
+            zipEntry.setCrc32(ChecksumUtils.crc32(zipEntry.createInputStream()));
+    }
+
+    // ---------- Writer ----------
+
+    private boolean isPatchAvailable(DataOutput out) {
+        // sizes are checked before the payload is written, so header is written without zip64 extra field;
+        // compressed payload could be a bit bigger than uncompressed one
+        return !isPayloadPrepared()
+                && out.isPatchable()
+                && !zipEntry.isZip64()
+                && zipEntry.getUncompressedSize() >= 0
+                && zipEntry.getUncompressedSize() <= MAX_ENTRY_SIZE / 2;
+    }
+
+    private void writeAndPatch(DataOutput out) {
+        calcCrc32ForPkware();
+        writeLocalFileHeader(out);
+        writePayload(out);
+
+        if (zipEntry.getCompressedSize() > MAX_ENTRY_SIZE || zipEntry.getUncompressedSize() > MAX_ENTRY_SIZE)
+            throw new Zip4jvmException("Entry is too big to be written without zip64: " + zipEntry.getFileName());
+
+        LocalFileHeader localFileHeader = new LocalFileHeaderBuilder(zipEntry).build();
+        byte[] crcAndSizes = new byte[12];
+
+        out.getByteOrder().writeDword(localFileHeader.getCrc32(), crcAndSizes, 0);
+        out.getByteOrder().writeDword(localFileHeader.getCompressedSize(), crcAndSizes, 4);
+        out.getByteOrder().writeDword(localFileHeader.getUncompressedSize(), crcAndSizes, 8);
+
+        out.patch(zipEntry.getDiskNo(), zipEntry.getLocalFileHeaderDiskOffs() + CRC32_OFFS, crcAndSizes);
     }
 
     // ---------- Writer ----------
@@ -47,20 +101,17 @@ final class ZipEntryWithoutDataDescriptorWriter extends ZipEntryWriter {
     public void write(DataOutput out) {
         super.write(out);
 
-        Path tempFile = tempDir.resolve(zipEntry.getFileName());
-        PathUtils.deleteIfExists(tempFile);
-
-        zipEntry.setCrc32(ChecksumUtils.crc32(zipEntry.createInputStream()));
+        if (isPatchAvailable(out))
+            writeAndPatch(out);
+        else {
+            if (!isPayloadPrepared())
+                preparePayload(out.getByteOrder());
 
-        try (SolidDataOutput tmpOut = new SolidDataOutput(out.getByteOrder(), tempFile)) {
-            writePayload(tmpOut);
+            writeLocalFileHeader(out);
+            writePreparedPayload(out);
         }
 
-        writeLocalFileHeader(out);
-        ZipUtils.copyLarge(PathUtils.newInputStream(tempFile), DataOutputOutputStream.createUnseasonable(out));
-
         updateZip64();
-        FileUtils.deleteQuietly(tempDir.toFile());
     }
 
 }
@@ -16,6 +16,8 @@
  */
 package ru.olegcherednik.zip4jvm.io.writers.entry;
 
+import ru.olegcherednik.zip4jvm.crypto.Encoder;
+import ru.olegcherednik.zip4jvm.io.ByteOrder;
 import ru.olegcherednik.zip4jvm.io.out.DataOutput;
 import ru.olegcherednik.zip4jvm.io.out.DataOutputOutputStream;
 import ru.olegcherednik.zip4jvm.io.out.compressed.CompressedEntryDataOutput;
@@ -24,18 +26,25 @@ import ru.olegcherednik.zip4jvm.io.out.decorators.UnseasonableDataOutput;
 import ru.olegcherednik.zip4jvm.io.out.decorators.size.CompressedSizeCalcDataOutput;
 import ru.olegcherednik.zip4jvm.io.out.decorators.size.UncompressedSizeCalcDataOutput;
 import ru.olegcherednik.zip4jvm.io.out.encrypted.EncryptedDataOutput;
+import ru.olegcherednik.zip4jvm.io.out.file.SpillDataOutput;
+import ru.olegcherednik.zip4jvm.io.writers.DataDescriptorWriter;
 import ru.olegcherednik.zip4jvm.io.writers.LocalFileHeaderWriter;
+import ru.olegcherednik.zip4jvm.model.DataDescriptor;
 import ru.olegcherednik.zip4jvm.model.LocalFileHeader;
 import ru.olegcherednik.zip4jvm.model.builders.LocalFileHeaderBuilder;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
+import ru.olegcherednik.zip4jvm.utils.ThreadUtils;
 import ru.olegcherednik.zip4jvm.utils.ZipUtils;
 import ru.olegcherednik.zip4jvm.utils.function.Writer;
 
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.io.FileUtils;
 
 import java.nio.file.Path;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static ru.olegcherednik.zip4jvm.model.ZipModel.MAX_ENTRY_SIZE;
 import static ru.olegcherednik.zip4jvm.model.ZipModel.MAX_LOCAL_FILE_HEADER_OFFS;
@@ -48,16 +57,101 @@ import static ru.olegcherednik.zip4jvm.model.ZipModel.MAX_TOTAL_DISKS;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class ZipEntryWriter implements Writer {
 
+    /** Max size of the prepared payload kept in memory; bigger payload is moved to the temporary file. */
+    public static final int MAX_PAYLOAD_MEMORY_SIZE = 1024 * 1024;
+
     protected final ZipEntry zipEntry;
+    protected final Path tempDir;
 
-    public static ZipEntryWriter create(ZipEntry entry, Path tempDir) {
-        if (entry.isDataDescriptorAvailable())
-            return new ZipEntryWithDataDescriptorWriter(entry);
+    private SpillDataOutput payload;
+    /** Encoder created in advance by {@link #prepareEncoder()}; {@literal null} when it's not prepared */
+    private CompletableFuture<Encoder> encoder;
 
+    public static ZipEntryWriter create(ZipEntry entry, Path tempDir) {
         Path dir = tempDir.resolve(UUID.randomUUID().toString());
+
+        if (entry.isDataDescriptorAvailable())
+            return new ZipEntryWithDataDescriptorWriter(entry, dir);
         return new ZipEntryWithoutDataDescriptorWriter(entry, dir);
     }
 
+    /**
+     * Creates a writer, which streams the payload of the given {@code entry}
+     * directly to the destination and puts checksum and sizes to the data
+     * descriptor after it. Neither temporary storage nor patching of the
+     * destination is required, so {@link #preparePayload(ByteOrder)} should
+     * not be used.
+     */
+    public static ZipEntryWriter createWithDataDescriptor(ZipEntry entry) {
+        entry.setDataDescriptorAvailable(true);
+        return new ZipEntryWithDataDescriptorWriter(entry, null);
+    }
+
+    /**
+     * Starts creation of the encoder in the background, so the writer does not
+     * wait for it. It makes sense only for AES encryption, where PBKDF2 key
+     * derivation is expensive by design. It should be invoked when the entry
+     * is definitely going to be written, i.e. not when it is added.
+     */
+    public void prepareEncoder() {
+        if (encoder == null && zipEntry.getEncryption().isAes())
+            encoder = CompletableFuture.supplyAsync(zipEntry::createEncoder, ThreadUtils.getSharedExecutor());
+    }
+
+    /**
+     * Retrieves the encoder prepared by {@link #prepareEncoder()} or creates a
+     * new one. Each encoder is used only once, because AES salt must not be
+     * reused.
+     */
+    private Encoder takeEncoder() {
+        CompletableFuture<Encoder> future = encoder;
+        encoder = null;
+
+        if (future == null)
+            return zipEntry.createEncoder();
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw ThreadUtils.getTaskException(e);
+        }
+    }
+
+    /**
+     * Compress and encrypt the payload of the entry in advance and keep it in
+     * a temporary storage until {@link #write(DataOutput)} is invoked. This
+     * method does not touch the destination, so it's safe to invoke it for
+     * different entries concurrently. Temporary storage is deleted when this
+     * method fails.
+     */
+    public void preparePayload(ByteOrder byteOrder) {
+        Path tempFile = tempDir.resolve(zipEntry.getFileName());
+        boolean prepared = false;
+
+        try (SpillDataOutput out = new SpillDataOutput(byteOrder, tempFile, MAX_PAYLOAD_MEMORY_SIZE)) {
+            payload = out;
+            writePayload(out);
+            prepared = true;
+        } finally {
+            if (!prepared)
+                discardPayload();
+        }
+    }
+
+    /** Deletes the temporary storage of the prepared payload, which is not going to be written. */
+    public void discardPayload() {
+        if (payload != null) {
+            payload.delete();
+            payload = null;
+        }
+
+        FileUtils.deleteQuietly(tempDir.toFile());
+    }
+
+    protected final boolean isPayloadPrepared() {
+        return payload != null;
+    }
+
     protected final void writeLocalFileHeader(DataOutput out) {
         zipEntry.setLocalFileHeaderDiskOffs(out.getDiskOffs());
         // TODO add setLocalFileHeaderAbsOffs()
@@ -79,14 +173,35 @@ public class ZipEntryWriter implements Writer {
     protected final void writePayload(DataOutput out) {
         out = new UnseasonableDataOutput(out);
         out = CompressedSizeCalcDataOutput.create(zipEntry, out);
-        out = EncryptedDataOutput.create(zipEntry, out);
+        out = EncryptedDataOutput.create(takeEncoder(), out);
         out = CompressedEntryDataOutput.create(zipEntry, out);
         out = UncompressedSizeCalcDataOutput.create(zipEntry, out);
-        out = ChecksumCalcDataOutput.create(zipEntry, out);
+
+        // parallel deflate combines checksum of the entry from the checksums of the blocks
+        if (!CompressedEntryDataOutput.isParallelDeflate(zipEntry))
+            out = ChecksumCalcDataOutput.create(zipEntry, out);
 
         ZipUtils.copyLarge(zipEntry.createInputStream(), DataOutputOutputStream.create(out));
     }
 
+    protected final void writePreparedPayload(DataOutput out) {
+        if (payload == null)
+            writePayload(out);
+        else {
+            payload.copyTo(out);
+            discardPayload();
+        }
+    }
+
+    protected final void writeDataDescriptor(DataOutput out) {
+        if (zipEntry.isDataDescriptorAvailable()) {
+            DataDescriptor dataDescriptor = new DataDescriptor(zipEntry.getCrc32(),
+                                                               zipEntry.getCompressedSize(),
+                                                               zipEntry.getUncompressedSize());
+            DataDescriptorWriter.get(zipEntry.isZip64(), dataDescriptor).write(out);
+        }
+    }
+
     // ---------- Writer ----------
 
     @Override
@@ -21,6 +21,7 @@ import ru.olegcherednik.zip4jvm.crypto.DecoderFactory;
 import ru.olegcherednik.zip4jvm.crypto.Encoder;
 import ru.olegcherednik.zip4jvm.crypto.EncoderFactory;
 import ru.olegcherednik.zip4jvm.crypto.aes.AesStrength;
+import ru.olegcherednik.zip4jvm.crypto.aes.WinZipAesKeyCache;
 import ru.olegcherednik.zip4jvm.crypto.aes.factory.WinZipAesDecoderFactory;
 import ru.olegcherednik.zip4jvm.crypto.aes.factory.WinZipAesEncoderFactory;
 import ru.olegcherednik.zip4jvm.crypto.pkware.factory.PkwareDecoderFactory;
@@ -97,10 +98,10 @@ public enum Encryption {
     }
 
     // @NotNull
-    public Decoder createDecoder(ZipEntry zipEntry, DataInput in) {
+    public Decoder createDecoder(ZipEntry zipEntry, DataInput in, WinZipAesKeyCache keyCache) {
         return Optional.ofNullable(decoderFactory)
                        .orElseThrow(() -> new EncryptionNotSupportedException(this))
-                       .createDecoder(zipEntry, in);
+                       .createDecoder(zipEntry, in, keyCache);
     }
 
     public boolean isAes() {
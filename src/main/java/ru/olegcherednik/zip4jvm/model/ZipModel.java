@@ -17,10 +17,13 @@
 package ru.olegcherednik.zip4jvm.model;
 
 import ru.olegcherednik.zip4jvm.exception.EntryNotFoundException;
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
 import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.model.entry.CompactZipEntries;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
 import ru.olegcherednik.zip4jvm.model.split.SplitTrigger;
 import ru.olegcherednik.zip4jvm.model.src.SrcZip;
+import ru.olegcherednik.zip4jvm.utils.ZipUtils;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -30,12 +33,15 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -63,6 +69,12 @@ public final class ZipModel {
     public static final int MAX_TOTAL_DISKS = Zip64.LIMIT_WORD;
     public static final int MAX_COMMENT_SIZE = Zip64.LIMIT_WORD;
 
+    /** Rough size of the {@link ZipEntry} with its fields, map node and name without its chars */
+    private static final int ENTRY_MEMORY_SIZE = 256;
+    /** Minimal size of the file header in the central directory, i.e. file header without name and extra fields */
+    private static final int MIN_FILE_HEADER_SIZE = 46;
+
+    /** {@literal null} when the zip archive is written to the stream */
     private final SrcZip srcZip;
     private final Set<SplitTrigger> splitTriggers = new HashSet<>();
 
@@ -83,8 +95,34 @@ public final class ZipModel {
     private boolean zip64;
     private boolean centralDirectoryEncrypted;
 
+    /**
+     * Every read and write of this map and the indices built on it
+     * ({@link #sortedEntryNames}, {@link #absOffsAscEntries} and
+     * {@link #entriesMemorySize}) is guarded by its monitor; collections are
+     * retrieved as snapshots, so they are not changed by the other threads.
+     */
     @Getter(AccessLevel.NONE)
     private final Map<String, ZipEntry> fileNameEntry = new LinkedHashMap<>();
+    /**
+     * Read-only storage of the entries of the existed zip file; when it is set,
+     * then {@link #fileNameEntry} is not used. It is set only when the model
+     * is built, i.e. before the model is shared.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private CompactZipEntries compactEntries;
+    /** Sorted entry names to find entries by prefix; it is created on demand */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String[] sortedEntryNames;
+    /** Entries sorted by the offset in the zip file; it is created on demand */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private List<ZipEntry> absOffsAscEntries;
+    /** Estimated memory size of the entries in {@link #fileNameEntry} */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long entriesMemorySize;
 
     private static final Comparator<ZipEntry> SORT_BY_ABS_OFFS =
             Comparator.comparingInt(ZipEntry::getDiskNo)
@@ -92,18 +130,82 @@ public final class ZipModel {
 
     // @NotNull
     public Iterator<ZipEntry> absOffsAscIterator() {
-        if (fileNameEntry.isEmpty())
+        if (compactEntries != null)
+            return compactEntries.absOffsAscIterator();
+        if (isEmpty())
             return Collections.emptyIterator();
+        return getAbsOffsAscEntries().iterator();
+    }
 
-        List<ZipEntry> entries = fileNameEntry.values().stream()
-                                              .sorted(SORT_BY_ABS_OFFS)
-                                              .collect(Collectors.toList());
+    /**
+     * Retrieves entries sorted by the offset in the zip file. The order is
+     * calculated only once and is kept until the entries are changed (see
+     * {@link #addZipEntry(ZipEntry)}, {@link #removeZipEntry(String)} and
+     * {@link #invalidateIndices()}), so repeated iteration does not sort the
+     * entries again.
+     *
+     * @return not {@literal null} read-only random access list
+     */
+    public List<ZipEntry> getAbsOffsAscEntries() {
+        if (compactEntries != null)
+            return compactEntries.getAbsOffsAscEntries();
+
+        synchronized (fileNameEntry) {
+            if (absOffsAscEntries == null) {
+                List<ZipEntry> entries = new ArrayList<>(fileNameEntry.values());
+                // entries are usually already sorted, so it takes linear time
+                entries.sort(SORT_BY_ABS_OFFS);
+                absOffsAscEntries = Collections.unmodifiableList(entries);
+            }
+
+            return absOffsAscEntries;
+        }
+    }
+
+    /**
+     * Retrieves name of the entry on the given position in ascending order of
+     * the offset in the zip file. Together with {@link #getAbsOffsAscEntry(int)}
+     * it is a primitive cursor over the positions from {@code 0} to
+     * {@link #getTotalEntries()}; compact entries are not created to get their
+     * names.
+     *
+     * @param pos position of the entry in ascending order of the offset
+     * @return not {@literal null} name of the entry
+     */
+    public String getAbsOffsAscFileName(int pos) {
+        if (compactEntries != null)
+            return compactEntries.getFileName(compactEntries.getAbsOffsAscIndex(pos));
+        return getAbsOffsAscEntries().get(pos).getFileName();
+    }
+
+    // @NotNull
+    public ZipEntry getAbsOffsAscEntry(int pos) {
+        if (compactEntries != null)
+            return compactEntries.get(compactEntries.getAbsOffsAscIndex(pos));
+        return getAbsOffsAscEntries().get(pos);
+    }
+
+    /**
+     * Retrieves entries with given {@code fileNames} sorted by the offset in
+     * the zip file.
+     *
+     * @param fileNames names of the existed entries
+     * @return not {@literal null} iterator
+     */
+    public Iterator<ZipEntry> absOffsAscIterator(Collection<String> fileNames) {
+        if (compactEntries != null)
+            return compactEntries.absOffsAscIterator(fileNames);
+
+        List<ZipEntry> entries = fileNames.stream()
+                                          .map(this::getZipEntryByFileName)
+                                          .sorted(SORT_BY_ABS_OFFS)
+                                          .collect(Collectors.toList());
 
         return entries.iterator();
     }
 
     public ByteOrder getByteOrder() {
-        return srcZip.getByteOrder();
+        return srcZip == null ? ByteOrder.LITTLE_ENDIAN : srcZip.getByteOrder();
     }
 
     public void setComment(String comment) {
@@ -116,7 +218,12 @@ public final class ZipModel {
     }
 
     public boolean isEmpty() {
-        return fileNameEntry.isEmpty();
+        if (compactEntries != null)
+            return compactEntries.isEmpty();
+
+        synchronized (fileNameEntry) {
+            return fileNameEntry.isEmpty();
+        }
     }
 
     public boolean isChanged() {
@@ -124,30 +231,179 @@ public final class ZipModel {
     }
 
     public int getTotalEntries() {
-        return fileNameEntry.size();
+        if (compactEntries != null)
+            return compactEntries.size();
+
+        synchronized (fileNameEntry) {
+            return fileNameEntry.size();
+        }
+    }
+
+    /**
+     * Rough estimation of the memory used by this model; it is used to limit
+     * the total size of the cached models. Each regular entry takes a fixed
+     * overhead plus two bytes per char of its name and the index of the sorted
+     * names refers the same names; compact entries are estimated by the size
+     * of their arrays.
+     *
+     * @return estimated size in bytes
+     */
+    public long getMemorySize() {
+        long size = comment == null ? 0 : comment.length() * 2L;
+
+        if (compactEntries != null)
+            return size + compactEntries.getMemorySize();
+
+        synchronized (fileNameEntry) {
+            // reference is not bigger than 8 bytes
+            return size + entriesMemorySize + (sortedEntryNames == null ? 0 : sortedEntryNames.length * 8L);
+        }
+    }
+
+    /**
+     * Estimates the memory, which the regular entries of the central directory
+     * would take, when they are not read yet. Only the size of the central
+     * directory is known, so the estimation is the upper bound: each file
+     * header takes at least {@value #MIN_FILE_HEADER_SIZE} bytes and the name
+     * of the entry is not longer than the file header.
+     *
+     * @return estimated size in bytes
+     */
+    public long getCentralDirectoryMemorySize() {
+        return centralDirectorySize / MIN_FILE_HEADER_SIZE * ENTRY_MEMORY_SIZE + centralDirectorySize * 2;
+    }
+
+    private static long getMemorySize(ZipEntry zipEntry) {
+        return ENTRY_MEMORY_SIZE + zipEntry.getFileName().length() * 2L;
     }
 
     public void addZipEntry(ZipEntry zipEntry) {
-        fileNameEntry.put(zipEntry.getFileName(), zipEntry);
+        if (compactEntries != null)
+            throw new Zip4jvmException("Zip model with compact entries is read-only");
+
+        synchronized (fileNameEntry) {
+            ZipEntry prv = fileNameEntry.put(zipEntry.getFileName(), zipEntry);
+            entriesMemorySize += getMemorySize(zipEntry) - (prv == null ? 0 : getMemorySize(prv));
+            invalidateIndices();
+        }
+    }
+
+    /**
+     * Removes the entry with given {@code fileName}; nothing happens if there
+     * is no such entry.
+     *
+     * @param fileName name of the entry
+     * @return {@literal true} if the entry was removed
+     */
+    public boolean removeZipEntry(String fileName) {
+        if (compactEntries != null)
+            throw new Zip4jvmException("Zip model with compact entries is read-only");
+
+        synchronized (fileNameEntry) {
+            ZipEntry zipEntry = fileNameEntry.remove(fileName);
+
+            if (zipEntry == null)
+                return false;
+
+            entriesMemorySize -= getMemorySize(zipEntry);
+            invalidateIndices();
+            return true;
+        }
+    }
+
+    public void setCompactEntries(CompactZipEntries compactEntries) {
+        synchronized (fileNameEntry) {
+            this.compactEntries = compactEntries;
+            invalidateIndices();
+        }
+    }
+
+    /**
+     * Drops the indices which are built on demand: the sorted names and the
+     * offset order. It should be invoked when the entry of this model is
+     * moved, i.e. its offset in the zip file is changed.
+     */
+    public void invalidateIndices() {
+        synchronized (fileNameEntry) {
+            sortedEntryNames = null;
+            absOffsAscEntries = null;
+        }
     }
 
     public Collection<ZipEntry> getZipEntries() {
-        return isEmpty() ? Collections.emptyList() : Collections.unmodifiableCollection(fileNameEntry.values());
+        if (compactEntries != null)
+            return compactEntries.getZipEntries();
+
+        synchronized (fileNameEntry) {
+            if (fileNameEntry.isEmpty())
+                return Collections.emptyList();
+            return Collections.unmodifiableList(new ArrayList<>(fileNameEntry.values()));
+        }
     }
 
     // @NotNull
     public ZipEntry getZipEntryByFileName(String fileName) {
-        if (fileNameEntry.containsKey(fileName))
-            return fileNameEntry.get(fileName);
-        throw new EntryNotFoundException(fileName);
+        if (compactEntries != null) {
+            int i = compactEntries.indexOf(fileName);
+
+            if (i < 0)
+                throw new EntryNotFoundException(fileName);
+
+            return compactEntries.get(i);
+        }
+
+        synchronized (fileNameEntry) {
+            ZipEntry zipEntry = fileNameEntry.get(fileName);
+
+            if (zipEntry == null)
+                throw new EntryNotFoundException(fileName);
+
+            return zipEntry;
+        }
     }
 
     public boolean hasEntry(String fileName) {
-        return fileNameEntry.containsKey(fileName);
+        if (compactEntries != null)
+            return compactEntries.indexOf(fileName) >= 0;
+
+        synchronized (fileNameEntry) {
+            return fileNameEntry.containsKey(fileName);
+        }
     }
 
     public Set<String> getEntryNames() {
-        return isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(fileNameEntry.keySet());
+        if (compactEntries != null)
+            return Collections.unmodifiableSet(compactEntries.getFileNames());
+
+        synchronized (fileNameEntry) {
+            if (fileNameEntry.isEmpty())
+                return Collections.emptySet();
+            return Collections.unmodifiableSet(new LinkedHashSet<>(fileNameEntry.keySet()));
+        }
+    }
+
+    /**
+     * Retrieves names of all entries which start with the given
+     * {@code prefix}; it takes {@code log(n)} to find the first one.
+     *
+     * @param prefix file name prefix; {@literal null} or empty to retrieve all
+     *               names
+     * @return not {@literal null} file names in ascending order
+     */
+    public List<String> getEntryNamesByPrefix(String prefix) {
+        prefix = StringUtils.defaultString(prefix);
+
+        if (compactEntries != null)
+            return compactEntries.getFileNamesByPrefix(prefix);
+
+        synchronized (fileNameEntry) {
+            if (sortedEntryNames == null) {
+                sortedEntryNames = fileNameEntry.keySet().toArray(new String[0]);
+                Arrays.sort(sortedEntryNames);
+            }
+
+            return ZipUtils.getFileNamesByPrefix(sortedEntryNames, prefix);
+        }
     }
 
     public Path getDisk(int diskNo) {
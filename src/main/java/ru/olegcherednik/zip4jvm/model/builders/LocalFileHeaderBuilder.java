@@ -71,6 +71,11 @@ public final class LocalFileHeaderBuilder {
     }
 
     private Zip64.ExtendedInfo createExtendedInfo() {
+        // sizes are in the data descriptor, but the section marks that they are 8 bytes long
+        if (zipEntry.isDataDescriptorAvailable() && zipEntry.isZip64())
+            return Zip64.ExtendedInfo.builder()
+                                     .compressedSize(LOOK_IN_DATA_DESCRIPTOR)
+                                     .uncompressedSize(LOOK_IN_DATA_DESCRIPTOR).build();
         if (zipEntry.isDataDescriptorAvailable())
             return Zip64.ExtendedInfo.NULL;
         if (zipEntry.isZip64())
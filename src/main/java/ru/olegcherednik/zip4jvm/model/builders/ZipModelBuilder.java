@@ -16,6 +16,7 @@
  */
 package ru.olegcherednik.zip4jvm.model.builders;
 
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
 import ru.olegcherednik.zip4jvm.io.readers.ZipModelReader;
 import ru.olegcherednik.zip4jvm.model.CentralDirectory;
 import ru.olegcherednik.zip4jvm.model.EndCentralDirectory;
@@ -25,6 +26,7 @@ import ru.olegcherednik.zip4jvm.model.charset.CharsetProvider;
 import ru.olegcherednik.zip4jvm.model.charset.UnmodifiedCharsetProvider;
 import ru.olegcherednik.zip4jvm.model.entry.ZipEntryBuilder;
 import ru.olegcherednik.zip4jvm.model.password.PasswordProvider;
+import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
 import ru.olegcherednik.zip4jvm.model.settings.ZipSettings;
 import ru.olegcherednik.zip4jvm.model.split.LimitSizeSplitTrigger;
 import ru.olegcherednik.zip4jvm.model.src.SrcZip;
@@ -32,6 +34,7 @@ import ru.olegcherednik.zip4jvm.model.src.SrcZip;
 import lombok.RequiredArgsConstructor;
 
 import java.nio.file.Path;
+import java.util.function.Predicate;
 
 import static ru.olegcherednik.zip4jvm.utils.ValidationUtils.requireZipFileExist;
 
@@ -58,6 +61,35 @@ public final class ZipModelBuilder {
         return new ZipModelReader(srcZip, charsetProvider, passwordProvider).read();
     }
 
+    public static ZipModel read(SrcZip srcZip, UnzipSettings settings) {
+        ZipModelReader reader = createReader(srcZip, settings);
+        return settings.isCompactIndex() ? reader.readCompact() : reader.read();
+    }
+
+    /**
+     * Reads only entries which names are accepted by the given
+     * {@code fileNameFilter}.
+     */
+    public static ZipModel read(SrcZip srcZip, UnzipSettings settings, Predicate<String> fileNameFilter) {
+        return createReader(srcZip, settings).read(fileNameFilter);
+    }
+
+    /**
+     * Reads only end central directory and zip64, i.e. the model does not
+     * contain any entry.
+     */
+    public static ZipModel readWithoutEntries(SrcZip srcZip, UnzipSettings settings) {
+        return createReader(srcZip, settings).read(false);
+    }
+
+    private static ZipModelReader createReader(SrcZip srcZip, UnzipSettings settings) {
+        ZipModelReader reader = new ZipModelReader(srcZip,
+                                                   settings.getCharsetProvider(),
+                                                   settings.getPasswordProvider());
+        reader.setMemoryMapped(settings.isMemoryMapped());
+        return reader;
+    }
+
     public static ZipModel build(Path zip, ZipSettings settings) {
         requireZipFileExist(zip);
 
@@ -71,6 +103,20 @@ public final class ZipModelBuilder {
         return zipModel;
     }
 
+    /**
+     * Creates a model of the zip archive, which is written to the stream; i.e.
+     * there is no zip file on the disk and the archive cannot be split.
+     */
+    public static ZipModel build(ZipSettings settings) {
+        if (settings.getSplitSize() != null && settings.getSplitSize() > 0)
+            throw new Zip4jvmException("Split zip archive cannot be written to the stream");
+
+        ZipModel zipModel = new ZipModel(null);
+        zipModel.setComment(settings.getComment());
+        zipModel.setZip64(settings.isZip64());
+        return zipModel;
+    }
+
     public ZipModel build() {
         ZipModel zipModel = new ZipModel(srcZip);
         zipModel.setZip64(zip64 != Zip64.NULL);
@@ -16,6 +16,7 @@
  */
 package ru.olegcherednik.zip4jvm.model.charset;
 
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
 import java.nio.charset.Charset;
@@ -24,6 +25,7 @@ import java.nio.charset.Charset;
  * @author Oleg Cherednik
  * @since 17.02.2025
  */
+@EqualsAndHashCode
 @RequiredArgsConstructor
 public class BaseCharsetProvider implements CharsetProvider {
 
@@ -0,0 +1,454 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.model.entry;
+
+import ru.olegcherednik.zip4jvm.exception.EntryNotFoundException;
+import ru.olegcherednik.zip4jvm.model.CentralDirectory;
+
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Memory efficient read-only storage of the {@link ZipEntry} of the existed
+ * zip file. Instead of keeping the object graph of each entry, main fields are
+ * stored in primitive arrays (one array per field) and all file names are
+ * packed into the one byte array. {@link ZipEntry} is created on demand by
+ * reading its {@link CentralDirectory.FileHeader} again with the given
+ * {@code zipEntryReader}; a few recently created entries are kept, so the
+ * repeated access to the same entry retrieves the same instance.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@RequiredArgsConstructor
+public final class CompactZipEntries {
+
+    private static final int INITIAL_CAPACITY = 16;
+    /** Amount of the recently created entries; it should be a power of two */
+    private static final int RECENT_ENTRIES = 64;
+
+    /** Reads the entry by the absolute offset of its {@link CentralDirectory.FileHeader} */
+    private final LongFunction<ZipEntry> zipEntryReader;
+
+    private int size;
+    private long[] centralDirectoryAbsOffs = new long[INITIAL_CAPACITY];
+    private long[] localFileHeaderAbsOffs = new long[INITIAL_CAPACITY];
+    /** offset of the file name in {@link #names}; the last one is the end of the last name */
+    private int[] nameOffs = new int[INITIAL_CAPACITY + 1];
+    /** file names in UTF-8 */
+    private byte[] names = new byte[INITIAL_CAPACITY * 32];
+    /** open addressing hash table, it contains {@code index + 1} of the entry or {@code 0} for empty slot */
+    private int[] table = new int[0];
+    /** indices of the entries sorted by file name; it is created on demand */
+    private int[] sortedByName;
+    /** indices of the entries sorted by local file header offset; it is created on demand */
+    private int[] sortedByAbsOffs;
+    /** recently created entries; the entry with index {@code i} is kept in the slot {@code i % RECENT_ENTRIES} */
+    private final ZipEntry[] recentEntries = new ZipEntry[RECENT_ENTRIES];
+    private final int[] recentIndices = new int[RECENT_ENTRIES];
+
+    /**
+     * Adds given {@code zipEntry} to this storage.
+     *
+     * @param centralDirectoryAbsOffs absolute offset of the
+     *                                {@link CentralDirectory.FileHeader} of
+     *                                this entry
+     * @param zipEntry                entry to store
+     */
+    public void add(long centralDirectoryAbsOffs, ZipEntry zipEntry) {
+        ensureCapacity(size + 1);
+
+        byte[] name = zipEntry.getFileName().getBytes(StandardCharsets.UTF_8);
+
+        if (names.length - nameOffs[size] < name.length)
+            names = Arrays.copyOf(names, Math.max(names.length * 2, nameOffs[size] + name.length));
+
+        System.arraycopy(name, 0, names, nameOffs[size], name.length);
+        nameOffs[size + 1] = nameOffs[size] + name.length;
+
+        this.centralDirectoryAbsOffs[size] = centralDirectoryAbsOffs;
+        localFileHeaderAbsOffs[size] = zipEntry.getLocalFileHeaderAbsOffs();
+        size++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= localFileHeaderAbsOffs.length)
+            return;
+
+        int length = Math.max(capacity, localFileHeaderAbsOffs.length * 2);
+
+        centralDirectoryAbsOffs = Arrays.copyOf(centralDirectoryAbsOffs, length);
+        localFileHeaderAbsOffs = Arrays.copyOf(localFileHeaderAbsOffs, length);
+        nameOffs = Arrays.copyOf(nameOffs, length + 1);
+    }
+
+    /** Trims all arrays and builds a file name index; it should be invoked after all entries are added. */
+    public void finishInit() {
+        centralDirectoryAbsOffs = Arrays.copyOf(centralDirectoryAbsOffs, size);
+        localFileHeaderAbsOffs = Arrays.copyOf(localFileHeaderAbsOffs, size);
+        nameOffs = Arrays.copyOf(nameOffs, size + 1);
+        names = Arrays.copyOf(names, nameOffs[size]);
+
+        table = new int[Integer.highestOneBit(Math.max(1, size * 2 - 1)) << 1];
+
+        for (int i = 0; i < size; i++) {
+            int slot = getSlot(hash(names, nameOffs[i], nameOffs[i + 1]));
+
+            while (table[slot] != 0)
+                slot = (slot + 1) & (table.length - 1);
+
+            table[slot] = i + 1;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param fileName entry name
+     * @return index of the entry or {@code -1} when entry does not exist
+     */
+    public int indexOf(String fileName) {
+        if (table.length == 0)
+            return -1;
+
+        byte[] name = fileName.getBytes(StandardCharsets.UTF_8);
+        int slot = getSlot(hash(name, 0, name.length));
+
+        while (table[slot] != 0) {
+            int i = table[slot] - 1;
+
+            if (isNameEqual(i, name))
+                return i;
+
+            slot = (slot + 1) & (table.length - 1);
+        }
+
+        return -1;
+    }
+
+    public String getFileName(int i) {
+        return new String(names, nameOffs[i], nameOffs[i + 1] - nameOffs[i], StandardCharsets.UTF_8);
+    }
+
+    public long getLocalFileHeaderAbsOffs(int i) {
+        return localFileHeaderAbsOffs[i];
+    }
+
+    /**
+     * Retrieves {@link ZipEntry}; it is read from the zip file, unless it is
+     * one of the recently created entries.
+     *
+     * @param i index of the entry
+     * @return not {@literal null} entry
+     */
+    public ZipEntry get(int i) {
+        int slot = i & (RECENT_ENTRIES - 1);
+
+        synchronized (recentEntries) {
+            if (recentEntries[slot] != null && recentIndices[slot] == i)
+                return recentEntries[slot];
+        }
+
+        ZipEntry zipEntry = zipEntryReader.apply(centralDirectoryAbsOffs[i]);
+
+        synchronized (recentEntries) {
+            // other thread could create the same entry meanwhile
+            if (recentEntries[slot] != null && recentIndices[slot] == i)
+                return recentEntries[slot];
+
+            recentEntries[slot] = zipEntry;
+            recentIndices[slot] = i;
+        }
+
+        return zipEntry;
+    }
+
+    public Set<String> getFileNames() {
+        Set<String> fileNames = new LinkedHashSet<>();
+
+        for (int i = 0; i < size; i++)
+            fileNames.add(getFileName(i));
+
+        return fileNames;
+    }
+
+    public Collection<ZipEntry> getZipEntries() {
+        return new AbstractCollection<ZipEntry>() {
+            @Override
+            public Iterator<ZipEntry> iterator() {
+                return createIterator(IntStream.range(0, size).toArray());
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    public Iterator<ZipEntry> absOffsAscIterator() {
+        return createIterator(getSortedByAbsOffs());
+    }
+
+    /**
+     * Retrieves index of the entry on the given position in ascending order of
+     * the offset in the zip file. It is a primitive cursor: walking through
+     * the positions from {@code 0} to {@link #size()} with
+     * {@link #getFileName(int)} or {@link #getLocalFileHeaderAbsOffs(int)}
+     * does not create {@link ZipEntry} at all.
+     *
+     * @param pos position of the entry in ascending order of the offset
+     * @return index of the entry
+     */
+    public int getAbsOffsAscIndex(int pos) {
+        return getSortedByAbsOffs()[pos];
+    }
+
+    /**
+     * Retrieves random access view of the entries sorted by the offset in the
+     * zip file. The order is calculated only once; each entry is created on
+     * access.
+     *
+     * @return not {@literal null} read-only list
+     */
+    public List<ZipEntry> getAbsOffsAscEntries() {
+        int[] indices = getSortedByAbsOffs();
+
+        return new AbstractList<ZipEntry>() {
+            @Override
+            public ZipEntry get(int i) {
+                return CompactZipEntries.this.get(indices[i]);
+            }
+
+            @Override
+            public int size() {
+                return indices.length;
+            }
+        };
+    }
+
+    private synchronized int[] getSortedByAbsOffs() {
+        if (sortedByAbsOffs == null)
+            sortedByAbsOffs = sortByAbsOffs(IntStream.range(0, size).toArray());
+
+        return sortedByAbsOffs;
+    }
+
+    public Iterator<ZipEntry> absOffsAscIterator(Collection<String> fileNames) {
+        return createIterator(sortByAbsOffs(fileNames.stream().mapToInt(fileName -> {
+            int i = indexOf(fileName);
+
+            if (i < 0)
+                throw new EntryNotFoundException(fileName);
+
+            return i;
+        }).toArray()));
+    }
+
+    private int[] sortByAbsOffs(int[] indices) {
+        return sort(indices, (one, two) -> Long.compare(localFileHeaderAbsOffs[one], localFileHeaderAbsOffs[two]));
+    }
+
+    /**
+     * Retrieves names of all entries which start with the given
+     * {@code prefix} using binary search in the entries sorted by name. Names
+     * are compared as UTF-8 bytes, so only the retrieved names are decoded.
+     *
+     * @param prefix file name prefix
+     * @return not {@literal null} file names in ascending order of their
+     * UTF-8 bytes
+     */
+    public List<String> getFileNamesByPrefix(String prefix) {
+        byte[] buf = prefix.getBytes(StandardCharsets.UTF_8);
+        int[] sorted = getSortedByName();
+        int lo = 0;
+        int hi = sorted.length;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int i = sorted[mid];
+
+            if (compare(names, nameOffs[i], nameOffs[i + 1], buf, 0, buf.length) < 0)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+
+        List<String> res = new ArrayList<>();
+
+        for (int i = lo; i < sorted.length && isNameStartsWith(sorted[i], buf); i++)
+            res.add(getFileName(sorted[i]));
+
+        return res;
+    }
+
+    private synchronized int[] getSortedByName() {
+        if (sortedByName == null)
+            sortedByName = sort(IntStream.range(0, size).toArray(),
+                                (one, two) -> compare(names, nameOffs[one], nameOffs[one + 1],
+                                                      names, nameOffs[two], nameOffs[two + 1]));
+
+        return sortedByName;
+    }
+
+    /**
+     * Stable merge sort of the indices, i.e. without boxing them. Already
+     * sorted parts are not merged, so sorted {@code indices} take linear time.
+     *
+     * @param indices    indices to sort
+     * @param comparator comparator of two indices
+     * @return sorted indices; it could be the given array
+     */
+    private static int[] sort(int[] indices, IntBinaryOperator comparator) {
+        int[] src = indices;
+        int[] dst = new int[indices.length];
+
+        for (int width = 1; width < src.length; width *= 2) {
+            for (int lo = 0; lo < src.length; lo += 2 * width) {
+                int mid = Math.min(lo + width, src.length);
+                int hi = Math.min(lo + 2 * width, src.length);
+                merge(src, dst, lo, mid, hi, comparator);
+            }
+
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+
+        return src;
+    }
+
+    private static void merge(int[] src, int[] dst, int lo, int mid, int hi, IntBinaryOperator comparator) {
+        if (mid == hi || comparator.applyAsInt(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, lo, dst, lo, hi - lo);
+            return;
+        }
+
+        int i = lo;
+        int j = mid;
+
+        for (int k = lo; k < hi; k++) {
+            if (j == hi || i < mid && comparator.applyAsInt(src[i], src[j]) <= 0)
+                dst[k] = src[i++];
+            else
+                dst[k] = src[j++];
+        }
+    }
+
+    private Iterator<ZipEntry> createIterator(int[] indices) {
+        return new Iterator<ZipEntry>() {
+            private int pos;
+
+            @Override
+            public boolean hasNext() {
+                return pos < indices.length;
+            }
+
+            @Override
+            public ZipEntry next() {
+                if (!hasNext())
+                    throw new NoSuchElementException("CompactZipEntries");
+                return get(indices[pos++]);
+            }
+        };
+    }
+
+    public long getMemorySize() {
+        return (long) centralDirectoryAbsOffs.length * Long.BYTES
+                + (long) localFileHeaderAbsOffs.length * Long.BYTES
+                + (long) nameOffs.length * Integer.BYTES
+                + names.length
+                + (long) table.length * Integer.BYTES
+                + (sortedByName == null ? 0 : (long) sortedByName.length * Integer.BYTES)
+                + (sortedByAbsOffs == null ? 0 : (long) sortedByAbsOffs.length * Integer.BYTES);
+    }
+
+    private int getSlot(int hash) {
+        return hash & (table.length - 1);
+    }
+
+    private boolean isNameEqual(int i, byte[] name) {
+        int offs = nameOffs[i];
+        int len = nameOffs[i + 1] - offs;
+
+        if (len != name.length)
+            return false;
+
+        for (int j = 0; j < len; j++)
+            if (names[offs + j] != name[j])
+                return false;
+
+        return true;
+    }
+
+    private boolean isNameStartsWith(int i, byte[] prefix) {
+        int offs = nameOffs[i];
+
+        if (nameOffs[i + 1] - offs < prefix.length)
+            return false;
+
+        for (int j = 0; j < prefix.length; j++)
+            if (names[offs + j] != prefix[j])
+                return false;
+
+        return true;
+    }
+
+    /** Compares bytes as unsigned, i.e. UTF-8 names are compared in the code point order. */
+    private static int compare(byte[] one, int oneFrom, int oneTo, byte[] two, int twoFrom, int twoTo) {
+        int len = Math.min(oneTo - oneFrom, twoTo - twoFrom);
+
+        for (int i = 0; i < len; i++) {
+            int res = Integer.compare(one[oneFrom + i] & 0xFF, two[twoFrom + i] & 0xFF);
+
+            if (res != 0)
+                return res;
+        }
+
+        return Integer.compare(oneTo - oneFrom, twoTo - twoFrom);
+    }
+
+    private static int hash(byte[] buf, int from, int to) {
+        int hash = 1;
+
+        for (int i = from; i < to; i++)
+            hash = 31 * hash + buf[i];
+
+        return hash ^ hash >>> 16;
+    }
+
+}
@@ -106,6 +106,8 @@ class EntryBasedZipEntryBuilder {
         zipEntry.setComment(entrySettings.getComment());
         zipEntry.setUtf8(entrySettings.isUtf8());
         zipEntry.setStrongEncryption(encryption.isStrong());
+        zipEntry.setDeflateBufferSize(entrySettings.getDeflateBufferSize());
+        zipEntry.setDeflateThreads(entrySettings.getDeflateThreads());
         zipEntry.setUncompressedSize(entry.getUncompressedSize());
         zipEntry.setInputStreamSupplier(entry::getInputStream);
 
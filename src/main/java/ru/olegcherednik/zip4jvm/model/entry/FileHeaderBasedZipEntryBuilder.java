@@ -16,6 +16,7 @@
  */
 package ru.olegcherednik.zip4jvm.model.entry;
 
+import ru.olegcherednik.zip4jvm.crypto.aes.WinZipAesKeyCache;
 import ru.olegcherednik.zip4jvm.engine.unzip.UnzipExtractEngine;
 import ru.olegcherednik.zip4jvm.io.in.DataInput;
 import ru.olegcherednik.zip4jvm.io.in.ReadBufferInputStream;
@@ -103,15 +104,24 @@ class FileHeaderBasedZipEntryBuilder {
     }
 
     private InputStream createInputStream(ZipEntry zipEntry) {
-        DataInput in = createDataInput(zipEntry);
+        return createInputStream(zipEntry, createDataInput(zipEntry), charsetProvider, srcZip.getAesKeyCache());
+    }
 
+    /**
+     * Creates input stream of the entry payload; given {@code in} should be
+     * located at the local file header of the entry.
+     */
+    static InputStream createInputStream(ZipEntry zipEntry,
+                                         DataInput in,
+                                         CharsetProvider charsetProvider,
+                                         WinZipAesKeyCache keyCache) {
         LocalFileHeader localFileHeader = new LocalFileHeaderReader(charsetProvider).read(in);
         zipEntry.setDataDescriptorAvailable(localFileHeader.isDataDescriptorAvailable());
         // TODO check that localFileHeader matches fileHeader
 
         in = DataDescriptorDataInput.create(zipEntry, in);
         in = BoundDataInput.create(zipEntry.getCompressedSize(), in);
-        in = EncryptedDataInput.create(zipEntry.createDecoder(in), in);
+        in = EncryptedDataInput.create(zipEntry.createDecoder(in, keyCache), in);
         in = zipEntry.getCompression().addCompressionDecorator(in);
         in = SizeCheckDataInput.uncompressedSize(zipEntry, in);
         in = ChecksumCheckDataInput.checksum(zipEntry, in);
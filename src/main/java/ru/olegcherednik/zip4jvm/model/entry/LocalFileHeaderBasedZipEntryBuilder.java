@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.model.entry;
+
+import ru.olegcherednik.zip4jvm.model.AesVersion;
+import ru.olegcherednik.zip4jvm.model.Compression;
+import ru.olegcherednik.zip4jvm.model.GeneralPurposeFlag;
+import ru.olegcherednik.zip4jvm.model.LocalFileHeader;
+import ru.olegcherednik.zip4jvm.model.Zip64;
+import ru.olegcherednik.zip4jvm.model.ZipModel;
+import ru.olegcherednik.zip4jvm.model.extrafield.PkwareExtraField;
+import ru.olegcherednik.zip4jvm.model.settings.AesVersionEnum;
+import ru.olegcherednik.zip4jvm.utils.ZipUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Creates {@link ZipEntry} when only {@link LocalFileHeader} is available,
+ * i.e. zip file is read as a stream. Entry does not have external file
+ * attributes and its input stream supplier should be set separately.
+ *
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@RequiredArgsConstructor
+class LocalFileHeaderBasedZipEntryBuilder {
+
+    private final LocalFileHeader localFileHeader;
+    private final long localFileHeaderAbsOffs;
+
+    ZipEntry build() {
+        boolean regularFile = ZipUtils.isRegularFile(localFileHeader.getFileName());
+        ZipEntry zipEntry = regularFile ? createRegularFileEntry() : createEmptyDirectoryEntry();
+        zipEntry.setCrc32(localFileHeader.getCrc32());
+        zipEntry.setUncompressedSize(getUncompressedSize());
+        zipEntry.setCompressedSize(getCompressedSize());
+        zipEntry.setLocalFileHeaderDiskOffs(localFileHeaderAbsOffs);
+        zipEntry.setLocalFileHeaderAbsOffs(localFileHeaderAbsOffs);
+        return zipEntry;
+    }
+
+    private ZipEntry createRegularFileEntry() {
+        GeneralPurposeFlag generalPurposeFlag = localFileHeader.getGeneralPurposeFlag();
+
+        RegularFileZipEntry zipEntry = new RegularFileZipEntry(localFileHeader.getFileName(),
+                                                               localFileHeader.getLastModifiedTime(),
+                                                               null,
+                                                               getAesVersion(),
+                                                               localFileHeader.getOriginalCompressionMethod(),
+                                                               generalPurposeFlag.getCompressionLevel(),
+                                                               localFileHeader.getEncryptionMethod());
+
+        zipEntry.setDataDescriptorAvailable(localFileHeader.isDataDescriptorAvailable());
+        zipEntry.setLzmaEosMarker(generalPurposeFlag.isLzmaEosMarker());
+        zipEntry.setZip64(getExtendedInfo() != Zip64.ExtendedInfo.NULL);
+        zipEntry.setUtf8(generalPurposeFlag.isUtf8());
+        zipEntry.setStrongEncryption(generalPurposeFlag.isStrongEncryption());
+
+        return zipEntry;
+    }
+
+    private ZipEntry createEmptyDirectoryEntry() {
+        return new EmptyDirectoryZipEntry(localFileHeader.getFileName(), localFileHeader.getLastModifiedTime(), null);
+    }
+
+    private long getCompressedSize() {
+        if (localFileHeader.getCompressedSize() == ZipModel.LOOK_IN_EXTRA_FIELD)
+            return getExtendedInfo().getCompressedSize();
+        return localFileHeader.getCompressedSize();
+    }
+
+    private long getUncompressedSize() {
+        if (localFileHeader.getUncompressedSize() == ZipModel.LOOK_IN_EXTRA_FIELD)
+            return getExtendedInfo().getUncompressedSize();
+        return localFileHeader.getUncompressedSize();
+    }
+
+    private Zip64.ExtendedInfo getExtendedInfo() {
+        return ((PkwareExtraField) localFileHeader.getExtraField()).getExtendedInfo();
+    }
+
+    private AesVersion getAesVersion() {
+        if (localFileHeader.getCompression() == Compression.AES)
+            return ((PkwareExtraField) localFileHeader.getExtraField()).getAesRecord().getVersion();
+        return AesVersion.of(AesVersionEnum.AUTO);
+    }
+
+}
@@ -18,6 +18,7 @@ package ru.olegcherednik.zip4jvm.model.entry;
 
 import ru.olegcherednik.zip4jvm.crypto.Decoder;
 import ru.olegcherednik.zip4jvm.crypto.Encoder;
+import ru.olegcherednik.zip4jvm.crypto.aes.WinZipAesKeyCache;
 import ru.olegcherednik.zip4jvm.io.in.DataInput;
 import ru.olegcherednik.zip4jvm.model.AesVersion;
 import ru.olegcherednik.zip4jvm.model.Compression;
@@ -61,8 +62,8 @@ final class RegularFileZipEntry extends ZipEntry {
     }
 
     @Override
-    public Decoder createDecoder(DataInput in) {
-        return encryption.createDecoder(this, in);
+    public Decoder createDecoder(DataInput in, WinZipAesKeyCache keyCache) {
+        return encryption.createDecoder(this, in, keyCache);
     }
 
     @Override
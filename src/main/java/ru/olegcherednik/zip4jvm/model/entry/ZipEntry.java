@@ -19,6 +19,7 @@ package ru.olegcherednik.zip4jvm.model.entry;
 import ru.olegcherednik.zip4jvm.ZipFile;
 import ru.olegcherednik.zip4jvm.crypto.Decoder;
 import ru.olegcherednik.zip4jvm.crypto.Encoder;
+import ru.olegcherednik.zip4jvm.crypto.aes.WinZipAesKeyCache;
 import ru.olegcherednik.zip4jvm.io.in.DataInput;
 import ru.olegcherednik.zip4jvm.model.AesVersion;
 import ru.olegcherednik.zip4jvm.model.Compression;
@@ -27,6 +28,7 @@ import ru.olegcherednik.zip4jvm.model.ExternalFileAttributes;
 import ru.olegcherednik.zip4jvm.model.InternalFileAttributes;
 import ru.olegcherednik.zip4jvm.model.LocalFileHeader;
 import ru.olegcherednik.zip4jvm.model.settings.CompressionLevelEnum;
+import ru.olegcherednik.zip4jvm.model.settings.ZipEntrySettings;
 import ru.olegcherednik.zip4jvm.utils.EmptyInputStreamSupplier;
 import ru.olegcherednik.zip4jvm.utils.function.InputStreamSupplier;
 
@@ -75,6 +77,8 @@ public class ZipEntry {
     private long uncompressedSize;
     private long compressedSize;
     private boolean lzmaEosMarker = true;
+    private int deflateBufferSize = ZipEntrySettings.DEFLATE_BUFFER_SIZE_DEFAULT;
+    private int deflateThreads = ZipEntrySettings.DEFLATE_THREADS_OFF;
 
     private String comment;
     private boolean utf8;
@@ -143,7 +147,12 @@ public class ZipEntry {
                                          externalFileAttributes);
     }
 
-    public Decoder createDecoder(DataInput in) {
+    /**
+     * @param in       input located at the encryption header of the entry
+     * @param keyCache cache of the derived AES keys of the reader; {@literal null} when it is not used
+     * @return not {@literal null} decoder
+     */
+    public Decoder createDecoder(DataInput in, WinZipAesKeyCache keyCache) {
         return Decoder.NULL;
     }
 
@@ -17,12 +17,15 @@
 package ru.olegcherednik.zip4jvm.model.entry;
 
 import ru.olegcherednik.zip4jvm.ZipFile;
+import ru.olegcherednik.zip4jvm.crypto.aes.WinZipAesKeyCache;
+import ru.olegcherednik.zip4jvm.io.in.DataInput;
 import ru.olegcherednik.zip4jvm.model.AesVersion;
 import ru.olegcherednik.zip4jvm.model.CentralDirectory;
 import ru.olegcherednik.zip4jvm.model.Compression;
 import ru.olegcherednik.zip4jvm.model.DataDescriptorChoose;
 import ru.olegcherednik.zip4jvm.model.Encryption;
 import ru.olegcherednik.zip4jvm.model.ExternalFileAttributes;
+import ru.olegcherednik.zip4jvm.model.LocalFileHeader;
 import ru.olegcherednik.zip4jvm.model.charset.CharsetProvider;
 import ru.olegcherednik.zip4jvm.model.settings.CompressionLevelEnum;
 import ru.olegcherednik.zip4jvm.model.settings.ZipEntrySettings;
@@ -34,6 +37,7 @@ import ru.olegcherednik.zip4jvm.utils.time.DosTimeConverter;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -54,6 +58,22 @@ public final class ZipEntryBuilder {
         return new FileHeaderBasedZipEntryBuilder(fileHeader, srcZip, charsetProvider).build();
     }
 
+    /**
+     * Creates input stream of the payload of the entry read from the central
+     * directory; given {@code in} should be located at the local file header
+     * of this entry (e.g. it's a prefetched part of the zip file).
+     */
+    public static InputStream createInputStream(ZipEntry zipEntry,
+                                                DataInput in,
+                                                CharsetProvider charsetProvider,
+                                                WinZipAesKeyCache keyCache) {
+        return FileHeaderBasedZipEntryBuilder.createInputStream(zipEntry, in, charsetProvider, keyCache);
+    }
+
+    public static ZipEntry build(LocalFileHeader localFileHeader, long localFileHeaderAbsOffs) {
+        return new LocalFileHeaderBasedZipEntryBuilder(localFileHeader, localFileHeaderAbsOffs).build();
+    }
+
     public static ZipEntry symlink(Path symlinkTarget,
                                    String symlinkTargetRelativePath,
                                    String symlinkName,
@@ -16,12 +16,14 @@
  */
 package ru.olegcherednik.zip4jvm.model.password;
 
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
 /**
  * @author Oleg Cherednik
  * @since 10.12.2022
  */
+@EqualsAndHashCode
 @RequiredArgsConstructor
 @SuppressWarnings({ "AssignmentOrReturnOfFieldWithMutableType", "PMD.MethodReturnsInternalArray" })
 public final class SinglePasswordProvider implements PasswordProvider {
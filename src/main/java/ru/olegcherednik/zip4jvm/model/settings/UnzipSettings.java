@@ -16,6 +16,7 @@
  */
 package ru.olegcherednik.zip4jvm.model.settings;
 
+import ru.olegcherednik.zip4jvm.io.in.file.FileChannelPool;
 import ru.olegcherednik.zip4jvm.model.charset.BaseCharsetProvider;
 import ru.olegcherednik.zip4jvm.model.charset.CharsetProvider;
 import ru.olegcherednik.zip4jvm.model.charset.UnmodifiedCharsetProvider;
@@ -24,6 +25,7 @@ import ru.olegcherednik.zip4jvm.model.password.PasswordProvider;
 import ru.olegcherednik.zip4jvm.model.password.SinglePasswordProvider;
 
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
@@ -33,10 +35,15 @@ import java.util.Arrays;
 import java.util.Optional;
 
 /**
+ * Settings are equal when all their values are equal; password and charset
+ * providers are compared with their own {@code equals()}, so the custom
+ * providers are equal only when they are the same instance.
+ *
  * @author Oleg Cherednik
  * @since 06.10.2019
  */
 @Getter
+@EqualsAndHashCode(doNotUseGetters = true)
 public final class UnzipSettings {
 
     public static final UnzipSettings DEFAULT = builder().build();
@@ -44,14 +51,66 @@ public final class UnzipSettings {
     public static final int ASYNC_THREADS_OFF = 0;
     public static final int ASYNC_THREADS_AUTO = -1;
 
+    public static final int DEFAULT_PIPELINE_READ_THREADS = 1;
+    public static final int DEFAULT_PIPELINE_WRITE_THREADS = 2;
+
     public static final int RECURSIVE_LEVEL_OFF = 0;
     public static final int RECURSIVE_LEVEL_MAX = -1;
 
+    public static final int AES_KEY_CACHE_OFF = 0;
+
     private final PasswordProvider passwordProvider;
     private final CharsetProvider charsetProvider;
     private final int asyncThreads;
     private final int recursiveLevel;
     private final boolean ignoreSymlink;
+    /**
+     * Read central directory of the solid zip file via memory mapped buffers
+     * instead of the {@link java.io.RandomAccessFile}. It reduces amount of
+     * system calls for the archives with many entries; the split zip is not
+     * affected.
+     */
+    private final boolean memoryMapped;
+    /**
+     * Maximum amount of simultaneously opened files for one disk of the zip
+     * file; these files are shared between all threads extracting the entries
+     * concurrently.
+     */
+    private final int maxOpenFilesPerDisk;
+    /**
+     * Keep entries of the existed zip file in the compact read-only index
+     * (primitive arrays instead of the object per entry). It reduces memory
+     * consumption for the archives with huge amount of entries, but each
+     * retrieved entry is read from the central directory again. Is not used
+     * when central directory is encrypted.
+     */
+    private final boolean compactIndex;
+    /**
+     * Extract entries using the staged pipeline instead of one task per
+     * entry: read stage reads compressed data of the entries in the offset
+     * order, decompress stage decrypts, decompresses and checks the checksum
+     * and write stage writes the files. The stages are connected with bounded
+     * queues, so a fast stage waits for a slow one. When it is set, then
+     * {@link #asyncThreads} is not used.
+     */
+    private final boolean pipeline;
+    /** Amount of threads of the pipeline read stage */
+    private final int pipelineReadThreads;
+    /**
+     * Amount of threads of the pipeline decompress stage;
+     * {@link #ASYNC_THREADS_AUTO} - <tt>by default</tt> - use all available
+     * processors
+     */
+    private final int pipelineDecompressThreads;
+    /** Amount of threads of the pipeline write stage */
+    private final int pipelineWriteThreads;
+    /**
+     * Max amount of the AES keys derived with PBKDF2, which are kept by the
+     * reader to not derive them again when the same entry is read many times
+     * (e.g. via long-lived reader); {@link #AES_KEY_CACHE_OFF} -
+     * <tt>by default</tt> - do not cache the keys
+     */
+    private final int aesKeyCacheSize;
 
     public static Builder builder() {
         return new Builder();
@@ -63,7 +122,15 @@ public final class UnzipSettings {
                 .charsetProvider(charsetProvider)
                 .asyncThreads(asyncThreads)
                 .recursiveLevel(recursiveLevel)
-                .ignoreSymlink(ignoreSymlink);
+                .ignoreSymlink(ignoreSymlink)
+                .memoryMapped(memoryMapped)
+                .maxOpenFilesPerDisk(maxOpenFilesPerDisk)
+                .compactIndex(compactIndex)
+                .pipeline(pipeline)
+                .pipelineReadThreads(pipelineReadThreads)
+                .pipelineDecompressThreads(pipelineDecompressThreads)
+                .pipelineWriteThreads(pipelineWriteThreads)
+                .aesKeyCacheSize(aesKeyCacheSize);
     }
 
     private UnzipSettings(Builder builder) {
@@ -72,6 +139,14 @@ public final class UnzipSettings {
         asyncThreads = builder.asyncThreads;
         recursiveLevel = builder.recursiveLevel;
         ignoreSymlink = builder.ignoreSymlink;
+        memoryMapped = builder.memoryMapped;
+        maxOpenFilesPerDisk = builder.maxOpenFilesPerDisk;
+        compactIndex = builder.compactIndex;
+        pipeline = builder.pipeline;
+        pipelineReadThreads = builder.pipelineReadThreads;
+        pipelineDecompressThreads = builder.pipelineDecompressThreads;
+        pipelineWriteThreads = builder.pipelineWriteThreads;
+        aesKeyCacheSize = builder.aesKeyCacheSize;
     }
 
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -83,6 +158,14 @@ public final class UnzipSettings {
         private int asyncThreads = ASYNC_THREADS_AUTO;
         private int recursiveLevel = RECURSIVE_LEVEL_OFF;
         private boolean ignoreSymlink = true;
+        private boolean memoryMapped;
+        private int maxOpenFilesPerDisk = FileChannelPool.DEFAULT_MAX_CHANNELS_PER_DISK;
+        private boolean compactIndex;
+        private boolean pipeline;
+        private int pipelineReadThreads = DEFAULT_PIPELINE_READ_THREADS;
+        private int pipelineDecompressThreads = ASYNC_THREADS_AUTO;
+        private int pipelineWriteThreads = DEFAULT_PIPELINE_WRITE_THREADS;
+        private int aesKeyCacheSize = AES_KEY_CACHE_OFF;
 
         public UnzipSettings build() {
             return new UnzipSettings(this);
@@ -148,6 +231,47 @@ public final class UnzipSettings {
             return this;
         }
 
+        public Builder memoryMapped(boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
+        public Builder maxOpenFilesPerDisk(int maxOpenFilesPerDisk) {
+            this.maxOpenFilesPerDisk = Math.max(1, maxOpenFilesPerDisk);
+            return this;
+        }
+
+        public Builder compactIndex(boolean compactIndex) {
+            this.compactIndex = compactIndex;
+            return this;
+        }
+
+        public Builder pipeline(boolean pipeline) {
+            this.pipeline = pipeline;
+            return this;
+        }
+
+        public Builder pipelineReadThreads(int pipelineReadThreads) {
+            this.pipelineReadThreads = Math.max(1, pipelineReadThreads);
+            return this;
+        }
+
+        public Builder pipelineDecompressThreads(int pipelineDecompressThreads) {
+            this.pipelineDecompressThreads = pipelineDecompressThreads == ASYNC_THREADS_AUTO
+                                             ? ASYNC_THREADS_AUTO : Math.max(1, pipelineDecompressThreads);
+            return this;
+        }
+
+        public Builder pipelineWriteThreads(int pipelineWriteThreads) {
+            this.pipelineWriteThreads = Math.max(1, pipelineWriteThreads);
+            return this;
+        }
+
+        public Builder aesKeyCacheSize(int aesKeyCacheSize) {
+            this.aesKeyCacheSize = Math.max(AES_KEY_CACHE_OFF, aesKeyCacheSize);
+            return this;
+        }
+
         private Builder charsetProvider(CharsetProvider charsetProvider) {
             this.charsetProvider = Optional.ofNullable(charsetProvider).orElse(UnmodifiedCharsetProvider.INSTANCE);
             return this;
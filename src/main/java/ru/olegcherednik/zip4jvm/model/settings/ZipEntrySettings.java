@@ -39,6 +39,11 @@ public final class ZipEntrySettings {
 
     public static final ZipEntrySettings DEFAULT = builder().build();
 
+    public static final int DEFLATE_BUFFER_SIZE_DEFAULT = 64 * 1024;
+    public static final int DEFLATE_BUFFER_SIZE_MIN = 1024;
+    public static final int DEFLATE_THREADS_OFF = 0;
+    public static final int DEFLATE_THREADS_AUTO = -1;
+
     private final CompressionEnum compression;
     private final CompressionLevelEnum compressionLevel;
     private final EncryptionEnum encryption;
@@ -49,6 +54,13 @@ public final class ZipEntrySettings {
     private final boolean lzmaEosMarker;
     private final DataDescriptorEnum dataDescriptor;
     private final AesVersionEnum aesVersion;
+    private final int deflateBufferSize;
+    /**
+     * Amount of threads to compress a single {@link CompressionEnum#DEFLATE}
+     * entry by independent blocks; {@link #DEFLATE_THREADS_OFF} means that the
+     * entry is compressed in the current thread.
+     */
+    private final int deflateThreads;
 
     public static Builder builder() {
         return new Builder();
@@ -89,6 +101,8 @@ public final class ZipEntrySettings {
         lzmaEosMarker = builder.lzmaEosMarker;
         dataDescriptor = builder.dataDescriptor;
         aesVersion = builder.aesVersion;
+        deflateBufferSize = builder.deflateBufferSize;
+        deflateThreads = builder.deflateThreads;
     }
 
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -105,6 +119,8 @@ public final class ZipEntrySettings {
         private boolean lzmaEosMarker = true;
         private DataDescriptorEnum dataDescriptor = DataDescriptorEnum.AUTO;
         private AesVersionEnum aesVersion = AesVersionEnum.AUTO;
+        private int deflateBufferSize = DEFLATE_BUFFER_SIZE_DEFAULT;
+        private int deflateThreads = DEFLATE_THREADS_OFF;
 
         private Builder(ZipEntrySettings entrySettings) {
             compression = entrySettings.compression;
@@ -117,6 +133,8 @@ public final class ZipEntrySettings {
             lzmaEosMarker = entrySettings.lzmaEosMarker;
             dataDescriptor = entrySettings.dataDescriptor;
             aesVersion = entrySettings.aesVersion;
+            deflateBufferSize = entrySettings.deflateBufferSize;
+            deflateThreads = entrySettings.deflateThreads;
         }
 
         public ZipEntrySettings build() {
@@ -187,6 +205,27 @@ public final class ZipEntrySettings {
             return this;
         }
 
+        /**
+         * Size of the input and output buffers of the
+         * {@link java.util.zip.Deflater} used for {@link CompressionEnum#DEFLATE}
+         * compression (not less than {@link #DEFLATE_BUFFER_SIZE_MIN}).
+         */
+        public ZipEntrySettings.Builder deflateBufferSize(int deflateBufferSize) {
+            this.deflateBufferSize = Math.max(DEFLATE_BUFFER_SIZE_MIN, deflateBufferSize);
+            return this;
+        }
+
+        /**
+         * Amount of threads to compress a single big {@link CompressionEnum#DEFLATE}
+         * entry in parallel (pigz-like). Use {@link #DEFLATE_THREADS_AUTO} to
+         * use all available processors and {@link #DEFLATE_THREADS_OFF} to
+         * switch it off.
+         */
+        public ZipEntrySettings.Builder deflateThreads(int deflateThreads) {
+            this.deflateThreads = Math.max(DEFLATE_THREADS_AUTO, deflateThreads);
+            return this;
+        }
+
     }
 
 }
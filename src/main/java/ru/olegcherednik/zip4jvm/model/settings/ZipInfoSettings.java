@@ -47,6 +47,7 @@ public final class ZipInfoSettings {
     private final PasswordProvider passwordProvider;
     private final int offs;
     private final int columnWidth;
+    private final boolean memoryMapped;
 
     public static Builder builder() {
         return new Builder();
@@ -59,7 +60,8 @@ public final class ZipInfoSettings {
                 .charsetProvider(charsetProvider)
                 .passwordProvider(passwordProvider)
                 .offs(offs)
-                .columnWidth(columnWidth);
+                .columnWidth(columnWidth)
+                .memoryMapped(memoryMapped);
     }
 
     private ZipInfoSettings(Builder builder) {
@@ -69,6 +71,7 @@ public final class ZipInfoSettings {
         offs = builder.offs;
         columnWidth = builder.columnWidth;
         passwordProvider = builder.passwordProvider;
+        memoryMapped = builder.memoryMapped;
     }
 
     public Charset getCharset() {
@@ -83,6 +86,7 @@ public final class ZipInfoSettings {
         private int offs = 4;
         private int columnWidth = 52;
         private PasswordProvider passwordProvider = NoPasswordProvider.INSTANCE;
+        private boolean memoryMapped;
 
         public ZipInfoSettings build() {
             return new ZipInfoSettings(this);
@@ -113,6 +117,11 @@ public final class ZipInfoSettings {
             return this;
         }
 
+        public Builder memoryMapped(boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
         public Builder password(char[] password) {
             passwordProvider = ArrayUtils.isEmpty(password)
                                ? NoPasswordProvider.INSTANCE
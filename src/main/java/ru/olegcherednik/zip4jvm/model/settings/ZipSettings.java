@@ -35,6 +35,9 @@ public final class ZipSettings {
 
     public static final ZipSettings DEFAULT = builder().build();
 
+    public static final int ASYNC_THREADS_OFF = 0;
+    public static final int ASYNC_THREADS_AUTO = -1;
+
     private final Long splitSize;
     private final String comment;
     private final boolean zip64;
@@ -71,6 +74,24 @@ public final class ZipSettings {
      * </pre>
      */
     private final boolean removeRootDir;
+    /**
+     * Amount of threads used to compress and encrypt new entries concurrently.
+     * Prepared entries are written to the zip file in the original order, so
+     * the result does not depend on this setting.<br>
+     * - {@link #ASYNC_THREADS_OFF} - <tt>by default</tt> - all entries are
+     * written one by one in the current thread<br>
+     * - {@link #ASYNC_THREADS_AUTO} - use all available processors
+     */
+    private final int asyncThreads;
+    /**
+     * When only new entries are added to the existed solid zip file, write them
+     * directly to this file instead of the central directory and then write a
+     * new central directory, i.e. do not rewrite the whole zip file. The
+     * original tail of the zip file is saved to the rollback journal and
+     * restored on failure. Is not used when central directory is encrypted or
+     * any existed entry is removed.
+     */
+    private final boolean appendInPlace;
 
     public static ZipSettings of(CompressionEnum compression) {
         return of(ZipEntrySettings.of(compression));
@@ -99,6 +120,8 @@ public final class ZipSettings {
         entrySettingsProvider = builder.entrySettingsProvider;
         zipSymlink = builder.zipSymlink;
         removeRootDir = builder.removeRootDir;
+        asyncThreads = builder.asyncThreads;
+        appendInPlace = builder.appendInPlace;
     }
 
     public Builder toBuilder() {
@@ -106,7 +129,9 @@ public final class ZipSettings {
                 .splitSize(splitSize)
                 .comment(comment)
                 .zip64(zip64)
-                .entrySettingsProvider(entrySettingsProvider);
+                .entrySettingsProvider(entrySettingsProvider)
+                .asyncThreads(asyncThreads)
+                .appendInPlace(appendInPlace);
     }
 
     // @NotNull
@@ -124,6 +149,8 @@ public final class ZipSettings {
         private ZipEntrySettingsProvider entrySettingsProvider = ZipEntrySettingsProvider.DEFAULT;
         private ZipSymlinkEnum zipSymlink = ZipSymlinkEnum.IGNORE_SYMLINK;
         private boolean removeRootDir;
+        private int asyncThreads = ASYNC_THREADS_OFF;
+        private boolean appendInPlace;
 
         public ZipSettings build() {
             return new ZipSettings(this);
@@ -192,6 +219,17 @@ public final class ZipSettings {
             return this;
         }
 
+        public Builder asyncThreads(int asyncThreads) {
+            this.asyncThreads = asyncThreads == ASYNC_THREADS_AUTO ? ASYNC_THREADS_AUTO
+                                                                   : Math.max(ASYNC_THREADS_OFF, asyncThreads);
+            return this;
+        }
+
+        public Builder appendInPlace(boolean appendInPlace) {
+            this.appendInPlace = appendInPlace;
+            return this;
+        }
+
     }
 
 }
@@ -28,6 +28,11 @@ public class LimitSizeSplitTrigger implements SplitTrigger {
         return limitSize - offs <= 0;
     }
 
+    @Override
+    public long getAvailableBytes(long offs) {
+        return Math.max(0, limitSize - offs);
+    }
+
     @Override
     public String toString() {
         return "limitSize: " + limitSize;
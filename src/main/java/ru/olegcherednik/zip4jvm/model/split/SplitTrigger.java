@@ -21,4 +21,14 @@ public interface SplitTrigger {
 
     boolean doSplit(long offs);
 
+    /**
+     * Returns amount of bytes that could be written to the current disk
+     * starting from {@code offs} before this trigger fires. It's used to write
+     * a chunk of data at once; by default this is one byte (i.e. check each
+     * byte separately).
+     */
+    default long getAvailableBytes(long offs) {
+        return doSplit(offs) ? 0 : 1;
+    }
+
 }
@@ -16,11 +16,15 @@
  */
 package ru.olegcherednik.zip4jvm.model.src;
 
+import ru.olegcherednik.zip4jvm.crypto.aes.WinZipAesKeyCache;
 import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.io.in.file.FileChannelPool;
 import ru.olegcherednik.zip4jvm.model.ZipModel;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.filefilter.RegexFileFilter;
 import org.apache.commons.lang3.ArrayUtils;
@@ -52,6 +56,11 @@ public class SrcZip {
     protected final Path path;
     protected final List<Disk> disks;
     protected final long size;
+    @Getter(AccessLevel.NONE)
+    private FileChannelPool channelPool;
+    /** Cache of the derived AES keys of the reader; {@literal null} when it is not used */
+    @Setter
+    private WinZipAesKeyCache aesKeyCache;
 
     public static SrcZip of(Path zip) {
         if (SevenZipSplitSrcZip.isCandidate(zip))
@@ -71,6 +80,18 @@ public class SrcZip {
         return disks.stream().mapToLong(Disk::getSize).sum();
     }
 
+    /**
+     * Returns the pool of the opened disks of this zip, all readers should use
+     * it instead of opening the disks by themselves.
+     *
+     * @return not {@literal null} pool
+     */
+    public synchronized FileChannelPool getChannelPool() {
+        if (channelPool == null)
+            channelPool = new FileChannelPool(this);
+        return channelPool;
+    }
+
     public boolean isSolid() {
         return disks.size() <= 1;
     }
@@ -88,15 +109,21 @@ public class SrcZip {
     }
 
     public Disk getDiskByAbsOffs(long absOffs) {
-        for (SrcZip.Disk disk : disks)
-            if (absOffs - disk.getAbsOffs() <= disk.getSize())
-                return disk;
+        // disks are ordered by absOffs, so find the first disk which end is not before the given absOffs
+        int lo = 0;
+        int hi = disks.size() - 1;
 
-        return getLastDisk();
-    }
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            Disk disk = disks.get(mid);
+
+            if (absOffs - disk.getAbsOffs() <= disk.getSize())
+                hi = mid;
+            else
+                lo = mid + 1;
+        }
 
-    private Disk getLastDisk() {
-        return disks.get(disks.size() - 1);
+        return disks.get(lo);
     }
 
     protected static Set<Path> getDiskPaths(Path dir, String pattern) {
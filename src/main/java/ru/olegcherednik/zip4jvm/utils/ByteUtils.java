@@ -67,6 +67,10 @@ public final class ByteUtils {
         return val & 0xFFFFFFFFL;
     }
 
+    public static int readWord(byte[] buf, int offs) {
+        return (buf[offs] & 0xFF | (buf[offs + 1] & 0xFF) << 8) & 0xFFFF;
+    }
+
     public static long readDword(byte[] buf, int offs) {
         long val = 0;
 
@@ -85,6 +89,10 @@ public final class ByteUtils {
         return val;
     }
 
+    public static long readQword(byte[] buf, int offs) {
+        return readDword(buf, offs) | readDword(buf, offs + DWORD_SIZE) << 32;
+    }
+
     public static BigInteger readBigInteger(int size, ReadBuffer in) {
         byte[] buf = new byte[size];
 
@@ -134,4 +142,9 @@ public final class ByteUtils {
         });
     }
 
+    public static void writeDword(long val, byte[] buf, int offs) {
+        for (int i = 0; i < 4; i++)
+            buf[offs + i] = (byte) getByte(val, i);
+    }
+
 }
@@ -20,12 +20,15 @@ import ru.olegcherednik.zip4jvm.utils.quitely.Quietly;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.commons.codec.digest.PureJavaCrc32;
 import org.apache.commons.io.IOUtils;
 
 import java.io.BufferedInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
 import java.util.zip.CheckedInputStream;
 import java.util.zip.Checksum;
 
@@ -37,14 +40,65 @@ import java.util.zip.Checksum;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ChecksumUtils {
 
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * JDK's {@link CRC32} is intrinsified on modern x86 and ARM (i.e. it uses
+     * CPU instructions) and it is much faster than pure java implementation.
+     */
+    private static volatile Supplier<Checksum> crc32Factory = CRC32::new;
+
+    /**
+     * Creates a new CRC32 engine; all CRC32 of the zip entries are calculated
+     * and checked with it.
+     */
+    public static Checksum createCrc32() {
+        return crc32Factory.get();
+    }
+
+    /**
+     * Replaces the CRC32 engine used by {@link #createCrc32()};
+     * {@literal null} restores the default {@link CRC32}.
+     */
+    public static void setCrc32Factory(Supplier<Checksum> factory) {
+        crc32Factory = Optional.ofNullable(factory).orElse(CRC32::new);
+    }
+
+    /**
+     * Updates {@code checksum} with all remaining bytes of {@code buf}; the
+     * position of {@code buf} is not changed.
+     */
+    public static void update(Checksum checksum, ByteBuffer buf) {
+        if (checksum instanceof CRC32)
+            ((CRC32) checksum).update(buf.duplicate());
+        else if (buf.hasArray())
+            checksum.update(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+        else {
+            ByteBuffer dup = buf.duplicate();
+            byte[] arr = new byte[Math.min(dup.remaining(), BUFFER_SIZE)];
+
+            while (dup.hasRemaining()) {
+                int len = Math.min(dup.remaining(), arr.length);
+                dup.get(arr, 0, len);
+                checksum.update(arr, 0, len);
+            }
+        }
+    }
+
+    public static long crc32(byte[] buf, int offs, int len) {
+        Checksum crc32 = createCrc32();
+        crc32.update(buf, offs, len);
+        return crc32.getValue();
+    }
+
     @SuppressWarnings("PMD.EmptyControlStatement")
     public static long crc32(InputStream is) {
         return Quietly.doRuntime(() -> {
-            Checksum crc32 = new PureJavaCrc32();
+            Checksum crc32 = createCrc32();
             InputStream bis = is instanceof BufferedInputStream ? is : new BufferedInputStream(is);
 
             try (InputStream in = new CheckedInputStream(bis, crc32)) {
-                byte[] buf = new byte[1024];
+                byte[] buf = new byte[BUFFER_SIZE];
 
                 while (in.read(buf) != IOUtils.EOF) {
                     // read file in completely
@@ -56,12 +110,73 @@ public final class ChecksumUtils {
     }
 
     public static long crc32(String str) {
-        return Quietly.doRuntime(() -> {
-            byte[] buf = str.getBytes(StandardCharsets.UTF_8);
-            Checksum crc32 = new PureJavaCrc32();
-            crc32.update(buf, 0, buf.length);
-            return crc32.getValue();
-        });
+        byte[] buf = str.getBytes(StandardCharsets.UTF_8);
+        return crc32(buf, 0, buf.length);
+    }
+
+    /**
+     * Returns CRC32 of the concatenation of two blocks, when {@code crc1} is a
+     * CRC32 of the first block and {@code crc2} is a CRC32 of the second block
+     * with length {@code len2}. This is a port of zlib's
+     * {@code crc32_combine()}; it is used to merge CRC32 of the blocks
+     * calculated concurrently.
+     */
+    public static long crc32Combine(long crc1, long crc2, long len2) {
+        if (len2 <= 0)
+            return crc1;
+
+        long[] even = new long[32];
+        long[] odd = new long[32];
+
+        // put operator for one zero bit in odd
+        odd[0] = 0xEDB88320L;
+        long row = 1;
+
+        for (int i = 1; i < odd.length; i++) {
+            odd[i] = row;
+            row <<= 1;
+        }
+
+        // put operator for two zero bits in even and four zero bits in odd
+        gf2MatrixSquare(even, odd);
+        gf2MatrixSquare(odd, even);
+
+        // apply len2 zeros to crc1 (first square will put the operator for one zero byte, eight zero bits, in even)
+        do {
+            gf2MatrixSquare(even, odd);
+
+            if ((len2 & 1) != 0)
+                crc1 = gf2MatrixTimes(even, crc1);
+
+            len2 >>= 1;
+
+            if (len2 == 0)
+                break;
+
+            gf2MatrixSquare(odd, even);
+
+            if ((len2 & 1) != 0)
+                crc1 = gf2MatrixTimes(odd, crc1);
+
+            len2 >>= 1;
+        } while (len2 != 0);
+
+        return crc1 ^ crc2;
+    }
+
+    private static long gf2MatrixTimes(long[] mat, long vec) {
+        long sum = 0;
+
+        for (int i = 0; vec != 0; i++, vec >>>= 1)
+            if ((vec & 1) != 0)
+                sum ^= mat[i];
+
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(long[] square, long[] mat) {
+        for (int i = 0; i < square.length; i++)
+            square[i] = gf2MatrixTimes(mat, mat[i]);
     }
 
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.utils;
+
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ThreadUtils {
+
+    /**
+     * Returns amount of threads for the given {@code asyncThreads} setting;
+     * zero or negative value means all available processors.
+     */
+    public static int getTotalThreads(int asyncThreads) {
+        return asyncThreads <= 0 ? Runtime.getRuntime().availableProcessors() : asyncThreads;
+    }
+
+    /**
+     * Creates a pool with given {@code totalThreads}; threads are named as
+     * {@code zip4jvm-<name>-<no>}.
+     */
+    public static ExecutorService createExecutor(String name, int totalThreads) {
+        AtomicInteger counter = new AtomicInteger();
+        String format = String.format("zip4jvm-%s-%%0%dd", name, String.valueOf(totalThreads).length());
+
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(String.format(format, counter.incrementAndGet()));
+            return thread;
+        };
+
+        return new ForkJoinPool(totalThreads, factory, null, false);
+    }
+
+    /**
+     * Retrieves the pool shared by all zip writers (compression of the
+     * entries and parallel deflate); it's created on demand and never shut
+     * down (threads are daemons). Tasks blocked in the nested tasks of the same
+     * pool do not deadlock, because {@link ForkJoinPool} compensates the blocked
+     * worker with a new one.
+     */
+    public static ExecutorService getSharedExecutor() {
+        return SharedExecutorHolder.INSTANCE;
+    }
+
+    /**
+     * Retrieves an exception to throw for the failed async task: cause of
+     * {@link CompletionException} or {@link ExecutionException} is unwrapped;
+     * {@link Error} is thrown as is, checked exception is wrapped into
+     * {@link Zip4jvmException}.
+     */
+    public static RuntimeException getTaskException(Throwable e) {
+        Throwable cause = e;
+
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null)
+            cause = cause.getCause();
+
+        if (cause instanceof Error)
+            throw (Error) cause;
+        if (cause instanceof RuntimeException)
+            return (RuntimeException) cause;
+        return new Zip4jvmException(cause);
+    }
+
+    private static final class SharedExecutorHolder {
+
+        private static final ExecutorService INSTANCE =
+                createExecutor("worker", Runtime.getRuntime().availableProcessors());
+
+    }
+
+}
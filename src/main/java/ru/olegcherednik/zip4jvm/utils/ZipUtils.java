@@ -30,6 +30,10 @@ import java.io.OutputStream;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableSet;
 import java.util.regex.Pattern;
 
 /**
@@ -75,6 +79,47 @@ public final class ZipUtils {
         return fileName;
     }
 
+    /**
+     * Retrieves all names from the sorted {@code fileNames} which start with
+     * the given {@code prefix}. These names are located one by one in the
+     * sorted set, so only {@code log(n)} lookup is required to find the first
+     * one.
+     *
+     * @param fileNames sorted file names
+     * @param prefix    file name prefix
+     * @return not {@literal null} file names in ascending order
+     */
+    public static List<String> getFileNamesByPrefix(NavigableSet<String> fileNames, String prefix) {
+        List<String> res = new ArrayList<>();
+
+        for (String fileName : fileNames.tailSet(prefix, true)) {
+            if (!fileName.startsWith(prefix))
+                break;
+
+            res.add(fileName);
+        }
+
+        return res;
+    }
+
+    /**
+     * Retrieves all names from the sorted {@code fileNames} which start with
+     * the given {@code prefix} using binary search to find the first one.
+     *
+     * @param fileNames sorted file names
+     * @param prefix    file name prefix
+     * @return not {@literal null} file names in ascending order
+     */
+    public static List<String> getFileNamesByPrefix(String[] fileNames, String prefix) {
+        int pos = Arrays.binarySearch(fileNames, prefix);
+        List<String> res = new ArrayList<>();
+
+        for (int i = pos < 0 ? -pos - 1 : pos; i < fileNames.length && fileNames[i].startsWith(prefix); i++)
+            res.add(fileNames[i]);
+
+        return res;
+    }
+
     public static long copyLarge(InputStream input, OutputStream output) {
         try (InputStream in = input;
              OutputStream out = output) {
@@ -38,9 +38,13 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static ru.olegcherednik.zip4jvm.TestData.fileBentley;
 import static ru.olegcherednik.zip4jvm.TestData.fileNameBentley;
+import static ru.olegcherednik.zip4jvm.TestData.filesDirCars;
+import static ru.olegcherednik.zip4jvm.TestDataAssert.dirCarsAssert;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.fileBentleyAssert;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.fileBentleySize;
+import static ru.olegcherednik.zip4jvm.Zip4jvmSuite.SIZE_1MB;
 import static ru.olegcherednik.zip4jvm.Zip4jvmSuite.password;
+import static ru.olegcherednik.zip4jvm.assertj.Zip4jvmAssertions.assertThatDirectory;
 import static ru.olegcherednik.zip4jvm.assertj.Zip4jvmAssertions.assertThatZipFile;
 
 /**
@@ -84,6 +88,36 @@ public class ZipCompressionOptimizationTest extends BaseTest {
         assertThatZipFile(zip, password).root().withRegularFile(fileNameBentley, fileBentleyAssert);
     }
 
+    public void shouldPatchLocalFileHeaderWhenSplitZipWithoutDataDescriptor() {
+        Path parent = getTestRoot();
+        Path zip = parent.resolve(UUID.randomUUID() + ".zip");
+
+        ZipIt.zip(zip)
+             .settings(ZipSettings.builder()
+                                  .splitSize(SIZE_1MB)
+                                  .entrySettings(
+                                          ZipEntrySettings.builder()
+                                                          .compression(CompressionEnum.DEFLATE)
+                                                          .encryption(EncryptionEnum.PKWARE, password)
+                                                          .dataDescriptor(DataDescriptorEnum.DISABLE)
+                                                          .build())
+                                  .build())
+             .add(filesDirCars);
+
+        InfoEngine infoEngine = new InfoEngine(SrcZip.of(zip), ZipInfoSettings.builder().readEntries(true).build());
+        BlockModel blockModel = infoEngine.createModel();
+
+        LocalFileHeader localFileHeader = blockModel.getZipEntryBlock(fileNameBentley).getLocalFileHeader();
+        assertThat(localFileHeader.getGeneralPurposeFlag().isDataDescriptorAvailable()).isFalse();
+        assertThat(localFileHeader.getCrc32()).isNotZero();
+        assertThat(localFileHeader.getCompressedSize()).isNotZero();
+        assertThat(localFileHeader.getUncompressedSize()).isEqualTo(fileBentleySize);
+
+        Path dstDir = parent.resolve("unzip");
+        UnzipIt.zip(zip).dstDir(dstDir).password(password).extract();
+        assertThatDirectory(dstDir).matches(dirCarsAssert);
+    }
+
     @SuppressWarnings("NewMethodNamingConvention")
     @DataProvider(name = "zip64")
     public static Object[][] zip64() {
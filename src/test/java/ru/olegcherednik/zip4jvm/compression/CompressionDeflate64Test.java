@@ -19,6 +19,7 @@ package ru.olegcherednik.zip4jvm.compression;
 import ru.olegcherednik.zip4jvm.BaseTest;
 import ru.olegcherednik.zip4jvm.ZipIt;
 import ru.olegcherednik.zip4jvm.model.settings.CompressionEnum;
+import ru.olegcherednik.zip4jvm.model.settings.CompressionLevelEnum;
 import ru.olegcherednik.zip4jvm.model.settings.ZipEntrySettings;
 import ru.olegcherednik.zip4jvm.model.settings.ZipSettings;
 
@@ -52,6 +53,21 @@ public class CompressionDeflate64Test extends BaseTest {
                 .isSolid().root().matches(rootAssert);
     }
 
+    public void shouldCreateSingleZipWhenDeflate64CompressionWithAnyLevel() {
+        for (CompressionLevelEnum compressionLevel : CompressionLevelEnum.values()) {
+            ZipEntrySettings entrySettings = ZipEntrySettings.builder()
+                                                             .compression(CompressionEnum.DEFLATE_64, compressionLevel)
+                                                             .build();
+            ZipSettings settings = ZipSettings.builder().entrySettings(entrySettings).build();
+
+            Path zip = getTestRoot().resolve(compressionLevel.getTitle()).resolve("src.zip");
+
+            ZipIt.zip(zip).settings(settings).add(contentDirSrc);
+
+            assertThatZipFile(zip).isSolid().root().matches(rootAssert);
+        }
+    }
+
     public void shouldCreateSplitZipWhenDeflate64Compression() {
         ZipSettings settings = ZipSettings.builder()
                                           .entrySettings(CompressionEnum.DEFLATE_64)
@@ -23,13 +23,21 @@ import ru.olegcherednik.zip4jvm.ZipIt;
 import ru.olegcherednik.zip4jvm.model.CentralDirectory;
 import ru.olegcherednik.zip4jvm.model.Compression;
 import ru.olegcherednik.zip4jvm.model.settings.CompressionEnum;
+import ru.olegcherednik.zip4jvm.model.settings.EncryptionEnum;
 import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
 import ru.olegcherednik.zip4jvm.model.settings.ZipEntrySettings;
 import ru.olegcherednik.zip4jvm.model.settings.ZipSettings;
+import ru.olegcherednik.zip4jvm.utils.function.InputStreamSupplier;
 
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static ru.olegcherednik.zip4jvm.TestData.dirBikes;
@@ -71,6 +79,98 @@ public class CompressionDeflateTest extends BaseTest {
                 .root().matches(dirCarsAssert);
     }
 
+    public void shouldCreateSingleZipWithFilesWhenDeflateCompressionAndMinBufferSize() {
+        ZipEntrySettings entrySettings = ZipEntrySettings.builder()
+                                                         .compression(CompressionEnum.DEFLATE)
+                                                         .deflateBufferSize(ZipEntrySettings.DEFLATE_BUFFER_SIZE_MIN)
+                                                         .build();
+        ZipSettings settings = ZipSettings.builder().entrySettings(entrySettings).build();
+
+        Path zip = getZip();
+
+        ZipIt.zip(zip).settings(settings).add(filesDirCars);
+
+        assertThatZipFile(zip)
+                .isSolid()
+                .root().matches(dirCarsAssert);
+    }
+
+    public void shouldCreateSingleZipWithFilesWhenParallelDeflateCompression() {
+        ZipEntrySettings entrySettings = ZipEntrySettings.builder()
+                                                         .compression(CompressionEnum.DEFLATE)
+                                                         .deflateThreads(ZipEntrySettings.DEFLATE_THREADS_AUTO)
+                                                         .build();
+        ZipSettings settings = ZipSettings.builder().entrySettings(entrySettings).build();
+
+        Path zip = getZip();
+
+        ZipIt.zip(zip).settings(settings).add(filesDirCars);
+
+        assertThatZipFile(zip)
+                .isSolid()
+                .root().matches(dirCarsAssert);
+
+        Path dstDir = getTestRoot().resolve("unzip");
+        UnzipIt.zip(zip).dstDir(dstDir).extract();
+        assertThatDirectory(dstDir).matches(dirCarsAssert);
+    }
+
+    public void shouldCreateSingleZipWhenParallelDeflateCompressionAndUnknownSizeAndAsync() throws IOException {
+        byte[] buf = new byte[1024 * 1024 + 17];
+        new Random(42).nextBytes(buf);
+        Arrays.fill(buf, 1000, buf.length / 2, (byte) 'a');
+
+        InputStreamSupplier inputStreamSupplier = new InputStreamSupplier() {
+            @Override
+            public long getSize() {
+                return -1;
+            }
+
+            @Override
+            public InputStream get() {
+                return new ByteArrayInputStream(buf);
+            }
+        };
+
+        ZipEntrySettings entrySettings = ZipEntrySettings.builder()
+                                                         .compression(CompressionEnum.DEFLATE)
+                                                         .deflateThreads(2)
+                                                         .build();
+        ZipSettings settings = ZipSettings.builder()
+                                          .entrySettings(entrySettings)
+                                          .asyncThreads(2)
+                                          .build();
+
+        Path zip = getZip();
+
+        ZipIt.zip(zip).settings(settings).execute(zipFile -> {
+            zipFile.add(inputStreamSupplier, "one.bin");
+            zipFile.add(inputStreamSupplier, "two.bin");
+        });
+
+        Path dstDir = getTestRoot().resolve("unzip");
+        UnzipIt.zip(zip).dstDir(dstDir).extract();
+        assertThat(Files.readAllBytes(dstDir.resolve("one.bin"))).isEqualTo(buf);
+        assertThat(Files.readAllBytes(dstDir.resolve("two.bin"))).isEqualTo(buf);
+    }
+
+    public void shouldCreateSingleZipWithFilesWhenParallelDeflateCompressionAndPkwareEncryption() {
+        ZipEntrySettings entrySettings = ZipEntrySettings.builder()
+                                                         .compression(CompressionEnum.DEFLATE)
+                                                         .encryption(EncryptionEnum.PKWARE, password)
+                                                         .deflateThreads(2)
+                                                         .build();
+        ZipSettings settings = ZipSettings.builder().entrySettings(entrySettings).build();
+
+        Path zip = getZip();
+
+        ZipIt.zip(zip).settings(settings).add(filesDirCars);
+
+        Path dstDir = getTestRoot().resolve("unzip");
+        UnzipIt.zip(zip).dstDir(dstDir).password(password).extract();
+        assertThatDirectory(dstDir).matches(dirCarsAssert);
+    }
+
     public void shouldCreateSplitZipWithFilesWhenDeflateCompression() {
         ZipSettings settings = ZipSettings.builder()
                                           .entrySettings(CompressionEnum.DEFLATE)
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.crypto.aes;
+
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@Test
+public class WinZipAesKeyCacheTest {
+
+    public void shouldRetrieveKeyWhenSameSaltPasswordAndStrength() {
+        WinZipAesKeyCache cache = new WinZipAesKeyCache(10);
+        byte[] salt = { 1, 2, 3 };
+        char[] password = "password".toCharArray();
+        byte[] key = { 4, 5, 6 };
+
+        cache.put(salt, password, AesStrength.S256, key);
+
+        assertThat(cache.get(salt.clone(), password.clone(), AesStrength.S256)).isSameAs(key);
+        assertThat(cache.get(salt, "Password".toCharArray(), AesStrength.S256)).isNull();
+        assertThat(cache.get(salt, password, AesStrength.S128)).isNull();
+        assertThat(cache.get(new byte[] { 1, 2 }, password, AesStrength.S256)).isNull();
+    }
+
+    public void shouldEvictLeastRecentlyUsedKeyWhenMaxSizeExceeded() {
+        WinZipAesKeyCache cache = new WinZipAesKeyCache(2);
+        char[] password = "password".toCharArray();
+
+        cache.put(new byte[] { 1 }, password, AesStrength.S256, new byte[] { 1 });
+        cache.put(new byte[] { 2 }, password, AesStrength.S256, new byte[] { 2 });
+        assertThat(cache.get(new byte[] { 1 }, password, AesStrength.S256)).isNotNull();
+        cache.put(new byte[] { 3 }, password, AesStrength.S256, new byte[] { 3 });
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(new byte[] { 1 }, password, AesStrength.S256)).isNotNull();
+        assertThat(cache.get(new byte[] { 2 }, password, AesStrength.S256)).isNull();
+        assertThat(cache.get(new byte[] { 3 }, password, AesStrength.S256)).isNotNull();
+    }
+
+}
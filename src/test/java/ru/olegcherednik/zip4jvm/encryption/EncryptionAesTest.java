@@ -19,9 +19,11 @@ package ru.olegcherednik.zip4jvm.encryption;
 import ru.olegcherednik.zip4jvm.BaseTest;
 import ru.olegcherednik.zip4jvm.UnzipIt;
 import ru.olegcherednik.zip4jvm.ZipInfo;
+import ru.olegcherednik.zip4jvm.ZipFile;
 import ru.olegcherednik.zip4jvm.ZipIt;
 import ru.olegcherednik.zip4jvm.exception.EmptyPasswordException;
 import ru.olegcherednik.zip4jvm.exception.IncorrectZipEntryPasswordException;
+import ru.olegcherednik.zip4jvm.model.password.PasswordProvider;
 import ru.olegcherednik.zip4jvm.model.settings.CompressionEnum;
 import ru.olegcherednik.zip4jvm.model.settings.EncryptionEnum;
 import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
@@ -33,6 +35,7 @@ import org.testng.annotations.Test;
 
 import java.nio.file.Path;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static ru.olegcherednik.zip4jvm.TestData.contentDirSrc;
@@ -139,6 +142,65 @@ public class EncryptionAesTest extends BaseTest {
         assertThatDirectory(dstDir).matches(rootAssert);
     }
 
+    public void shouldUnzipManyTimesWhenAesKeyCacheOn() {
+        Path dstDir = getTestRoot();
+        UnzipSettings settings = UnzipSettings.builder()
+                                              .passwordProvider(fileNamePasswordProvider)
+                                              .aesKeyCacheSize(100)
+                                              .build();
+
+        try (ZipFile.Reader zipFile = UnzipIt.zip(zipStoreSolidAes).settings(settings).open()) {
+            zipFile.extract(dstDir.resolve("one"));
+            zipFile.extract(dstDir.resolve("two"));
+        }
+
+        assertThatDirectory(dstDir.resolve("one")).matches(rootAssert);
+        assertThatDirectory(dstDir.resolve("two")).matches(rootAssert);
+    }
+
+    public void shouldThrowExceptionWhenAesKeyCacheOnAndIncorrectPassword() {
+        Path dstDir = getTestRoot();
+        UnzipSettings settings = UnzipSettings.builder()
+                                              .password(UUID.randomUUID().toString().toCharArray())
+                                              .aesKeyCacheSize(100)
+                                              .asyncOff()
+                                              .build();
+
+        assertThatThrownBy(() -> UnzipIt.zip(zipStoreSolidAes).dstDir(dstDir).settings(settings).extract())
+                .isExactlyInstanceOf(IncorrectZipEntryPasswordException.class);
+    }
+
+    public void shouldThrowExceptionWhenAesKeyCacheWarmAndIncorrectPassword() {
+        Path dstDir = getTestRoot();
+        AtomicBoolean incorrectPassword = new AtomicBoolean();
+        PasswordProvider passwordProvider = new PasswordProvider() {
+            @Override
+            public char[] getFilePassword(String fileName) {
+                return incorrectPassword.get() ? UUID.randomUUID().toString().toCharArray()
+                                               : fileNamePasswordProvider.getFilePassword(fileName);
+            }
+
+            @Override
+            public char[] getCentralDirectoryPassword() {
+                return fileNamePasswordProvider.getCentralDirectoryPassword();
+            }
+        };
+        UnzipSettings settings = UnzipSettings.builder()
+                                              .passwordProvider(passwordProvider)
+                                              .aesKeyCacheSize(100)
+                                              .asyncOff()
+                                              .build();
+
+        try (ZipFile.Reader zipFile = UnzipIt.zip(zipStoreSolidAes).settings(settings).open()) {
+            zipFile.extract(dstDir.resolve("one"));
+            assertThatDirectory(dstDir.resolve("one")).matches(rootAssert);
+
+            incorrectPassword.set(true);
+            assertThatThrownBy(() -> zipFile.extract(dstDir.resolve("two")))
+                    .isExactlyInstanceOf(IncorrectZipEntryPasswordException.class);
+        }
+    }
+
     public void shouldThrowExceptionWhenUnzipAesEncryptedZipWithIncorrectPassword() {
         Path dstDir = getTestRoot();
 
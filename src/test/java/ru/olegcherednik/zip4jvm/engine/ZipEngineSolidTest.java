@@ -284,6 +284,23 @@ public class ZipEngineSolidTest extends BaseTest {
         }).isExactlyInstanceOf(EntryNotFoundException.class);
     }
 
+    public void shouldNotWriteEntryWhenAddedAndRemoved() {
+        Path zip = Zip4jvmSuite.copy(getTestRoot(), srcZip);
+
+        ZipIt.zip(zip).execute(zipFile -> {
+            zipFile.add(fileKawasaki);
+            zipFile.removeEntryByName(fileNameKawasaki);
+        });
+
+        assertThatZipFile(zip, password)
+                .isSolid()
+                .root().hasOnlyRegularFiles(4)
+                .withRegularFile(fileNameBentley, fileBentleyAssert)
+                .withRegularFile(fileNameFerrari, fileFerrariAssert)
+                .withRegularFile(fileNameWiesmann, fileWiesmannAssert)
+                .withRegularFileEncrypted(fileNameHonda, fileHondaPassword, fileHondaAssert);
+    }
+
     public void shouldThrowExceptionWhenCopyNullEntry() {
         Path zip = Zip4jvmSuite.copy(getTestRoot(), srcZip);
 
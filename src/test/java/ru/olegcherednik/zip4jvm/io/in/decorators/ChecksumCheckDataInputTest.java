@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.in.decorators;
+
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
+import ru.olegcherednik.zip4jvm.io.ByteOrder;
+import ru.olegcherednik.zip4jvm.io.in.DataInput;
+import ru.olegcherednik.zip4jvm.io.in.file.consecutive.ByteArrayConsecutiveAccessDataInput;
+import ru.olegcherednik.zip4jvm.utils.ChecksumUtils;
+
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@Test
+public class ChecksumCheckDataInputTest {
+
+    public void shouldNotThrowExceptionWhenChecksumMatchedWithSmallReads() {
+        byte[] data = createData();
+        long expected = ChecksumUtils.crc32(data, 0, data.length);
+        ChecksumCheckDataInput in = ChecksumCheckDataInput.checksum(() -> expected, "foo.txt", createDataInput(data));
+
+        assertThat(readFully(in)).isEqualTo(data.length);
+        assertThatCode(in::close).doesNotThrowAnyException();
+    }
+
+    public void shouldThrowExceptionWhenChecksumNotMatched() {
+        byte[] data = createData();
+        long expected = ChecksumUtils.crc32(data, 0, data.length) ^ 0x1;
+        ChecksumCheckDataInput in = ChecksumCheckDataInput.checksum(() -> expected, "foo.txt", createDataInput(data));
+
+        readFully(in);
+        assertThatThrownBy(in::close).isExactlyInstanceOf(Zip4jvmException.class)
+                                     .hasMessageContaining("foo.txt");
+    }
+
+    private static byte[] createData() {
+        byte[] data = new byte[100_000];
+        new Random(42).nextBytes(data);
+        return data;
+    }
+
+    private static DataInput createDataInput(byte[] data) {
+        return new ByteArrayConsecutiveAccessDataInput(data, 0, ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int readFully(DataInput in) {
+        byte[] buf = new byte[7];
+        int total = 0;
+        int readNow = in.read(buf, 0, buf.length);
+
+        while (readNow != IOUtils.EOF) {
+            total += readNow;
+            readNow = in.read(buf, 0, buf.length);
+        }
+
+        return total;
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.in.file;
+
+import ru.olegcherednik.zip4jvm.BaseTest;
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
+import ru.olegcherednik.zip4jvm.model.src.SrcZip;
+
+import org.testng.annotations.Test;
+
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static ru.olegcherednik.zip4jvm.TestData.zipDeflateSolid;
+
+/**
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@Test
+public class FileChannelPoolTest extends BaseTest {
+
+    public void shouldCloseChannelWhenReleasedAndPoolNotOpened() {
+        SrcZip srcZip = SrcZip.of(zipDeflateSolid);
+        FileChannelPool pool = srcZip.getChannelPool();
+
+        FileChannelPool.Lease lease = pool.acquire(srcZip.getDiskByNo(0));
+        FileChannel channel = lease.getChannel();
+        assertThat(channel.isOpen()).isTrue();
+
+        lease.close();
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    public void shouldReuseChannelWhenPoolOpened() {
+        SrcZip srcZip = SrcZip.of(zipDeflateSolid);
+        FileChannelPool pool = srcZip.getChannelPool().open();
+
+        FileChannelPool.Lease one = pool.acquire(srcZip.getDiskByNo(0));
+        FileChannel channel = one.getChannel();
+        one.close();
+
+        FileChannelPool.Lease two = pool.acquire(srcZip.getDiskByNo(0));
+        assertThat(two.getChannel()).isSameAs(channel);
+        two.close();
+        assertThat(channel.isOpen()).isTrue();
+
+        pool.close();
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    public void shouldShareChannelsWhenMaxChannelsPerDiskReached() {
+        SrcZip srcZip = SrcZip.of(zipDeflateSolid);
+        FileChannelPool pool = srcZip.getChannelPool();
+        pool.setMaxChannelsPerDisk(1);
+
+        FileChannelPool.Lease one = pool.acquire(srcZip.getDiskByNo(0));
+        FileChannelPool.Lease two = pool.acquire(srcZip.getDiskByNo(0));
+        assertThat(two.getChannel()).isSameAs(one.getChannel());
+
+        byte[] buf = new byte[4];
+        assertThat(two.read(0, buf, 0, buf.length)).isEqualTo(buf.length);
+        assertThat(buf).containsExactly(0x50, 0x4B, 0x03, 0x04);
+
+        one.close();
+        assertThat(two.getChannel().isOpen()).isTrue();
+        two.close();
+        assertThat(two.getChannel().isOpen()).isFalse();
+    }
+
+    public void shouldReopenChannelWhenSharedChannelClosedByInterruptedReader() {
+        SrcZip srcZip = SrcZip.of(zipDeflateSolid);
+        FileChannelPool pool = srcZip.getChannelPool().open();
+        pool.setMaxChannelsPerDisk(1);
+
+        FileChannelPool.Lease one = pool.acquire(srcZip.getDiskByNo(0));
+        FileChannelPool.Lease two = pool.acquire(srcZip.getDiskByNo(0));
+        FileChannel channel = one.getChannel();
+        byte[] buf = new byte[4];
+
+        try {
+            Thread.currentThread().interrupt();
+            assertThatThrownBy(() -> one.read(0, buf, 0, buf.length))
+                    .isExactlyInstanceOf(Zip4jvmException.class)
+                    .hasCauseExactlyInstanceOf(ClosedByInterruptException.class);
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+
+        assertThat(channel.isOpen()).isFalse();
+        assertThat(two.read(0, buf, 0, buf.length)).isEqualTo(buf.length);
+        assertThat(buf).containsExactly(0x50, 0x4B, 0x03, 0x04);
+        assertThat(two.getChannel()).isNotSameAs(channel);
+
+        FileChannelPool.Lease three = pool.acquire(srcZip.getDiskByNo(0));
+        assertThat(three.getChannel()).isSameAs(two.getChannel());
+
+        one.close();
+        two.close();
+        three.close();
+        pool.close();
+        assertThat(three.getChannel().isOpen()).isFalse();
+    }
+
+}
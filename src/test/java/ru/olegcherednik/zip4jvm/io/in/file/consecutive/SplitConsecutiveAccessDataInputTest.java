@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.in.file.consecutive;
+
+import ru.olegcherednik.zip4jvm.BaseTest;
+import ru.olegcherednik.zip4jvm.io.out.file.SplitZipDataOutput;
+import ru.olegcherednik.zip4jvm.model.LocalFileHeader;
+import ru.olegcherednik.zip4jvm.model.builders.ZipModelBuilder;
+import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
+import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
+import ru.olegcherednik.zip4jvm.model.src.SrcZip;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.olegcherednik.zip4jvm.TestData.zipDeflateSplit;
+
+/**
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@Test
+public class SplitConsecutiveAccessDataInputTest extends BaseTest {
+
+    public void shouldNotOpenPreviousDisksWhenSeekForwardToEntryOnLastDisks() throws IOException {
+        Path zip = copySplitZip();
+        SrcZip srcZip = SrcZip.of(zip);
+        ZipEntry zipEntry = ZipModelBuilder.read(srcZip, UnzipSettings.DEFAULT).getZipEntries().stream()
+                                           .filter(entry -> entry.getDiskNo() > 1)
+                                           .findFirst()
+                                           .orElseThrow(IllegalStateException::new);
+
+        // the first disk cannot be opened anymore
+        Files.delete(srcZip.getDiskByNo(0).getPath());
+
+        try (SplitConsecutiveAccessDataInput in = new SplitConsecutiveAccessDataInput(srcZip)) {
+            in.seekForward(zipEntry.getLocalFileHeaderAbsOffs());
+            assertThat(in.getAbsOffs()).isEqualTo(zipEntry.getLocalFileHeaderAbsOffs());
+
+            assertThat(in.readDwordSignature()).isEqualTo(LocalFileHeader.SIGNATURE);
+            assertThat(in.getDisk().getNo()).isEqualTo(zipEntry.getDiskNo());
+        }
+    }
+
+    public void shouldReadFromFirstDiskWhenNoSeek() {
+        try (SplitConsecutiveAccessDataInput in = new SplitConsecutiveAccessDataInput(SrcZip.of(zipDeflateSplit))) {
+            assertThat(in.readDwordSignature()).isEqualTo(SplitZipDataOutput.SPLIT_SIGNATURE);
+            assertThat(in.getDisk().getNo()).isZero();
+        }
+    }
+
+    private Path copySplitZip() throws IOException {
+        SrcZip srcZip = SrcZip.of(zipDeflateSplit);
+        Path dir = getTestRoot();
+        Files.createDirectories(dir);
+
+        for (int i = 0; i < srcZip.getTotalDisks(); i++) {
+            Path path = srcZip.getDiskByNo(i).getPath();
+            Files.copy(path, dir.resolve(path.getFileName()));
+        }
+
+        return dir.resolve(zipDeflateSplit.getFileName());
+    }
+
+}
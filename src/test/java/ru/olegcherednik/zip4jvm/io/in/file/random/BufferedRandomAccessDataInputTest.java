@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.in.file.random;
+
+import ru.olegcherednik.zip4jvm.BaseTest;
+import ru.olegcherednik.zip4jvm.engine.unzip.UnzipEngine;
+import ru.olegcherednik.zip4jvm.model.src.SrcZip;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.olegcherednik.zip4jvm.TestData.zipDeflateSolid;
+
+/**
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@Test
+public class BufferedRandomAccessDataInputTest extends BaseTest {
+
+    /** The smallest window of {@link BufferedRandomAccessDataInput} */
+    private static final int WINDOW_SIZE = 8 * 1024;
+
+    private byte[] data;
+
+    @BeforeClass
+    public void readZip() throws IOException {
+        data = Files.readAllBytes(zipDeflateSolid);
+        assertThat(data.length).isGreaterThan(WINDOW_SIZE * 2);
+    }
+
+    public void shouldReadDwordWhenSeekWithinWindow() {
+        try (RandomAccessDataInput in = createDataInput()) {
+            in.readDword();
+            in.seek(100);
+
+            assertThat(in.getAbsOffs()).isEqualTo(100);
+            assertThat(in.readDword()).isEqualTo(getDword(100));
+        }
+    }
+
+    public void shouldReadDwordWhenSeekOutsideWindow() {
+        try (RandomAccessDataInput in = createDataInput()) {
+            in.readDword();
+            in.seek(WINDOW_SIZE + 100);
+
+            assertThat(in.getAbsOffs()).isEqualTo(WINDOW_SIZE + 100);
+            assertThat(in.readDword()).isEqualTo(getDword(WINDOW_SIZE + 100));
+
+            in.seek(10);
+            assertThat(in.readDword()).isEqualTo(getDword(10));
+        }
+    }
+
+    public void shouldReadNumbersAndBytesWhenCrossWindowBoundary() {
+        try (RandomAccessDataInput in = createDataInput()) {
+            in.readDword();
+            in.seek(WINDOW_SIZE - 2);
+            assertThat(in.readDword()).isEqualTo(getDword(WINDOW_SIZE - 2));
+
+            in.seek(WINDOW_SIZE * 2 - 10);
+            assertThat(in.readBytes(20)).isEqualTo(Arrays.copyOfRange(data, WINDOW_SIZE * 2 - 10,
+                                                                      WINDOW_SIZE * 2 + 10));
+            assertThat(in.getAbsOffs()).isEqualTo(WINDOW_SIZE * 2 + 10);
+        }
+    }
+
+    public void shouldShareMarksWithDecoratedInput() {
+        SrcZip srcZip = SrcZip.of(zipDeflateSolid);
+
+        try (RandomAccessDataInput delegate = UnzipEngine.createRandomAccessDataInput(srcZip)) {
+            delegate.seek(10);
+            delegate.mark("before");
+
+            RandomAccessDataInput in = BufferedRandomAccessDataInput.create(srcZip, delegate, 0);
+            assertThat(in.getMark("before")).isEqualTo(10);
+
+            in.seek(WINDOW_SIZE - 2);
+            in.mark("after");
+            in.readDword();
+
+            assertThat(delegate.getMark("after")).isEqualTo(WINDOW_SIZE - 2);
+            assertThat(in.getMarkSize("before")).isEqualTo(WINDOW_SIZE + 2 - 10);
+
+            in.seek("before");
+            assertThat(in.readDword()).isEqualTo(getDword(10));
+        }
+    }
+
+    private static RandomAccessDataInput createDataInput() {
+        SrcZip srcZip = SrcZip.of(zipDeflateSolid);
+        return BufferedRandomAccessDataInput.create(srcZip, UnzipEngine.createRandomAccessDataInput(srcZip), 0);
+    }
+
+    private long getDword(int offs) {
+        return ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).getInt(offs) & 0xFFFFFFFFL;
+    }
+
+}
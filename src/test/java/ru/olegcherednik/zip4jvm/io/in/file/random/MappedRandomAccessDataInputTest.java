@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.io.in.file.random;
+
+import ru.olegcherednik.zip4jvm.BaseTest;
+import ru.olegcherednik.zip4jvm.model.LocalFileHeader;
+import ru.olegcherednik.zip4jvm.model.src.SrcZip;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.olegcherednik.zip4jvm.TestData.zipDeflateSolid;
+
+/**
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@Test
+public class MappedRandomAccessDataInputTest extends BaseTest {
+
+    public void shouldDeleteZipWhenInputClosed() throws IOException {
+        Path zip = getTestRoot().resolve("src.zip");
+        Files.createDirectories(zip.getParent());
+        Files.copy(zipDeflateSolid, zip);
+
+        try (RandomAccessDataInput in = new MappedRandomAccessDataInput(SrcZip.of(zip))) {
+            assertThat(in.readDwordSignature()).isEqualTo(LocalFileHeader.SIGNATURE);
+        }
+
+        Files.delete(zip);
+        assertThat(zip).doesNotExist();
+    }
+
+}
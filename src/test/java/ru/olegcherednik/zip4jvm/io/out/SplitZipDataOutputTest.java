@@ -28,7 +28,9 @@ import org.apache.commons.io.FileUtils;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -113,6 +115,70 @@ public class SplitZipDataOutputTest extends BaseTest {
         assertThat(Arrays.copyOfRange(buf, 0, 4)).isEqualTo(new byte[] { 0x8, 0x7, 0x6, 0x5 });
     }
 
+    public void shouldSplitChunkBetweenDisksWhenWriteArray() throws IOException {
+        Path zip = getTestRoot().resolve(fileNameDataSrc);
+        ZipModel zipModel = new ZipModel(SrcZip.of(zip));
+        zipModel.addSplitTrigger(new LimitSizeSplitTrigger(10));
+
+        byte[] data = new byte[20];
+
+        for (int i = 0; i < data.length; i++)
+            data[i] = (byte) (i + 1);
+
+        try (SplitZipDataOutput out = new SplitZipDataOutput(zipModel)) {
+            assertThat(out.getDiskOffs()).isEqualTo(4);
+
+            out.write(data, 0, data.length);
+            assertThat(out.getDiskOffs()).isEqualTo(4);
+            assertThat(out.toString()).isEqualTo("offs: 4 (0x4); disk: 2");
+        }
+
+        zipModel.setTotalDisks(5);
+
+        byte[] buf = FileUtils.readFileToByteArray(zipModel.getDisk(0).toFile());
+        assertThat(buf).hasSize(10);
+        assertThat(Arrays.copyOfRange(buf, 4, 10)).isEqualTo(Arrays.copyOfRange(data, 0, 6));
+
+        buf = FileUtils.readFileToByteArray(zipModel.getDisk(1).toFile());
+        assertThat(buf).isEqualTo(Arrays.copyOfRange(data, 6, 16));
+
+        buf = FileUtils.readFileToByteArray(zipModel.getDisk(2).toFile());
+        assertThat(Arrays.copyOfRange(buf, 0, 4)).isEqualTo(Arrays.copyOfRange(data, 16, 20));
+    }
+
+    public void shouldSplitTransferredDataBetweenDisksWhenTransferFromChannel() throws IOException {
+        Path zip = getTestRoot().resolve(fileNameDataSrc);
+        ZipModel zipModel = new ZipModel(SrcZip.of(zip));
+        zipModel.addSplitTrigger(new LimitSizeSplitTrigger(10));
+
+        byte[] data = new byte[22];
+
+        for (int i = 0; i < data.length; i++)
+            data[i] = (byte) (i + 1);
+
+        Path src = getTestRoot().resolve("src.data");
+        FileUtils.writeByteArrayToFile(src.toFile(), data);
+
+        try (SplitZipDataOutput out = new SplitZipDataOutput(zipModel);
+             FileChannel channel = FileChannel.open(src, StandardOpenOption.READ)) {
+            out.transferFrom(channel, 2, 20);
+            assertThat(out.getDiskOffs()).isEqualTo(4);
+            assertThat(out.toString()).isEqualTo("offs: 4 (0x4); disk: 2");
+        }
+
+        zipModel.setTotalDisks(5);
+
+        byte[] buf = FileUtils.readFileToByteArray(zipModel.getDisk(0).toFile());
+        assertThat(buf).hasSize(10);
+        assertThat(Arrays.copyOfRange(buf, 4, 10)).isEqualTo(Arrays.copyOfRange(data, 2, 8));
+
+        buf = FileUtils.readFileToByteArray(zipModel.getDisk(1).toFile());
+        assertThat(buf).isEqualTo(Arrays.copyOfRange(data, 8, 18));
+
+        buf = FileUtils.readFileToByteArray(zipModel.getDisk(2).toFile());
+        assertThat(Arrays.copyOfRange(buf, 0, 4)).isEqualTo(Arrays.copyOfRange(data, 18, 22));
+    }
+
     public void shouldThrowExceptionWhenSplitFileExists() throws IOException {
         Path zip = getTestRoot().resolve(fileNameDataSrc);
         ZipModel zipModel = new ZipModel(SrcZip.of(zip));
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.model;
+
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
+import ru.olegcherednik.zip4jvm.model.builders.ZipModelBuilder;
+import ru.olegcherednik.zip4jvm.model.entry.ZipEntry;
+import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
+import ru.olegcherednik.zip4jvm.model.src.SrcZip;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static ru.olegcherednik.zip4jvm.TestData.dirNameCars;
+import static ru.olegcherednik.zip4jvm.TestData.zipDeflateSolid;
+
+/**
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@Test
+public class ZipModelTest {
+
+    @DataProvider(name = "compactIndex")
+    public static Object[][] compactIndex() {
+        return new Object[][] { { false }, { true } };
+    }
+
+    @Test(dataProvider = "compactIndex")
+    public void shouldRetrieveEntryNamesWhenPrefixMatches(boolean compactIndex) {
+        ZipModel zipModel = readZipModel(compactIndex);
+        String prefix = dirNameCars + '/';
+
+        assertThat(zipModel.getEntryNamesByPrefix(prefix)).isNotEmpty()
+                                                          .isSorted()
+                                                          .allMatch(fileName -> fileName.startsWith(prefix))
+                                                          .containsExactlyElementsOf(getSortedEntryNames(zipModel,
+                                                                                                         prefix));
+    }
+
+    @Test(dataProvider = "compactIndex")
+    public void shouldRetrieveAllEntryNamesWhenPrefixEmptyOrNull(boolean compactIndex) {
+        ZipModel zipModel = readZipModel(compactIndex);
+        List<String> expected = getSortedEntryNames(zipModel, "");
+
+        assertThat(expected).hasSize(zipModel.getTotalEntries());
+        assertThat(zipModel.getEntryNamesByPrefix("")).containsExactlyElementsOf(expected);
+        assertThat(zipModel.getEntryNamesByPrefix(null)).containsExactlyElementsOf(expected);
+    }
+
+    @Test(dataProvider = "compactIndex")
+    public void shouldRetrieveEmptyListWhenPrefixAbsent(boolean compactIndex) {
+        ZipModel zipModel = readZipModel(compactIndex);
+
+        assertThat(zipModel.getEntryNamesByPrefix("absent/")).isEmpty();
+        assertThat(zipModel.getEntryNamesByPrefix("~")).isEmpty();
+        assertThat(zipModel.getEntryNamesByPrefix(dirNameCars + "/~")).isEmpty();
+    }
+
+    public void shouldCountNameIndexWhenEstimateMemorySize() {
+        ZipModel zipModel = readZipModel(false);
+        long memorySize = zipModel.getMemorySize();
+
+        zipModel.getEntryNamesByPrefix("");
+        assertThat(zipModel.getMemorySize()).isGreaterThan(memorySize);
+    }
+
+    public void shouldCountEntriesWhenEstimateMemorySize() {
+        ZipModel zipModel = readZipModel(false);
+        long memorySize = zipModel.getMemorySize();
+        String fileName = zipModel.getAbsOffsAscFileName(0);
+
+        assertThat(memorySize).isGreaterThan(zipModel.getTotalEntries() * 2L);
+        assertThat(zipModel.removeZipEntry(fileName)).isTrue();
+        assertThat(zipModel.getMemorySize()).isLessThan(memorySize - fileName.length() * 2L);
+    }
+
+    @Test(dataProvider = "compactIndex")
+    public void shouldRetrieveEntriesInOffsetOrderWhenCursor(boolean compactIndex) {
+        ZipModel zipModel = readZipModel(compactIndex);
+        List<String> expected = zipModel.getAbsOffsAscEntries().stream()
+                                        .map(ZipEntry::getFileName)
+                                        .collect(Collectors.toList());
+        List<String> fileNames = new ArrayList<>();
+
+        for (int pos = 0; pos < zipModel.getTotalEntries(); pos++) {
+            fileNames.add(zipModel.getAbsOffsAscFileName(pos));
+            assertThat(zipModel.getAbsOffsAscEntry(pos).getFileName()).isEqualTo(fileNames.get(pos));
+        }
+
+        assertThat(fileNames).hasSize(zipModel.getTotalEntries()).containsExactlyElementsOf(expected);
+    }
+
+    public void shouldRefreshIndicesWhenEntryRemoved() {
+        ZipModel zipModel = readZipModel(false);
+        String fileName = zipModel.getAbsOffsAscFileName(0);
+        int totalEntries = zipModel.getTotalEntries();
+
+        assertThat(zipModel.getEntryNamesByPrefix("")).contains(fileName);
+        assertThat(zipModel.removeZipEntry(fileName)).isTrue();
+        assertThat(zipModel.removeZipEntry(fileName)).isFalse();
+
+        assertThat(zipModel.getAbsOffsAscEntries()).hasSize(totalEntries - 1)
+                                                   .noneMatch(zipEntry -> zipEntry.getFileName().equals(fileName));
+        assertThat(zipModel.getAbsOffsAscFileName(0)).isNotEqualTo(fileName);
+        assertThat(zipModel.getEntryNamesByPrefix("")).hasSize(totalEntries - 1).doesNotContain(fileName);
+    }
+
+    public void shouldRefreshOffsetOrderWhenEntryMoved() {
+        ZipModel zipModel = readZipModel(false);
+        List<ZipEntry> entries = zipModel.getAbsOffsAscEntries();
+        ZipEntry zipEntry = entries.get(entries.size() - 1);
+
+        zipEntry.setLocalFileHeaderDiskOffs(-1);
+        zipModel.invalidateIndices();
+
+        assertThat(zipModel.getAbsOffsAscEntry(0)).isSameAs(zipEntry);
+    }
+
+    public void shouldThrowExceptionWhenRemoveEntryFromCompactModel() {
+        ZipModel zipModel = readZipModel(true);
+        String fileName = zipModel.getAbsOffsAscFileName(0);
+
+        assertThatThrownBy(() -> zipModel.removeZipEntry(fileName)).isExactlyInstanceOf(Zip4jvmException.class);
+    }
+
+    private static ZipModel readZipModel(boolean compactIndex) {
+        UnzipSettings settings = UnzipSettings.builder().compactIndex(compactIndex).build();
+        return ZipModelBuilder.read(SrcZip.of(zipDeflateSolid), settings);
+    }
+
+    private static List<String> getSortedEntryNames(ZipModel zipModel, String prefix) {
+        return zipModel.getEntryNames().stream()
+                       .filter(fileName -> fileName.startsWith(prefix))
+                       .sorted()
+                       .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.unzipit;
+
+import ru.olegcherednik.zip4jvm.BaseTest;
+import ru.olegcherednik.zip4jvm.UnzipCache;
+import ru.olegcherednik.zip4jvm.UnzipIt;
+import ru.olegcherednik.zip4jvm.ZipFile;
+import ru.olegcherednik.zip4jvm.model.charset.Charsets;
+import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.olegcherednik.zip4jvm.TestData.dirNameCars;
+import static ru.olegcherednik.zip4jvm.TestData.dirSrcData;
+import static ru.olegcherednik.zip4jvm.TestData.fileBentley;
+import static ru.olegcherednik.zip4jvm.TestData.zipDeflateSolid;
+import static ru.olegcherednik.zip4jvm.TestData.zipStoreSolid;
+import static ru.olegcherednik.zip4jvm.TestDataAssert.copyLarge;
+import static ru.olegcherednik.zip4jvm.TestDataAssert.fileBentleyAssert;
+import static ru.olegcherednik.zip4jvm.assertj.Zip4jvmAssertions.assertThatFile;
+
+/**
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@Test
+public class UnzipCacheTest extends BaseTest {
+
+    public void shouldRetrieveSameReaderWhenZipNotModified() {
+        try (UnzipCache cache = new UnzipCache()) {
+            ZipFile.Reader reader = UnzipIt.zip(zipDeflateSolid).open(cache);
+            assertThat(UnzipIt.zip(zipDeflateSolid).open(cache)).isSameAs(reader);
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(cache.getMemorySize()).isPositive();
+        }
+    }
+
+    public void shouldRetrieveSameReaderWhenSettingsEqual() {
+        try (UnzipCache cache = new UnzipCache()) {
+            ZipFile.Reader reader = UnzipIt.zip(zipDeflateSolid).settings(createSettings()).open(cache);
+            assertThat(UnzipIt.zip(zipDeflateSolid).settings(createSettings()).open(cache)).isSameAs(reader);
+            assertThat(cache.size()).isEqualTo(1);
+        }
+    }
+
+    public void shouldRetrieveAnotherReaderWhenSettingsNotEqual() {
+        UnzipSettings settings = createSettings().toBuilder().memoryMapped(true).build();
+
+        try (UnzipCache cache = new UnzipCache()) {
+            ZipFile.Reader reader = UnzipIt.zip(zipDeflateSolid).settings(createSettings()).open(cache);
+            assertThat(UnzipIt.zip(zipDeflateSolid).settings(settings).open(cache)).isNotSameAs(reader);
+            assertThat(cache.size()).isEqualTo(2);
+        }
+    }
+
+    public void shouldParseZipAgainWhenZipModified() throws IOException {
+        Path zip = getTestRoot().resolve("src.zip");
+        Files.createDirectories(zip.getParent());
+        Files.copy(zipDeflateSolid, zip);
+
+        try (UnzipCache cache = new UnzipCache()) {
+            ZipFile.Reader reader = UnzipIt.zip(zip).open(cache);
+            Files.setLastModifiedTime(zip, FileTime.fromMillis(Files.getLastModifiedTime(zip).toMillis() + 10_000));
+
+            assertThat(UnzipIt.zip(zip).open(cache)).isNotSameAs(reader);
+            assertThat(cache.size()).isEqualTo(1);
+        }
+    }
+
+    public void shouldEvictLeastRecentlyUsedReaderWhenMemoryExceeded() {
+        try (UnzipCache cache = new UnzipCache(0)) {
+            ZipFile.Reader reader = UnzipIt.zip(zipDeflateSolid).open(cache);
+            UnzipIt.zip(zipStoreSolid).open(cache);
+
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(UnzipIt.zip(zipDeflateSolid).open(cache)).isNotSameAs(reader);
+        }
+    }
+
+    public void shouldCountPrefixModelsWhenEstimateMemorySize() {
+        try (UnzipCache cache = new UnzipCache()) {
+            ZipFile.Reader reader = UnzipIt.zip(zipDeflateSolid).open(cache);
+            long memorySize = cache.getMemorySize();
+
+            reader.extract(getTestRoot(), Collections.singleton(dirNameCars));
+            assertThat(cache.getMemorySize()).isGreaterThan(memorySize);
+        }
+    }
+
+    public void shouldReadEntryConcurrentlyWhenSharedReader() throws IOException {
+        String fileName = dirSrcData.relativize(fileBentley).toString();
+        Files.createDirectories(getTestRoot());
+
+        try (UnzipCache cache = new UnzipCache()) {
+            ZipFile.Reader reader = UnzipIt.zip(zipDeflateSolid).open(cache);
+
+            CompletableFuture.allOf(IntStream.range(0, 8)
+                                             .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                                                 Path actual = getTestRoot().resolve(i + "_bentley.jpg");
+                                                 copyLarge(reader.extract(fileName).getInputStream(), actual);
+                                                 assertThatFile(actual).matches(fileBentleyAssert);
+                                             }))
+                                             .toArray(CompletableFuture[]::new)).join();
+        }
+    }
+
+    private static UnzipSettings createSettings() {
+        return UnzipSettings.builder().password("1".toCharArray()).charset(Charsets.UTF_8).build();
+    }
+
+}
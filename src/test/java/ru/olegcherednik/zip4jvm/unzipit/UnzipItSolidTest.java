@@ -19,29 +19,43 @@ package ru.olegcherednik.zip4jvm.unzipit;
 import ru.olegcherednik.zip4jvm.BaseTest;
 import ru.olegcherednik.zip4jvm.UnzipIt;
 import ru.olegcherednik.zip4jvm.Zip4jvmSuite;
+import ru.olegcherednik.zip4jvm.ZipFile;
+import ru.olegcherednik.zip4jvm.ZipMisc;
+import ru.olegcherednik.zip4jvm.exception.SignatureNotFoundException;
+import ru.olegcherednik.zip4jvm.model.ZipModel;
 import ru.olegcherednik.zip4jvm.model.charset.Charsets;
+import ru.olegcherednik.zip4jvm.model.password.PasswordProvider;
 import ru.olegcherednik.zip4jvm.model.settings.UnzipSettings;
 
+import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static ru.olegcherednik.zip4jvm.TestData.dirNameBikes;
 import static ru.olegcherednik.zip4jvm.TestData.dirNameCars;
 import static ru.olegcherednik.zip4jvm.TestData.fileNameBentley;
+import static ru.olegcherednik.zip4jvm.TestData.fileNameDucati;
 import static ru.olegcherednik.zip4jvm.TestData.fileNameFerrari;
 import static ru.olegcherednik.zip4jvm.TestData.fileNameSaintPetersburg;
 import static ru.olegcherednik.zip4jvm.TestData.fileNameSigSauer;
+import static ru.olegcherednik.zip4jvm.TestData.fileNameWiesmann;
 import static ru.olegcherednik.zip4jvm.TestData.zipDeflateSolid;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.dirBikesAssert;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.fileBentleyAssert;
+import static ru.olegcherednik.zip4jvm.TestDataAssert.fileDucatiAssert;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.fileFerrariAssert;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.fileSaintPetersburgAssert;
+import static ru.olegcherednik.zip4jvm.TestDataAssert.fileWiesmannAssert;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.rootAssert;
 import static ru.olegcherednik.zip4jvm.assertj.Zip4jvmAssertions.assertThatDirectory;
 import static ru.olegcherednik.zip4jvm.assertj.Zip4jvmAssertions.assertThatFile;
@@ -64,6 +78,22 @@ public class UnzipItSolidTest extends BaseTest {
         assertThatFile(dstDir.resolve(fileNameBentley)).matches(fileBentleyAssert);
     }
 
+    public void shouldUnzipRequiredFilesWhenPrefixesOverlap() {
+        Path dstDir = getTestRoot();
+        List<String> fileNames = Arrays.asList(dirNameCars,
+                                               dirNameCars + SLASH + fileNameBentley,
+                                               fileNameSaintPetersburg,
+                                               dirNameBikes + SLASH + fileNameDucati);
+        UnzipIt.zip(zipDeflateSolid).dstDir(dstDir).extract(fileNames);
+
+        assertThatDirectory(dstDir).exists().hasOnlyRegularFiles(5);
+        assertThatFile(dstDir.resolve(fileNameBentley)).matches(fileBentleyAssert);
+        assertThatFile(dstDir.resolve(fileNameFerrari)).matches(fileFerrariAssert);
+        assertThatFile(dstDir.resolve(fileNameWiesmann)).matches(fileWiesmannAssert);
+        assertThatFile(dstDir.resolve(fileNameSaintPetersburg)).matches(fileSaintPetersburgAssert);
+        assertThatFile(dstDir.resolve(fileNameDucati)).matches(fileDucatiAssert);
+    }
+
     public void shouldUnzipOneFileIgnorePath() {
         Path dstDir = getTestRoot();
         UnzipIt.zip(zipDeflateSolid).dstDir(dstDir).extract(dirNameCars + '/' + fileNameFerrari);
@@ -72,6 +102,120 @@ public class UnzipItSolidTest extends BaseTest {
         assertThatFile(dstDir.resolve(fileNameFerrari)).matches(fileFerrariAssert);
     }
 
+    public void shouldUnzipAllFilesWhenMemoryMapped() {
+        Path dstDir = getTestRoot();
+        UnzipSettings settings = UnzipSettings.builder().memoryMapped(true).build();
+        UnzipIt.zip(zipDeflateSolid).dstDir(dstDir).settings(settings).extract();
+        assertThatDirectory(dstDir).matches(rootAssert);
+    }
+
+    public void shouldUnzipAllFilesWhenCompactIndex() {
+        Path dstDir = getTestRoot();
+        UnzipSettings settings = UnzipSettings.builder().compactIndex(true).build();
+        UnzipIt.zip(zipDeflateSolid).dstDir(dstDir).settings(settings).extract();
+        assertThatDirectory(dstDir).matches(rootAssert);
+    }
+
+    public void shouldUnzipOneFileWhenCompactIndex() {
+        Path dstDir = getTestRoot();
+        UnzipSettings settings = UnzipSettings.builder().compactIndex(true).build();
+        UnzipIt.zip(zipDeflateSolid).dstDir(dstDir).settings(settings).extract(dirNameCars + '/' + fileNameFerrari);
+
+        assertThatDirectory(dstDir).exists().hasOnlyRegularFiles(1);
+        assertThatFile(dstDir.resolve(fileNameFerrari)).matches(fileFerrariAssert);
+    }
+
+    public void shouldUnzipFolderWhenCompactIndex() {
+        Path dstDir = getTestRoot();
+        UnzipSettings settings = UnzipSettings.builder().compactIndex(true).build();
+        UnzipIt.zip(zipDeflateSolid).dstDir(dstDir).settings(settings).extract(dirNameBikes);
+        assertThatDirectory(dstDir).matches(dirBikesAssert);
+    }
+
+    public void shouldUnzipAllFilesWhenCompactIndexAndMemoryMapped() {
+        Path dstDir = getTestRoot();
+        UnzipSettings settings = UnzipSettings.builder().compactIndex(true).memoryMapped(true).build();
+        UnzipIt.zip(zipDeflateSolid).dstDir(dstDir).settings(settings).extract();
+        assertThatDirectory(dstDir).matches(rootAssert);
+    }
+
+    public void shouldIterateEntriesInSameOrderWhenCompactIndex() {
+        UnzipSettings settings = UnzipSettings.builder().compactIndex(true).build();
+
+        try (ZipFile.Reader expected = UnzipIt.zip(zipDeflateSolid).open();
+             ZipFile.Reader actual = UnzipIt.zip(zipDeflateSolid).settings(settings).open()) {
+            List<String> fileNames = expected.stream().map(ZipFile.Entry::getName).collect(Collectors.toList());
+            assertThat(actual.stream().map(ZipFile.Entry::getName)).isNotEmpty().containsExactlyElementsOf(fileNames);
+        }
+    }
+
+    public void shouldUnzipFolderManyTimesWhenReaderOpened() {
+        Path dstDir = getTestRoot();
+
+        try (ZipFile.Reader reader = UnzipIt.zip(zipDeflateSolid).open()) {
+            reader.extract(dstDir.resolve("one"), dirNameBikes);
+            reader.extract(dstDir.resolve("two"), dirNameBikes + '/');
+            reader.extract(dstDir.resolve("three"), Arrays.asList(dirNameCars + '/' + fileNameFerrari, dirNameBikes));
+        }
+
+        assertThatDirectory(dstDir.resolve("one")).matches(dirBikesAssert);
+        assertThatDirectory(dstDir.resolve("two")).matches(dirBikesAssert);
+        assertThatDirectory(dstDir.resolve("three")).hasOnlyRegularFiles(5);
+        assertThatFile(dstDir.resolve("three").resolve(fileNameFerrari)).matches(fileFerrariAssert);
+    }
+
+    public void shouldUnzipAllFilesWhenReaderOpenedAndFolderUnzipped() {
+        Path dstDir = getTestRoot();
+
+        try (ZipFile.Reader reader = UnzipIt.zip(zipDeflateSolid).open()) {
+            reader.extract(dstDir.resolve("bikes"), dirNameBikes);
+            reader.extract(dstDir.resolve("all"));
+        }
+
+        assertThatDirectory(dstDir.resolve("bikes")).matches(dirBikesAssert);
+        assertThatDirectory(dstDir.resolve("all")).matches(rootAssert);
+    }
+
+    public void shouldUnzipAllFilesWhenPipeline() {
+        Path dstDir = getTestRoot();
+        UnzipSettings settings = UnzipSettings.builder().pipeline(true).pipelineDecompressThreads(2).build();
+        UnzipIt.zip(zipDeflateSolid).dstDir(dstDir).settings(settings).extract();
+        assertThatDirectory(dstDir).matches(rootAssert);
+    }
+
+    public void shouldUnzipAllFilesWhenPipelineAndMemoryMapped() {
+        Path dstDir = getTestRoot();
+        UnzipSettings settings = UnzipSettings.builder().pipeline(true).memoryMapped(true).build();
+        UnzipIt.zip(zipDeflateSolid).dstDir(dstDir).settings(settings).extract();
+        assertThatDirectory(dstDir).matches(rootAssert);
+    }
+
+    public void shouldThrowErrorAsIsWhenPipelineStageFailedWithError() {
+        Path dstDir = getTestRoot();
+        PasswordProvider passwordProvider = new PasswordProvider() {
+            @Override
+            public char[] getFilePassword(String fileName) {
+                throw new AssertionError("oops");
+            }
+
+            @Override
+            public char[] getCentralDirectoryPassword() {
+                return null;
+            }
+        };
+        UnzipSettings settings = UnzipSettings.builder().pipeline(true).passwordProvider(passwordProvider).build();
+
+        assertThatThrownBy(() -> UnzipIt.zip(zipDeflateSolid).dstDir(dstDir).settings(settings).extract())
+                .isExactlyInstanceOf(AssertionError.class).hasMessage("oops");
+    }
+
+    public void shouldUnzipFolderWhenPipeline() {
+        Path dstDir = getTestRoot();
+        UnzipSettings settings = UnzipSettings.builder().pipeline(true).build();
+        UnzipIt.zip(zipDeflateSolid).dstDir(dstDir).settings(settings).extract(dirNameBikes);
+        assertThatDirectory(dstDir).matches(dirBikesAssert);
+    }
+
     public void shouldUnzipFolder() {
         Path dstDir = getTestRoot();
         UnzipIt.zip(zipDeflateSolid).dstDir(dstDir).extract(dirNameBikes);
@@ -122,4 +266,57 @@ public class UnzipItSolidTest extends BaseTest {
         assertThatFile(zip.getParent().resolve(fileNameSigSauer)).exists();
     }
 
+    public void shouldUnzipAllFilesWhenCommentHasMaxSize() throws IOException {
+        Path zip = getTestRoot().resolve("src.zip");
+        Path dstDir = getTestRoot().resolve("unzip");
+        String comment = StringUtils.repeat("_", ZipModel.MAX_COMMENT_SIZE);
+        Files.copy(zipDeflateSolid, zip);
+        ZipMisc.zip(zip).setComment(comment);
+
+        UnzipIt.zip(zip).dstDir(dstDir).extract();
+
+        assertThatDirectory(dstDir).matches(rootAssert);
+        assertThat(ZipMisc.zip(zip).getComment()).isEqualTo(comment);
+    }
+
+    public void shouldUnzipAllFilesWhenCommentContainsEndCentralDirectorySignature() throws IOException {
+        Path zip = getTestRoot().resolve("src.zip");
+        Path dstDir = getTestRoot().resolve("unzip");
+        String comment = "PK__" + StringUtils.repeat("_", 40);
+        Files.copy(zipDeflateSolid, zip);
+        ZipMisc.zip(zip).setComment(comment);
+
+        // comment is the last part of the zip file; put the signature to its beginning
+        byte[] buf = Files.readAllBytes(zip);
+        buf[buf.length - comment.length() + 2] = 0x5;
+        buf[buf.length - comment.length() + 3] = 0x6;
+        Files.write(zip, buf);
+
+        UnzipIt.zip(zip).dstDir(dstDir).extract();
+
+        assertThatDirectory(dstDir).matches(rootAssert);
+    }
+
+    public void shouldUnzipAllFilesWhenDataAfterEndCentralDirectory() throws IOException {
+        Path zip = getTestRoot().resolve("src.zip");
+        Path dstDir = getTestRoot().resolve("unzip");
+        Files.copy(zipDeflateSolid, zip);
+        Files.write(zip, new byte[16], StandardOpenOption.APPEND);
+
+        UnzipIt.zip(zip).dstDir(dstDir).extract();
+
+        assertThatDirectory(dstDir).matches(rootAssert);
+    }
+
+    public void shouldThrowExceptionWhenEndCentralDirectoryNotFound() throws IOException {
+        Path zip = Files.write(getTestRoot().resolve("src.zip"), new byte[100]);
+        Path smallZip = Files.write(getTestRoot().resolve("small.zip"), new byte[10]);
+        Path dstDir = getTestRoot().resolve("unzip");
+
+        assertThatThrownBy(() -> UnzipIt.zip(zip).dstDir(dstDir).extract())
+                .isExactlyInstanceOf(SignatureNotFoundException.class);
+        assertThatThrownBy(() -> UnzipIt.zip(smallZip).dstDir(dstDir).extract())
+                .isExactlyInstanceOf(SignatureNotFoundException.class);
+    }
+
 }
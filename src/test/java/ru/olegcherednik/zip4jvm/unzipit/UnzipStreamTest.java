@@ -18,11 +18,24 @@ package ru.olegcherednik.zip4jvm.unzipit;
 
 import ru.olegcherednik.zip4jvm.BaseTest;
 import ru.olegcherednik.zip4jvm.UnzipIt;
+import ru.olegcherednik.zip4jvm.UnzipStream;
+import ru.olegcherednik.zip4jvm.ZipFile;
+import ru.olegcherednik.zip4jvm.ZipStream;
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
+import ru.olegcherednik.zip4jvm.model.settings.CompressionEnum;
+import ru.olegcherednik.zip4jvm.model.settings.ZipEntrySettings;
+import ru.olegcherednik.zip4jvm.model.settings.ZipSettings;
 
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static ru.olegcherednik.zip4jvm.TestData.dirCars;
+import static ru.olegcherednik.zip4jvm.TestData.dirNameCars;
 import static ru.olegcherednik.zip4jvm.TestData.dirSrcData;
 import static ru.olegcherednik.zip4jvm.TestData.fileBentley;
 import static ru.olegcherednik.zip4jvm.TestData.fileFerrari;
@@ -31,11 +44,15 @@ import static ru.olegcherednik.zip4jvm.TestData.fileWiesmann;
 import static ru.olegcherednik.zip4jvm.TestData.zipDeflateSolid;
 import static ru.olegcherednik.zip4jvm.TestData.zipDeflateSolidPkware;
 import static ru.olegcherednik.zip4jvm.TestData.zipDeflateSplit;
+import static ru.olegcherednik.zip4jvm.TestData.zipStoreSolid;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.copyLarge;
+import static ru.olegcherednik.zip4jvm.TestDataAssert.dirCarsAssert;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.fileBentleyAssert;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.fileFerrariAssert;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.fileWiesmannAssert;
+import static ru.olegcherednik.zip4jvm.TestDataAssert.rootAssert;
 import static ru.olegcherednik.zip4jvm.Zip4jvmSuite.password;
+import static ru.olegcherednik.zip4jvm.assertj.Zip4jvmAssertions.assertThatDirectory;
 import static ru.olegcherednik.zip4jvm.assertj.Zip4jvmAssertions.assertThatFile;
 
 /**
@@ -65,4 +82,86 @@ public class UnzipStreamTest extends BaseTest {
         assertThatFile(actual).matches(fileWiesmannAssert);
     }
 
+    public void shouldUnzipAllFilesWhenReadZipFromInputStream() throws IOException {
+        Path dstDir = getTestRoot();
+
+        try (UnzipStream unzip = UnzipStream.of(Files.newInputStream(zipDeflateSolid))) {
+            unzip.extract(dstDir);
+        }
+
+        assertThatDirectory(dstDir).matches(rootAssert);
+    }
+
+    public void shouldUnzipAllFilesWhenReadStoreZipFromInputStream() throws IOException {
+        Path dstDir = getTestRoot();
+
+        try (UnzipStream unzip = UnzipStream.of(Files.newInputStream(zipStoreSolid))) {
+            unzip.extract(dstDir);
+        }
+
+        assertThatDirectory(dstDir).matches(rootAssert);
+    }
+
+    public void shouldRetrieveEntryWhenReadZipFromInputStream() throws IOException {
+        Path actual = resolve(fileNameBentley);
+        String fileName = dirSrcData.relativize(fileBentley).toString().replace('\\', '/');
+
+        try (UnzipStream unzip = UnzipStream.of(Files.newInputStream(zipDeflateSolid))) {
+            for (ZipFile.Entry entry = unzip.nextEntry(); entry != null; entry = unzip.nextEntry())
+                if (fileName.equals(entry.getName()))
+                    copyLarge(entry.getInputStream(), actual);
+        }
+
+        assertThatFile(actual).matches(fileBentleyAssert);
+    }
+
+    public void shouldUnzipAllFilesWhenDataDescriptorAndSizeUnknown() throws IOException {
+        Path zip = getTestRoot().resolve("src.zip");
+        Path dstDir = Files.createDirectories(getTestRoot().resolve("unzip"));
+        createZipWithDataDescriptor(zip, ZipEntrySettings.of(CompressionEnum.DEFLATE));
+
+        try (UnzipStream unzip = UnzipStream.of(Files.newInputStream(zip))) {
+            unzip.extract(dstDir);
+        }
+
+        assertThatDirectory(dstDir).exists().hasEntries(2).hasDirectories(1).hasRegularFiles(1)
+                                   .withRegularFile(fileNameBentley, fileBentleyAssert)
+                                   .withDirectory(dirNameCars, dirCarsAssert);
+    }
+
+    public void shouldSkipNotReadEntriesWhenDataDescriptorAndSizeUnknown() throws IOException {
+        Path zip = getTestRoot().resolve("src.zip");
+        Path actual = getTestRoot().resolve(fileNameBentley);
+        createZipWithDataDescriptor(zip, ZipEntrySettings.of(CompressionEnum.DEFLATE));
+
+        try (UnzipStream unzip = UnzipStream.of(Files.newInputStream(zip))) {
+            for (ZipFile.Entry entry = unzip.nextEntry(); entry != null; entry = unzip.nextEntry())
+                if (fileNameBentley.equals(entry.getName()))
+                    copyLarge(entry.getInputStream(), actual);
+        }
+
+        assertThatFile(actual).matches(fileBentleyAssert);
+    }
+
+    public void shouldThrowExceptionWhenDataDescriptorAndSizeUnknownAndStore() throws IOException {
+        Path zip = getTestRoot().resolve("src.zip");
+        createZipWithDataDescriptor(zip, ZipEntrySettings.of(CompressionEnum.STORE));
+
+        try (UnzipStream unzip = UnzipStream.of(Files.newInputStream(zip))) {
+            assertThatThrownBy(unzip::nextEntry).isExactlyInstanceOf(Zip4jvmException.class)
+                                                .hasMessageContaining("Entry size is unknown");
+        }
+    }
+
+    private static void createZipWithDataDescriptor(Path zip, ZipEntrySettings entrySettings) throws IOException {
+        ZipSettings settings = ZipSettings.builder().entrySettings(entrySettings).build();
+
+        // entries of the zip stream always have data descriptor
+        try (OutputStream out = Files.newOutputStream(zip);
+             ZipStream zipStream = ZipStream.of(out, settings)) {
+            zipStream.add(fileBentley);
+            zipStream.add(dirCars);
+        }
+    }
+
 }
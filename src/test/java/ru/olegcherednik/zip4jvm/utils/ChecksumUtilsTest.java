@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Oleg Cherednik (oleg.cherednik@gmail.com)
+ *
+ * Licensed under The Apache Software License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package ru.olegcherednik.zip4jvm.utils;
+
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Oleg Cherednik
+ * @since 18.10.2026
+ */
+@Test
+public class ChecksumUtilsTest {
+
+    public void shouldRetrieveCrc32OfWholeBufferWhenCombineCrc32OfItsParts() {
+        byte[] buf = new byte[100_000];
+        new Random(42).nextBytes(buf);
+
+        for (int len1 : new int[] { 0, 1, 7, 4096, 65_537, buf.length }) {
+            long crc1 = crc32(buf, 0, len1);
+            long crc2 = crc32(buf, len1, buf.length - len1);
+            long expected = crc32(buf, 0, buf.length);
+
+            assertThat(ChecksumUtils.crc32Combine(crc1, crc2, buf.length - len1)).isEqualTo(expected);
+        }
+    }
+
+    public void shouldRetrieveFirstCrc32WhenCombineWithEmptyBlock() {
+        assertThat(ChecksumUtils.crc32Combine(0x1234_5678L, 0, 0)).isEqualTo(0x1234_5678L);
+    }
+
+    public void shouldUpdateChecksumWithRemainingBytesWhenByteBuffer() {
+        byte[] buf = new byte[100_000];
+        new Random(42).nextBytes(buf);
+        long expected = crc32(buf, 10, buf.length - 10);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(buf.length);
+        direct.put(buf).position(10);
+
+        for (ByteBuffer bb : new ByteBuffer[] { (ByteBuffer) ByteBuffer.wrap(buf).position(10), direct }) {
+            for (Checksum checksum : new Checksum[] { new CRC32(), new CrcDelegate() }) {
+                ChecksumUtils.update(checksum, bb);
+                assertThat(checksum.getValue()).isEqualTo(expected);
+                assertThat(bb.position()).isEqualTo(10);
+            }
+        }
+    }
+
+    public void shouldUseJdkCrc32WhenDefaultEngine() {
+        byte[] buf = { 1, 2, 3 };
+
+        assertThat(ChecksumUtils.createCrc32()).isExactlyInstanceOf(CRC32.class);
+        assertThat(ChecksumUtils.crc32(buf, 0, buf.length)).isEqualTo(crc32(buf, 0, buf.length));
+    }
+
+    private static long crc32(byte[] buf, int offs, int len) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(buf, offs, len);
+        return crc32.getValue();
+    }
+
+    private static final class CrcDelegate implements Checksum {
+
+        private final CRC32 crc32 = new CRC32();
+
+        @Override
+        public void update(int b) {
+            crc32.update(b);
+        }
+
+        @Override
+        public void update(byte[] buf, int offs, int len) {
+            crc32.update(buf, offs, len);
+        }
+
+        @Override
+        public long getValue() {
+            return crc32.getValue();
+        }
+
+        @Override
+        public void reset() {
+            crc32.reset();
+        }
+
+    }
+
+}
@@ -17,19 +17,30 @@
 package ru.olegcherednik.zip4jvm.zipit;
 
 import ru.olegcherednik.zip4jvm.BaseTest;
+import ru.olegcherednik.zip4jvm.UnzipStream;
 import ru.olegcherednik.zip4jvm.ZipIt;
+import ru.olegcherednik.zip4jvm.ZipStream;
+import ru.olegcherednik.zip4jvm.exception.Zip4jvmException;
 import ru.olegcherednik.zip4jvm.model.settings.CompressionEnum;
 import ru.olegcherednik.zip4jvm.model.settings.ZipEntrySettings;
 import ru.olegcherednik.zip4jvm.model.settings.ZipEntrySettingsProvider;
 import ru.olegcherednik.zip4jvm.model.settings.ZipSettings;
+import ru.olegcherednik.zip4jvm.utils.ByteArrayUtils;
 import ru.olegcherednik.zip4jvm.utils.ReflectionUtils;
+import ru.olegcherednik.zip4jvm.utils.function.InputStreamSupplier;
 
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static ru.olegcherednik.zip4jvm.TestData.dirBikes;
 import static ru.olegcherednik.zip4jvm.TestData.dirCars;
 import static ru.olegcherednik.zip4jvm.TestData.dirNameBikes;
@@ -51,6 +62,7 @@ import static ru.olegcherednik.zip4jvm.TestDataAssert.fileFerrariAssert;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.fileHondaAssert;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.fileSaintPetersburgAssert;
 import static ru.olegcherednik.zip4jvm.TestDataAssert.fileWiesmannAssert;
+import static ru.olegcherednik.zip4jvm.assertj.Zip4jvmAssertions.assertThatDirectory;
 import static ru.olegcherednik.zip4jvm.assertj.Zip4jvmAssertions.assertThatZipFile;
 
 /**
@@ -83,6 +95,129 @@ public class ZipItTest extends BaseTest {
                 .withDirectory(dirNameCars, dirCarsAssert);
     }
 
+    public void shouldThrowErrorAsIsWhenAsyncEntryFailedWithError() {
+        ZipSettings settings = ZipSettings.builder().asyncThreads(2).build();
+        InputStreamSupplier inputStreamSupplier = new InputStreamSupplier() {
+            @Override
+            public long getSize() {
+                return 1;
+            }
+
+            @Override
+            public InputStream get() {
+                throw new AssertionError("oops");
+            }
+        };
+
+        assertThatThrownBy(() -> ZipIt.zip(getZip()).settings(settings).add(inputStreamSupplier, "foo.txt"))
+                .isExactlyInstanceOf(AssertionError.class).hasMessage("oops");
+    }
+
+    public void shouldCreateSameZipWhenAddDirectoryAsync() throws IOException {
+        Path zip = getZip();
+        Path zipAsync = getTestRoot().resolve("async").resolve(zip.getFileName());
+        ZipEntrySettings entrySettings = ZipEntrySettings.of(CompressionEnum.DEFLATE);
+
+        ZipIt.zip(zip).settings(ZipSettings.builder().entrySettings(entrySettings).build()).add(dirCars);
+        ZipSettings settingsAsync = ZipSettings.builder()
+                                               .entrySettings(entrySettings)
+                                               .asyncThreads(ZipSettings.ASYNC_THREADS_AUTO)
+                                               .build();
+        ZipIt.zip(zipAsync).settings(settingsAsync).add(dirCars);
+
+        assertThatZipFile(zipAsync)
+                .isSolid().root().hasOnlyDirectories(1)
+                .withDirectory(dirNameCars, dirCarsAssert);
+        assertThat(Files.readAllBytes(zipAsync)).isEqualTo(Files.readAllBytes(zip));
+    }
+
+    public void shouldCreateZipWhenWriteToOutputStream() throws IOException {
+        Path zip = getZip();
+        Files.createDirectories(zip.getParent());
+
+        try (OutputStream out = Files.newOutputStream(zip);
+             ZipStream zipStream = ZipStream.of(out)) {
+            zipStream.add(dirCars);
+            zipStream.add(fileBentley);
+        }
+
+        assertThatZipFile(zip)
+                .isSolid().root().hasOnlyDirectoriesRegularFiles(1, 1)
+                .withRegularFile(fileNameBentley, fileBentleyAssert)
+                .withDirectory(dirNameCars, dirCarsAssert);
+    }
+
+    public void shouldUnzipFromInputStreamWhenZip64AndWriteToOutputStream() throws IOException {
+        Path zip = getZip();
+        Path dstDir = Files.createDirectories(getTestRoot().resolve("unzip"));
+        Files.createDirectories(zip.getParent());
+        ZipEntrySettings entrySettings = ZipEntrySettings.builder().zip64(true).build();
+        ZipSettings settings = ZipSettings.builder().entrySettings(entrySettings).build();
+
+        try (OutputStream out = Files.newOutputStream(zip);
+             ZipStream zipStream = ZipStream.of(out, settings)) {
+            zipStream.add(dirCars);
+            zipStream.add(fileBentley);
+        }
+
+        // data descriptors are 8 bytes long, it is marked in the local file headers
+        try (UnzipStream unzip = UnzipStream.of(Files.newInputStream(zip))) {
+            unzip.extract(dstDir);
+        }
+
+        assertThatDirectory(dstDir).exists().hasEntries(2).hasDirectories(1).hasRegularFiles(1)
+                                   .withRegularFile(fileNameBentley, fileBentleyAssert)
+                                   .withDirectory(dirNameCars, dirCarsAssert);
+    }
+
+    public void shouldThrowIllegalArgumentExceptionWhenZipStreamArgumentIsNull() {
+        InputStreamSupplier inputStreamSupplier = ByteArrayUtils.newInputStreamSupplier(new byte[] { 1 });
+
+        try (ZipStream zipStream = ZipStream.of(new ByteArrayOutputStream())) {
+            assertThatThrownBy(() -> zipStream.add((Path) null, fileNameBentley))
+                    .isExactlyInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> zipStream.add(fileBentley, null))
+                    .isExactlyInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> zipStream.add((InputStreamSupplier) null, fileNameBentley))
+                    .isExactlyInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> zipStream.add(inputStreamSupplier, null))
+                    .isExactlyInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> zipStream.add("oops", null))
+                    .isExactlyInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> zipStream.add(new byte[] { 1 }, null))
+                    .isExactlyInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    public void shouldThrowExceptionWhenCloseZipStreamAfterFailure() throws IOException {
+        Path zip = getZip();
+        Files.createDirectories(zip.getParent());
+        InputStreamSupplier inputStreamSupplier = new InputStreamSupplier() {
+            @Override
+            public long getSize() {
+                return 1;
+            }
+
+            @Override
+            public InputStream get() {
+                throw new AssertionError("oops");
+            }
+        };
+
+        try (OutputStream out = Files.newOutputStream(zip)) {
+            ZipStream zipStream = ZipStream.of(out);
+            zipStream.add(fileBentley);
+
+            assertThatThrownBy(() -> zipStream.add(inputStreamSupplier, "foo.txt"))
+                    .isExactlyInstanceOf(AssertionError.class).hasMessage("oops");
+            assertThatThrownBy(() -> zipStream.add(fileFerrari))
+                    .isExactlyInstanceOf(Zip4jvmException.class);
+            assertThatThrownBy(zipStream::close)
+                    .isExactlyInstanceOf(Zip4jvmException.class)
+                    .hasMessageContaining("central directory is not written");
+        }
+    }
+
     @Test(dependsOnMethods = "shouldCreateZipWhenAddRegularFileDefaultSettings")
     public void shouldAddRegularFileWhenZipExistsDefaultSettings() {
         ZipIt.zip(defSingleZip).add(fileSaintPetersburg);
@@ -104,6 +239,51 @@ public class ZipItTest extends BaseTest {
                 .withDirectory(dirNameCars, dirCarsAssert);
     }
 
+    public void shouldAppendRegularFileInPlaceWhenZipExistsAndAppendInPlace() throws IOException {
+        Path zip = getZip();
+        ZipSettings settings = ZipSettings.builder().appendInPlace(true).build();
+
+        ZipIt.zip(zip).add(fileBentley);
+        byte[] buf = Files.readAllBytes(zip);
+
+        ZipIt.zip(zip).settings(settings).add(fileSaintPetersburg);
+
+        assertThat(zip.resolveSibling(zip.getFileName() + ".journal")).doesNotExist();
+        assertThat(Arrays.copyOf(Files.readAllBytes(zip), 100)).isEqualTo(Arrays.copyOf(buf, 100));
+        assertThatZipFile(zip)
+                .isSolid().root().hasOnlyRegularFiles(2)
+                .withRegularFile(fileNameBentley, fileBentleyAssert)
+                .withRegularFile(fileNameSaintPetersburg, fileSaintPetersburgAssert);
+    }
+
+    public void shouldRestoreZipWhenAppendInPlaceFailed() throws IOException {
+        Path zip = getZip();
+        ZipSettings settings = ZipSettings.builder().appendInPlace(true).build();
+        InputStreamSupplier inputStreamSupplier = new InputStreamSupplier() {
+            @Override
+            public long getSize() {
+                return 1;
+            }
+
+            @Override
+            public InputStream get() {
+                throw new AssertionError("oops");
+            }
+        };
+
+        ZipIt.zip(zip).add(fileBentley);
+        byte[] buf = Files.readAllBytes(zip);
+
+        assertThatThrownBy(() -> ZipIt.zip(zip).settings(settings).add(inputStreamSupplier, "foo.txt"))
+                .isExactlyInstanceOf(AssertionError.class).hasMessage("oops");
+
+        assertThat(zip.resolveSibling(zip.getFileName() + ".journal")).doesNotExist();
+        assertThat(Files.readAllBytes(zip)).isEqualTo(buf);
+        assertThatZipFile(zip)
+                .isSolid().root().hasOnlyRegularFiles(1)
+                .withRegularFile(fileNameBentley, fileBentleyAssert);
+    }
+
     public void shouldCreateZipWhenAddRegularFilesAndDirectoriesAndDefaultSettings() {
         ZipIt.zip(defMultiZip).add(Arrays.asList(fileHonda, dirCars));
 